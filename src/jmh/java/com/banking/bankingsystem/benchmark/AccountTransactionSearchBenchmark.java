@@ -0,0 +1,113 @@
+package com.banking.bankingsystem.benchmark;
+
+import com.banking.bankingsystem.account.data.Account;
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.common.dto.CursorPageDto;
+import com.banking.bankingsystem.transaction.data.AccountTransaction;
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionSearchRequest;
+import com.banking.bankingsystem.transaction.repository.AccountTransactionRepository;
+import com.banking.bankingsystem.transaction.service.AccountTransactionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arama predicate'inin oluşturulmasını ve sorgunun çalıştırılmasını sayfa, slice ve imleç varyantları ile hesabın tüm
+ * hareket geçmişi için ölçer. Tabloya {@code rows} adet işlem eklenir; bunların yarısı para yatırmadır. Ayırma farkı için
+ * {@code -prof gc} ile çalıştırılır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountTransactionSearchBenchmark {
+
+	@Param({ "10000" })
+	private int rows;
+
+	private ConfigurableApplicationContext context;
+
+	private AccountTransactionService accountTransactionService;
+
+	private AccountTransactionSearchRequest request;
+
+	private UUID accountId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkApplication.start();
+		accountTransactionService = context.getBean(AccountTransactionService.class);
+
+		final Account account = new Account();
+		account.setIdentityNo(BigDecimal.valueOf(10000000003L));
+		account.setFirstName("Benchmark");
+		account.setLastName("User");
+		account.setAccountType(AccountType.TL);
+		final Account saved = context.getBean(AccountRepository.class).save(account);
+		accountId = saved.getId();
+
+		final LocalDateTime now = LocalDateTime.now();
+		final List<AccountTransaction> transactions = new ArrayList<>(rows);
+		for (int i = 0; i < rows; i++) {
+			final AccountTransaction transaction = new AccountTransaction();
+			transaction.setAccount(saved);
+			transaction.setTransactionDate(now.minusMinutes(i));
+			transaction.setTransactionType(i % 2 == 0 ? TransactionType.DEPOSIT : TransactionType.WITHDRAW);
+			transaction.setAmount(BigDecimal.valueOf(100 + i % 1000));
+			transactions.add(transaction);
+		}
+		context.getBean(AccountTransactionRepository.class).saveAll(transactions);
+
+		request = new AccountTransactionSearchRequest();
+		request.setAccountId(saved.getId());
+		request.setFromDate(now.minusDays(30));
+		request.setToDate(now);
+		request.setTransactionType(TransactionType.DEPOSIT);
+		request.setMinAmount(BigDecimal.valueOf(200));
+		request.setMaxAmount(BigDecimal.valueOf(900));
+		request.setSize(50);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Page<AccountTransactionDto> searchPage() {
+		return accountTransactionService.searchTransactions(request);
+	}
+
+	@Benchmark
+	public Slice<AccountTransactionDto> searchSlice() {
+		return accountTransactionService.searchTransactionSlice(request);
+	}
+
+	@Benchmark
+	public CursorPageDto<AccountTransactionDto> searchCursor() {
+		return accountTransactionService.searchTransactionsByCursor(request);
+	}
+
+	@Benchmark
+	public List<AccountTransactionDto> history() {
+		return accountTransactionService.getTransactionsByAccountId(accountId);
+	}
+}
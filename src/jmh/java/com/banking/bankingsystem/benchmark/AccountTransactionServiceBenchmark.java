@@ -0,0 +1,80 @@
+package com.banking.bankingsystem.benchmark;
+
+import com.banking.bankingsystem.account.data.Account;
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.banking.bankingsystem.transaction.dto.TransactionRequestDto;
+import com.banking.bankingsystem.transaction.service.AccountTransactionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AccountTransactionService#deposit} ve {@link AccountTransactionService#withdraw} çağrılarını H2 üzerinde ölçer.
+ * Para yatırma ve çekme ayrı hesaplarda yapılır, böylece ölçüm boyunca bakiye sınırlarına ulaşılmaz.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountTransactionServiceBenchmark {
+
+	private ConfigurableApplicationContext context;
+
+	private AccountTransactionService accountTransactionService;
+
+	private UUID depositAccountId;
+
+	private UUID withdrawAccountId;
+
+	private TransactionRequestDto request;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkApplication.start();
+		accountTransactionService = context.getBean(AccountTransactionService.class);
+
+		final AccountRepository accountRepository = context.getBean(AccountRepository.class);
+		depositAccountId = accountRepository.save(account(10000000001L, BigDecimal.ZERO)).getId();
+		withdrawAccountId = accountRepository.save(account(10000000002L, BigDecimal.valueOf(9_000_000))).getId();
+
+		request = new TransactionRequestDto();
+		request.setAmount(new BigDecimal("0.01"));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public AccountTransactionDto deposit() {
+		return accountTransactionService.deposit(depositAccountId, request);
+	}
+
+	@Benchmark
+	public AccountTransactionDto withdraw() {
+		return accountTransactionService.withdraw(withdrawAccountId, request);
+	}
+
+	private static Account account(long identityNo, BigDecimal balance) {
+		final Account account = new Account();
+		account.setIdentityNo(BigDecimal.valueOf(identityNo));
+		account.setFirstName("Benchmark");
+		account.setLastName("User");
+		account.setAccountType(AccountType.TL);
+		account.setBalance(balance);
+		return account;
+	}
+}
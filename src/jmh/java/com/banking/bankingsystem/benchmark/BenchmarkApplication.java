@@ -0,0 +1,28 @@
+package com.banking.bankingsystem.benchmark;
+
+import com.banking.bankingsystem.BankingsystemApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Benchmark'lar için uygulamayı web katmanı olmadan, test profilindeki H2 veritabanı ile başlatır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+final class BenchmarkApplication {
+
+	private BenchmarkApplication() {
+	}
+
+	static ConfigurableApplicationContext start() {
+		return new SpringApplicationBuilder(BankingsystemApplication.class)
+				.web(WebApplicationType.NONE)
+				.profiles("test")
+				.properties("logging.level.root=WARN", "spring.main.banner-mode=off")
+				.run();
+	}
+}
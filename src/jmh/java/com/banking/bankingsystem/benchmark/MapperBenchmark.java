@@ -0,0 +1,83 @@
+package com.banking.bankingsystem.benchmark;
+
+import com.banking.bankingsystem.account.data.Account;
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.dto.AccountDto;
+import com.banking.bankingsystem.account.mapper.AccountMapper;
+import com.banking.bankingsystem.transaction.data.AccountTransaction;
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.banking.bankingsystem.transaction.mapper.AccountTransactionMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AccountMapper} ve {@link AccountTransactionMapper} dönüşümlerini tekil nesne ve {@code size} elemanlı liste için
+ * ölçer.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+	@Param({ "50", "1000" })
+	private int size;
+
+	private Account account;
+
+	private AccountTransaction accountTransaction;
+
+	private List<AccountTransaction> accountTransactions;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		account = new Account();
+		account.setId(UUID.randomUUID());
+		account.setIdentityNo(BigDecimal.valueOf(12345678901L));
+		account.setFirstName("Benchmark");
+		account.setLastName("User");
+		account.setAccountType(AccountType.TL);
+		account.setBalance(BigDecimal.valueOf(5000));
+
+		accountTransactions = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			final AccountTransaction transaction = new AccountTransaction();
+			transaction.setId(UUID.randomUUID());
+			transaction.setAccount(account);
+			transaction.setTransactionDate(LocalDateTime.now());
+			transaction.setTransactionType(TransactionType.DEPOSIT);
+			transaction.setAmount(BigDecimal.valueOf(100 + i));
+			accountTransactions.add(transaction);
+		}
+		accountTransaction = accountTransactions.getFirst();
+	}
+
+	@Benchmark
+	public AccountDto accountToAccountDto() {
+		return AccountMapper.INSTANCE.accountToAccountDto(account);
+	}
+
+	@Benchmark
+	public AccountTransactionDto accountTransactionToAccountTransactionDto() {
+		return AccountTransactionMapper.INSTANCE.accountTransactionToAccountTransactionDto(accountTransaction);
+	}
+
+	@Benchmark
+	public List<AccountTransactionDto> accountTransactionsToAccountTransactionDtoList() {
+		return AccountTransactionMapper.INSTANCE.accountTransactionsToAccountTransactionDtoList(accountTransactions);
+	}
+}
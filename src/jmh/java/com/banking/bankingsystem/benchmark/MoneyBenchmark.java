@@ -0,0 +1,95 @@
+package com.banking.bankingsystem.benchmark;
+
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.common.money.Money;
+import com.banking.bankingsystem.transaction.ledger.LedgerBalance;
+import com.banking.bankingsystem.transaction.service.AccountTransactionService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ledger shard'ının bir para yatırma için yaptığı bakiye okuma, toplama, üst limit kontrolü ve yazma adımlarını
+ * {@link BigDecimal}, değişmez {@link Money} ve shard'ın kullandığı yerinde güncellenen {@link LedgerBalance} bakiyeleri için
+ * karşılaştırır. İşlem başına ayrılan bellek {@code -prof gc} ile görülür:
+ * mvn -P benchmarks verify -DskipTests -Djmh.args="MoneyBenchmark -prof gc"
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+	@Param({ "1024" })
+	private int accounts;
+
+	private UUID[] accountIds;
+
+	private Map<UUID, BigDecimal> decimalBalances;
+
+	private Map<UUID, Money> moneyBalances;
+
+	private Map<UUID, LedgerBalance> ledgerBalances;
+
+	private BigDecimal amount;
+
+	private long amountMinorUnits;
+
+	private int next;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		accountIds = new UUID[accounts];
+		decimalBalances = new HashMap<>();
+		moneyBalances = new HashMap<>();
+		ledgerBalances = new HashMap<>();
+		for (int i = 0; i < accounts; i++) {
+			accountIds[i] = UUID.randomUUID();
+			decimalBalances.put(accountIds[i], new BigDecimal("1000.00"));
+			moneyBalances.put(accountIds[i], Money.of(new BigDecimal("1000.00"), AccountType.TL));
+			ledgerBalances.put(accountIds[i], new LedgerBalance(moneyBalances.get(accountIds[i])));
+		}
+		amount = new BigDecimal("0.01");
+		amountMinorUnits = Money.toMinorUnits(amount);
+	}
+
+	@Benchmark
+	public boolean bigDecimalDeposit() {
+		final UUID accountId = accountIds[next++ & (accounts - 1)];
+		final BigDecimal newBalance = decimalBalances.get(accountId).add(amount);
+		if (newBalance.compareTo(AccountTransactionService.MAX_ACCOUNT_BALANCE) > 0) {
+			return false;
+		}
+		decimalBalances.put(accountId, newBalance);
+		return true;
+	}
+
+	@Benchmark
+	public boolean moneyDeposit() {
+		final UUID accountId = accountIds[next++ & (accounts - 1)];
+		final Money current = moneyBalances.get(accountId);
+		final Money newBalance = current.plus(new Money(amountMinorUnits, current.currency()));
+		if (newBalance.minorUnits() > AccountTransactionService.MAX_ACCOUNT_BALANCE_MINOR_UNITS) {
+			return false;
+		}
+		moneyBalances.put(accountId, newBalance);
+		return true;
+	}
+
+	@Benchmark
+	public boolean ledgerBalanceDeposit() {
+		final UUID accountId = accountIds[next++ & (accounts - 1)];
+		return ledgerBalances.get(accountId).deposit(amountMinorUnits);
+	}
+}
@@ -0,0 +1,99 @@
+package com.banking.bankingsystem.benchmark;
+
+import com.banking.bankingsystem.common.dto.CursorPageDto;
+import com.banking.bankingsystem.transaction.binary.TransactionBinaryCodec;
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controller'ın döndüğü {@link Page} ve {@link CursorPageDto} yanıtlarının JSON ve {@link TransactionBinaryCodec} ile
+ * serileştirilmesini karşılaştırır. Her iki biçimin bayt cinsinden boyutu deneme başında yazdırılır, işlem başına ayrılan
+ * bellek {@code -prof gc} ile görülür:
+ * mvn -P benchmarks verify -DskipTests -Djmh.args="TransactionBinaryBenchmark -prof gc"
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionBinaryBenchmark {
+
+	@Param({ "50", "1000" })
+	private int size;
+
+	private ObjectMapper objectMapper;
+
+	private Page<AccountTransactionDto> page;
+
+	private CursorPageDto<AccountTransactionDto> cursorPage;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+		final UUID accountId = UUID.randomUUID();
+		final List<AccountTransactionDto> content = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			final AccountTransactionDto dto = new AccountTransactionDto();
+			dto.setId(UUID.randomUUID());
+			dto.setAccountId(accountId);
+			dto.setTransactionDate(LocalDateTime.now().minusMinutes(i));
+			dto.setTransactionType(TransactionType.DEPOSIT);
+			dto.setAmount(BigDecimal.valueOf(10_000 + i, 2));
+			content.add(dto);
+		}
+
+		page = new PageImpl<>(content, PageRequest.of(0, size), size * 10L);
+		cursorPage = new CursorPageDto<>(content, "MjAyNS0wMS0wMVQxODozMDowMHxmNWRjMjhlMS02MmFkLTQ3YjQtYmMxOC1jOWEzN2M4MmQ0Mjk");
+
+		System.out.printf("%nsize=%d page json=%d bytes, binary=%d bytes; cursor page json=%d bytes, binary=%d bytes%n", size,
+						  jsonPage().length, binaryPage().length, jsonCursorPage().length, binaryCursorPage().length);
+	}
+
+	@Benchmark
+	public byte[] jsonPage() throws IOException {
+		return objectMapper.writeValueAsBytes(page);
+	}
+
+	@Benchmark
+	public byte[] binaryPage() throws IOException {
+		return writeBinary(page);
+	}
+
+	@Benchmark
+	public byte[] jsonCursorPage() throws IOException {
+		return objectMapper.writeValueAsBytes(cursorPage);
+	}
+
+	@Benchmark
+	public byte[] binaryCursorPage() throws IOException {
+		return writeBinary(cursorPage);
+	}
+
+	private static byte[] writeBinary(Object value) throws IOException {
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		TransactionBinaryCodec.write(value, outputStream);
+		return outputStream.toByteArray();
+	}
+}
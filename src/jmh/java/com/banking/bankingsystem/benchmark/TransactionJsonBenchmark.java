@@ -0,0 +1,76 @@
+package com.banking.bankingsystem.benchmark;
+
+import com.banking.bankingsystem.common.dto.CursorPageDto;
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AccountTransactionDto} sayfalarının JSON serileştirmesini ölçer. ObjectMapper, Spring Boot varsayılanlarıyla aynı
+ * şekilde {@link Jackson2ObjectMapperBuilder} ile oluşturulur.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionJsonBenchmark {
+
+	@Param({ "50", "1000" })
+	private int size;
+
+	private ObjectMapper objectMapper;
+
+	private PagedModel<AccountTransactionDto> page;
+
+	private CursorPageDto<AccountTransactionDto> cursorPage;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+		final UUID accountId = UUID.randomUUID();
+		final List<AccountTransactionDto> content = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			final AccountTransactionDto dto = new AccountTransactionDto();
+			dto.setId(UUID.randomUUID());
+			dto.setAccountId(accountId);
+			dto.setTransactionDate(LocalDateTime.now().minusMinutes(i));
+			dto.setTransactionType(TransactionType.DEPOSIT);
+			dto.setAmount(BigDecimal.valueOf(10_000 + i, 2));
+			content.add(dto);
+		}
+
+		page = new PagedModel<>(new PageImpl<>(content, PageRequest.of(0, size), size * 10L));
+		cursorPage = new CursorPageDto<>(content, "cursor");
+	}
+
+	@Benchmark
+	public byte[] serializePage() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(page);
+	}
+
+	@Benchmark
+	public byte[] serializeCursorPage() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(cursorPage);
+	}
+}
@@ -0,0 +1,90 @@
+package com.banking.bankingsystem.benchmark;
+
+import com.banking.bankingsystem.account.data.Account;
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.transaction.dto.TransferRequestDto;
+import com.banking.bankingsystem.transaction.dto.TransferResultDto;
+import com.banking.bankingsystem.transaction.service.AccountTransactionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AccountTransactionService#transfer} çağrısını aynı iki hesap arasında karşılıklı yönde eşzamanlı transferlerle ölçer.
+ * Kilitler id sırasıyla alınmazsa bu grup kilitlenmeye (deadlock) girer ve ölçüm yeniden denemelerle yavaşlar ya da hata verir.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransferBenchmark {
+
+	private ConfigurableApplicationContext context;
+
+	private AccountTransactionService accountTransactionService;
+
+	private TransferRequestDto forward;
+
+	private TransferRequestDto backward;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkApplication.start();
+		accountTransactionService = context.getBean(AccountTransactionService.class);
+
+		final AccountRepository accountRepository = context.getBean(AccountRepository.class);
+		final UUID firstAccountId = accountRepository.save(account(10000000011L)).getId();
+		final UUID secondAccountId = accountRepository.save(account(10000000012L)).getId();
+
+		forward = request(firstAccountId, secondAccountId);
+		backward = request(secondAccountId, firstAccountId);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	@Group("crossing")
+	@GroupThreads(4)
+	public TransferResultDto forward() {
+		return accountTransactionService.transfer(forward);
+	}
+
+	@Benchmark
+	@Group("crossing")
+	@GroupThreads(4)
+	public TransferResultDto backward() {
+		return accountTransactionService.transfer(backward);
+	}
+
+	private static TransferRequestDto request(UUID fromAccountId, UUID toAccountId) {
+		final TransferRequestDto request = new TransferRequestDto();
+		request.setFromAccountId(fromAccountId);
+		request.setToAccountId(toAccountId);
+		request.setAmount(new BigDecimal("0.01"));
+		return request;
+	}
+
+	private static Account account(long identityNo) {
+		final Account account = new Account();
+		account.setIdentityNo(BigDecimal.valueOf(identityNo));
+		account.setFirstName("Benchmark");
+		account.setLastName("User");
+		account.setAccountType(AccountType.TL);
+		account.setBalance(BigDecimal.valueOf(5_000_000));
+		return account;
+	}
+}
@@ -0,0 +1,187 @@
+package com.banking.bankingsystem.loadtest;
+
+import com.banking.bankingsystem.BankingsystemApplication;
+import com.banking.bankingsystem.account.data.Account;
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Uygulamayı gerçek bir HTTP portunda başlatır ve {@code connections} adet eşzamanlı bağlantı üzerinden para yatırma istekleri
+ * gönderir. {@code mode=both} ile aynı yük önce platform, sonra sanal iş parçacığı modunda çalıştırılır ve sonuçlar
+ * karşılaştırılır. İstemci tarafı her bağlantı için bir sanal iş parçacığı kullanır.
+ *
+ * <pre>
+ * mvn -P loadtest verify -DskipTests -Dloadtest.main=com.banking.bankingsystem.loadtest.HttpConcurrencyBenchmark \
+ *     -Dloadtest.args="mode=both connections=10000 requests=200000"
+ * </pre>
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public final class HttpConcurrencyBenchmark {
+
+	private static final String DEPOSIT_BODY = "{\"amount\":1}";
+
+	private HttpConcurrencyBenchmark() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		final Map<String, String> values = new HashMap<>();
+		for (String arg : args) {
+			final int separator = arg.indexOf('=');
+			if (separator < 1) {
+				throw new IllegalArgumentException("Geçersiz parametre: " + arg);
+			}
+			values.put(arg.substring(0, separator), arg.substring(separator + 1));
+		}
+
+		final String mode = values.getOrDefault("mode", "both");
+		final int connections = Integer.parseInt(values.getOrDefault("connections", "10000"));
+		final long requests = Long.parseLong(values.getOrDefault("requests", "100000"));
+		final int accounts = Integer.parseInt(values.getOrDefault("accounts", "1000"));
+		final int poolSize = Integer.parseInt(values.getOrDefault("pool", "20"));
+
+		final List<Boolean> virtualModes = switch (mode) {
+			case "platform" -> List.of(false);
+			case "virtual" -> List.of(true);
+			case "both" -> List.of(false, true);
+			default -> throw new IllegalArgumentException("Geçersiz mod: " + mode);
+		};
+
+		final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+		final List<LoadTestReport> reports = new ArrayList<>();
+		boolean consistent = true;
+
+		for (boolean virtual : virtualModes) {
+			final LoadTestReport report = run(virtual, connections, requests, accounts, poolSize);
+			final Path path = Path.of("target", "http-" + report.scenario().toLowerCase() + ".json");
+			Files.createDirectories(path.getParent());
+			objectMapper.writeValue(path.toFile(), report);
+			System.out.println(objectMapper.writeValueAsString(report));
+
+			reports.add(report);
+			consistent &= report.balancesConsistent();
+		}
+
+		if (reports.size() == 2) {
+			System.out.printf("Sanal / platform verim oranı: %.2f, p99: %d µs -> %d µs%n", reports.get(1).throughput() / reports.get(0).throughput(),
+							  reports.get(0).p99(), reports.get(1).p99());
+		}
+
+		System.exit(consistent ? 0 : 1);
+	}
+
+	private static LoadTestReport run(boolean virtual, int connections, long requests, int accounts, int poolSize) throws Exception {
+		final String scenario = virtual ? "HTTP_VIRTUAL" : "HTTP_PLATFORM";
+
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BankingsystemApplication.class)
+				.profiles("test")
+				.run("--server.port=0", "--spring.threads.virtual.enabled=" + virtual, "--logging.level.root=WARN", "--spring.main.banner-mode=off",
+					 "--spring.datasource.url=jdbc:h2:mem:" + scenario.toLowerCase() + ";DB_CLOSE_DELAY=-1",
+					 "--spring.datasource.hikari.maximum-pool-size=" + poolSize)) {
+
+			final int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+			final List<UUID> accountIds = createAccounts(context.getBean(AccountRepository.class), accounts);
+
+			final Histogram histogram = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(2), 3);
+			final AtomicLong remaining = new AtomicLong(requests);
+			final LongAdder accepted = new LongAdder();
+			final LongAdder rejected = new LongAdder();
+			final LongAdder errors = new LongAdder();
+			final CountDownLatch start = new CountDownLatch(1);
+			final long startedAt;
+
+			try (HttpClient client = HttpClient.newBuilder()
+					.version(HttpClient.Version.HTTP_1_1)
+					.connectTimeout(Duration.ofSeconds(30))
+					.executor(Executors.newVirtualThreadPerTaskExecutor())
+					.build();
+				 ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+				for (int i = 0; i < connections; i++) {
+					executor.submit(() -> {
+						start.await();
+						while (remaining.getAndDecrement() > 0) {
+							final UUID accountId = accountIds.get(ThreadLocalRandom.current().nextInt(accountIds.size()));
+							final HttpRequest request = HttpRequest.newBuilder(
+											URI.create("http://localhost:" + port + "/api/v1/transactions/" + accountId + "/deposit"))
+									.timeout(Duration.ofMinutes(2))
+									.header("Content-Type", "application/json")
+									.POST(HttpRequest.BodyPublishers.ofString(DEPOSIT_BODY))
+									.build();
+
+							final long requestStartedAt = System.nanoTime();
+							try {
+								final int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+								if (status == 201) {
+									accepted.increment();
+								} else if (status < 500) {
+									rejected.increment();
+								} else {
+									errors.increment();
+								}
+							} catch (Exception e) {
+								errors.increment();
+							}
+							histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - requestStartedAt),
+														   histogram.getHighestTrackableValue()));
+						}
+						return null;
+					});
+				}
+
+				startedAt = System.nanoTime();
+				start.countDown();
+			}
+
+			final double seconds = (System.nanoTime() - startedAt) / 1e9;
+			final BigDecimal total = context.getBean(JdbcTemplate.class).queryForObject("select coalesce(sum(balance), 0) from account", BigDecimal.class);
+
+			return LoadTestReport.of(scenario, connections, accounts, requests, histogram, accepted.sum(), rejected.sum(), errors.sum(), seconds,
+									 total.compareTo(BigDecimal.valueOf(accepted.sum())) == 0);
+		}
+	}
+
+	private static List<UUID> createAccounts(AccountRepository accountRepository, int count) {
+		final List<Account> accounts = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			final Account account = new Account();
+			account.setIdentityNo(BigDecimal.valueOf(80_000_000_000L + i));
+			account.setFirstName("Http");
+			account.setLastName("Benchmark");
+			account.setAccountType(AccountType.TL);
+			accounts.add(account);
+		}
+		return accountRepository.saveAll(accounts).stream().map(Account::getId).toList();
+	}
+}
@@ -0,0 +1,235 @@
+package com.banking.bankingsystem.loadtest;
+
+import com.banking.bankingsystem.BankingsystemApplication;
+import com.banking.bankingsystem.account.data.Account;
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.banking.bankingsystem.transaction.dto.TransactionRequestDto;
+import com.banking.bankingsystem.transaction.ledger.LedgerEngine;
+import com.banking.bankingsystem.transaction.service.AccountTransactionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityNotFoundException;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Uygulamayı aynı JVM içinde başlatıp çok sayıda iş parçacığıyla para yatırma/çekme yükü uygular. Çalışma sonunda her
+ * hesabın bakiyesi, başlangıç bakiyesi ile kabul edilen işlemlerin toplamına ve veritabanındaki hareketlerin toplamına
+ * eşit olmalıdır; aksi halde kayıp güncelleme vardır ve çalışma başarısız olur.
+ *
+ * <pre>
+ * mvn -P loadtest verify -DskipTests -Dloadtest.args="scenario=ZIPF threads=500 accounts=1000 operations=200000"
+ * </pre>
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public final class LoadTestHarness {
+
+	private static final long INITIAL_BALANCE = 1_000_000;
+
+	private static final int MAX_AMOUNT = 100;
+
+	private static final String BALANCE_CHECK = """
+			select a.id, a.balance, coalesce(sum(case when t.transaction_type = 'DEPOSIT' then t.amount else -t.amount end), 0) as net
+			from account a left join account_transaction t on t.account_id = a.id
+			group by a.id, a.balance""";
+
+	private LoadTestHarness() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		final LoadTestOptions options = LoadTestOptions.parse(args);
+
+		final List<String> properties = new ArrayList<>(List.of("--logging.level.root=WARN", "--spring.main.banner-mode=off",
+																 "--spring.datasource.hikari.maximum-pool-size=" + options.poolSize(),
+																 "--banking.ledger.enabled=" + options.ledgerEnabled()));
+		if (Objects.nonNull(options.dbUrl())) {
+			properties.add("--spring.datasource.url=" + options.dbUrl());
+		}
+
+		final int exitCode;
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BankingsystemApplication.class)
+				.web(WebApplicationType.NONE)
+				.profiles(Objects.isNull(options.dbUrl()) ? new String[] { "test" } : new String[0])
+				.run(properties.toArray(String[]::new))) {
+			exitCode = run(context, options);
+		}
+		System.exit(exitCode);
+	}
+
+	private static int run(ConfigurableApplicationContext context, LoadTestOptions options) throws Exception {
+		final List<UUID> accountIds = createAccounts(context.getBean(AccountRepository.class), options.accounts());
+		final BiFunction<UUID, TransactionRequestDto, AccountTransactionDto> deposit;
+		final BiFunction<UUID, TransactionRequestDto, AccountTransactionDto> withdraw;
+
+		if (options.ledgerEnabled()) {
+			final LedgerEngine ledgerEngine = context.getBean(LedgerEngine.class);
+			deposit = ledgerEngine::deposit;
+			withdraw = ledgerEngine::withdraw;
+		} else {
+			final AccountTransactionService accountTransactionService = context.getBean(AccountTransactionService.class);
+			deposit = accountTransactionService::deposit;
+			withdraw = accountTransactionService::withdraw;
+		}
+
+		final Scenario.AccountSelector selector = options.scenario().selector(options.accounts(), options.zipfExponent());
+		final AtomicLongArray expectedDeltas = new AtomicLongArray(options.accounts());
+		final AtomicLong remaining = new AtomicLong(options.operations());
+		final LongAdder accepted = new LongAdder();
+		final LongAdder rejected = new LongAdder();
+		final LongAdder errors = new LongAdder();
+		final CountDownLatch start = new CountDownLatch(1);
+
+		final List<Future<Histogram>> workers = new ArrayList<>(options.threads());
+		final ExecutorService executor = Executors.newFixedThreadPool(options.threads());
+
+		for (int i = 0; i < options.threads(); i++) {
+			workers.add(executor.submit(() -> {
+				final Histogram histogram = new Histogram(TimeUnit.MINUTES.toMicros(1), 3);
+				final TransactionRequestDto request = new TransactionRequestDto();
+				start.await();
+
+				while (remaining.getAndDecrement() > 0) {
+					final ThreadLocalRandom random = ThreadLocalRandom.current();
+					final int index = selector.next();
+					final long amount = random.nextLong(1, MAX_AMOUNT + 1);
+					final boolean isWithdraw = random.nextDouble() < options.withdrawRatio();
+					request.setAmount(BigDecimal.valueOf(amount));
+
+					final long startedAt = System.nanoTime();
+					try {
+						(isWithdraw ? withdraw : deposit).apply(accountIds.get(index), request);
+						expectedDeltas.addAndGet(index, isWithdraw ? -amount : amount);
+						accepted.increment();
+					} catch (IllegalArgumentException | EntityNotFoundException e) {
+						rejected.increment();
+					} catch (RuntimeException e) {
+						errors.increment();
+					}
+					histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt), histogram.getHighestTrackableValue()));
+				}
+				return histogram;
+			}));
+		}
+
+		final long startedAt = System.nanoTime();
+		start.countDown();
+
+		final Histogram histogram = new Histogram(TimeUnit.MINUTES.toMicros(1), 3);
+		for (Future<Histogram> worker : workers) {
+			histogram.add(worker.get());
+		}
+		final double seconds = (System.nanoTime() - startedAt) / 1e9;
+		executor.shutdown();
+
+		final boolean consistent = verifyBalances(context.getBean(JdbcTemplate.class), accountIds, expectedDeltas);
+		final LoadTestReport report = LoadTestReport.of(options, histogram, accepted.sum(), rejected.sum(), errors.sum(), seconds, consistent);
+
+		final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+		writeJson(objectMapper, options.report(), report);
+		System.out.println(objectMapper.writeValueAsString(report));
+
+		if (!consistent) {
+			System.err.println("Bakiye tutarsızlığı: kayıp güncelleme tespit edildi.");
+			return 1;
+		}
+
+		if (Objects.isNull(options.baseline())) {
+			return 0;
+		}
+
+		if (options.writeBaseline()) {
+			writeJson(objectMapper, options.baseline(), report);
+			return 0;
+		}
+
+		final List<String> regressions = report.regressionsAgainst(objectMapper.readValue(options.baseline().toFile(), LoadTestReport.class),
+																	options.tolerance());
+		regressions.forEach(regression -> System.err.println("Gerileme: " + regression));
+
+		return regressions.isEmpty() ? 0 : 1;
+	}
+
+	private static List<UUID> createAccounts(AccountRepository accountRepository, int count) {
+		final List<Account> accounts = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			final Account account = new Account();
+			account.setIdentityNo(BigDecimal.valueOf(90_000_000_000L + i));
+			account.setFirstName("Load");
+			account.setLastName("Test");
+			account.setAccountType(AccountType.TL);
+			account.setBalance(BigDecimal.valueOf(INITIAL_BALANCE));
+			accounts.add(account);
+		}
+		return accountRepository.saveAll(accounts).stream().map(Account::getId).toList();
+	}
+
+	/**
+	 * Her hesap için son bakiyenin hem istemci tarafında kabul edilen işlemlerin toplamına hem de veritabanındaki
+	 * hareketlerin toplamına eşit olduğunu doğrular.
+	 */
+	private static boolean verifyBalances(JdbcTemplate jdbcTemplate, List<UUID> accountIds, AtomicLongArray expectedDeltas) {
+		final Map<UUID, Integer> indexes = new HashMap<>();
+		for (int i = 0; i < accountIds.size(); i++) {
+			indexes.put(accountIds.get(i), i);
+		}
+
+		final BigDecimal initialBalance = BigDecimal.valueOf(INITIAL_BALANCE);
+		final LongAdder mismatches = new LongAdder();
+
+		jdbcTemplate.query(BALANCE_CHECK, row -> {
+			final Integer index = indexes.get(row.getObject("id", UUID.class));
+			if (Objects.isNull(index)) {
+				return;
+			}
+
+			final BigDecimal balance = row.getBigDecimal("balance");
+			final BigDecimal fromTransactions = initialBalance.add(row.getBigDecimal("net"));
+			final BigDecimal fromClient = initialBalance.add(BigDecimal.valueOf(expectedDeltas.get(index)));
+
+			if (balance.compareTo(fromTransactions) != 0 || balance.compareTo(fromClient) != 0) {
+				System.err.printf("Hesap %s: bakiye=%s, hareket toplamı=%s, kabul edilen toplam=%s%n", row.getObject("id"), balance,
+								  fromTransactions, fromClient);
+				mismatches.increment();
+			}
+		});
+
+		return mismatches.sum() == 0;
+	}
+
+	private static void writeJson(ObjectMapper objectMapper, Path path, Object value) throws IOException {
+		if (Objects.nonNull(path.getParent())) {
+			Files.createDirectories(path.getParent());
+		}
+		objectMapper.writeValue(path.toFile(), value);
+	}
+}
@@ -0,0 +1,47 @@
+package com.banking.bankingsystem.loadtest;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Yük testi parametreleri. Komut satırından {@code anahtar=değer} biçiminde okunur, verilmeyenler varsayılan değerini
+ * alır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+record LoadTestOptions(Scenario scenario, int threads, int accounts, long operations, double zipfExponent, double withdrawRatio, int poolSize,
+					   boolean ledgerEnabled, String dbUrl, Path report, Path baseline, boolean writeBaseline, double tolerance) {
+
+	static LoadTestOptions parse(String[] args) {
+		final Map<String, String> values = new HashMap<>();
+		for (String arg : args) {
+			final int separator = arg.indexOf('=');
+			if (separator < 1) {
+				throw new IllegalArgumentException("Geçersiz parametre: " + arg);
+			}
+			values.put(arg.substring(0, separator), arg.substring(separator + 1));
+		}
+
+		final Scenario scenario = Scenario.valueOf(values.getOrDefault("scenario", "HOT").toUpperCase());
+		final String baseline = values.get("baseline");
+
+		return new LoadTestOptions(scenario,
+								   Integer.parseInt(values.getOrDefault("threads", "500")),
+								   scenario == Scenario.HOT ? 1 : Integer.parseInt(values.getOrDefault("accounts", "1000")),
+								   Long.parseLong(values.getOrDefault("operations", "100000")),
+								   Double.parseDouble(values.getOrDefault("zipfExponent", "1.0")),
+								   Double.parseDouble(values.getOrDefault("withdrawRatio", "0.5")),
+								   Integer.parseInt(values.getOrDefault("pool", "20")),
+								   Boolean.parseBoolean(values.getOrDefault("ledger", "false")),
+								   values.get("dbUrl"),
+								   Path.of(values.getOrDefault("report", "target/loadtest-" + scenario.name().toLowerCase() + ".json")),
+								   Objects.isNull(baseline) ? null : Path.of(baseline),
+								   Boolean.parseBoolean(values.getOrDefault("writeBaseline", "false")),
+								   Double.parseDouble(values.getOrDefault("tolerance", "0.2")));
+	}
+}
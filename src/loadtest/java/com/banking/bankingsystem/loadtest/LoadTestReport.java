@@ -0,0 +1,59 @@
+package com.banking.bankingsystem.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Yük testi sonucu. Gecikmeler mikrosaniye cinsindendir.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+record LoadTestReport(String scenario, int threads, int accounts, long operations, long accepted, long rejected, long errors, double seconds,
+					  double throughput, long p50, long p99, long p999, long max, boolean balancesConsistent) {
+
+	static LoadTestReport of(LoadTestOptions options, Histogram histogram, long accepted, long rejected, long errors, double seconds,
+							 boolean balancesConsistent) {
+		return of(options.scenario().name(), options.threads(), options.accounts(), options.operations(), histogram, accepted, rejected, errors,
+				  seconds, balancesConsistent);
+	}
+
+	static LoadTestReport of(String scenario, int threads, int accounts, long operations, Histogram histogram, long accepted, long rejected,
+							 long errors, double seconds, boolean balancesConsistent) {
+		return new LoadTestReport(scenario, threads, accounts, operations, accepted, rejected, errors, seconds, histogram.getTotalCount() / seconds,
+								  histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99), histogram.getValueAtPercentile(99.9),
+								  histogram.getMaxValue(), balancesConsistent);
+	}
+
+	/**
+	 * Bu sonucu temel ölçümle karşılaştırır. Verim {@code tolerance} oranından fazla düşmüşse ya da p99/p99.9 gecikmesi bu
+	 * oranından fazla artmışsa gerilemeleri döner.
+	 */
+	List<String> regressionsAgainst(LoadTestReport baseline, double tolerance) {
+		final List<String> regressions = new ArrayList<>();
+
+		if (!Objects.equals(scenario, baseline.scenario)) {
+			regressions.add("Temel ölçüm farklı bir senaryoya ait: " + baseline.scenario);
+			return regressions;
+		}
+
+		if (throughput < baseline.throughput * (1 - tolerance)) {
+			regressions.add("Verim %.1f -> %.1f işlem/sn".formatted(baseline.throughput, throughput));
+		}
+
+		if (p99 > baseline.p99 * (1 + tolerance)) {
+			regressions.add("p99 %d -> %d µs".formatted(baseline.p99, p99));
+		}
+
+		if (p999 > baseline.p999 * (1 + tolerance)) {
+			regressions.add("p99.9 %d -> %d µs".formatted(baseline.p999, p999));
+		}
+
+		return regressions;
+	}
+}
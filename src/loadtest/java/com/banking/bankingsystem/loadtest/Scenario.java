@@ -0,0 +1,79 @@
+package com.banking.bankingsystem.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * İşlemlerin hesaplara nasıl dağıtılacağını belirler.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+enum Scenario {
+
+	/**
+	 * Tüm işlemler tek bir hesaba gider.
+	 */
+	HOT,
+
+	/**
+	 * İşlemler hesaplara eşit olasılıkla dağılır.
+	 */
+	UNIFORM,
+
+	/**
+	 * İşlemler Zipf dağılımıyla dağılır; az sayıda hesap trafiğin büyük kısmını alır.
+	 */
+	ZIPF;
+
+	AccountSelector selector(int accounts, double exponent) {
+		return switch (this) {
+			case HOT -> () -> 0;
+			case UNIFORM -> () -> ThreadLocalRandom.current().nextInt(accounts);
+			case ZIPF -> new ZipfSelector(accounts, exponent);
+		};
+	}
+
+	@FunctionalInterface
+	interface AccountSelector {
+
+		int next();
+	}
+
+	/**
+	 * Kümülatif dağılımı önceden hesaplar, her seçimde ikili arama yapar. k. hesabın olasılığı {@code 1 / k^s} ile orantılıdır.
+	 */
+	private static final class ZipfSelector implements AccountSelector {
+
+		private final double[] cumulative;
+
+		private ZipfSelector(int accounts, double exponent) {
+			cumulative = new double[accounts];
+			double sum = 0;
+			for (int i = 0; i < accounts; i++) {
+				sum += 1.0 / Math.pow(i + 1, exponent);
+				cumulative[i] = sum;
+			}
+			for (int i = 0; i < accounts; i++) {
+				cumulative[i] /= sum;
+			}
+		}
+
+		@Override
+		public int next() {
+			final double value = ThreadLocalRandom.current().nextDouble();
+			int low = 0;
+			int high = cumulative.length - 1;
+			while (low < high) {
+				final int middle = (low + high) >>> 1;
+				if (cumulative[middle] < value) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+	}
+}
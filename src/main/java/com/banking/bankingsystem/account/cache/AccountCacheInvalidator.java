@@ -0,0 +1,51 @@
+package com.banking.bankingsystem.account.cache;
+
+import com.banking.bankingsystem.account.event.AccountBalanceChangedEvent;
+import com.banking.bankingsystem.account.event.AccountChangedEvent;
+import com.banking.bankingsystem.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Component
+@RequiredArgsConstructor
+public class AccountCacheInvalidator {
+
+	private final CacheManager cacheManager;
+
+	/**
+	 * Bakiye değişikliği commit edildikten sonra hesabı önbellekten çıkarır. Commit'ten önce çıkarılsaydı eşzamanlı bir okuma
+	 * eski bakiyeyi yeniden önbelleğe yükleyebilirdi. İşlem dışında yayınlanan olaylar hemen uygulanır.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBalanceChanged(AccountBalanceChangedEvent event) {
+		evict(event.accountId());
+	}
+
+	/**
+	 * Hesap güncellemesi ya da silme commit edildikten sonra hesabı önbellekten çıkarır; bakiye değişikliğiyle aynı nedenle
+	 * commit'ten önce çıkarılmaz.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onAccountChanged(AccountChangedEvent event) {
+		evict(event.accountId());
+	}
+
+	private void evict(UUID accountId) {
+		final Cache cache = cacheManager.getCache(CacheConfig.ACCOUNTS);
+		if (Objects.nonNull(cache)) {
+			cache.evict(accountId);
+		}
+	}
+}
@@ -3,6 +3,8 @@ package com.banking.bankingsystem.account.data;
 import com.banking.bankingsystem.transaction.data.AccountTransaction;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -41,6 +43,12 @@ public class Account {
 	@Column(name = "balance", nullable = false, precision = 9, scale = 2)
 	private BigDecimal balance = BigDecimal.ZERO;
 
+	@Version
+	@Column(name = "version", nullable = false)
+	private Long version;
+
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@OneToMany(mappedBy = "account", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<AccountTransaction> transactions = new ArrayList<>();
 }
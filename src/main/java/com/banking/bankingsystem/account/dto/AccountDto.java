@@ -34,4 +34,7 @@ public class AccountDto {
 
 	@Schema(description = "Hesap bakiyesi", example = "1000.00")
 	private BigDecimal balance;
+
+	@Schema(description = "Hesabın her değişiklikte artan sürümü, ETag bu değerden üretilir", example = "3")
+	private Long version;
 }
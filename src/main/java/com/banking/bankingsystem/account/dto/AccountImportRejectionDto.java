@@ -0,0 +1,25 @@
+package com.banking.bankingsystem.account.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Toplu aktarımda reddedilen CSV satırı")
+public class AccountImportRejectionDto {
+
+	@Schema(description = "Başlık satırı 1 olmak üzere dosyadaki satır numarası", example = "42")
+	private long lineNumber;
+
+	@Schema(description = "Red nedeni", example = "Bu kimlik numarasına sahip bu türde bir hesap bulunmaktadır.")
+	private String reason;
+}
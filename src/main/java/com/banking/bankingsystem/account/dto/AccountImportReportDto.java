@@ -0,0 +1,36 @@
+package com.banking.bankingsystem.account.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "CSV'den toplu hesap aktarımının sonucu")
+public class AccountImportReportDto {
+
+	@Schema(description = "Başlık ve boş satırlar hariç okunan satır sayısı", example = "250000")
+	private long totalRows;
+
+	@Schema(description = "Oluşturulan hesap sayısı", example = "249990")
+	private long importedCount;
+
+	@Schema(description = "Reddedilen satır sayısı", example = "10")
+	private long rejectedCount;
+
+	@Schema(description = "Aktarımın süresi (ms)", example = "4200")
+	private long elapsedMillis;
+
+	@Schema(description = "Reddedilen satırlar; en fazla banking.account-import.max-reported-rejections kadar listelenir")
+	private List<AccountImportRejectionDto> rejections;
+}
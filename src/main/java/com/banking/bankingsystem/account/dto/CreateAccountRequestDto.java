@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 import java.math.BigDecimal;
@@ -25,10 +26,12 @@ public class CreateAccountRequestDto {
 	private BigDecimal identityNo;
 
 	@NotBlank
+	@Size(max = 50)
 	@Schema(description = "Kullanıcının adı", example = "Enes", required = true)
 	private String firstName;
 
 	@NotBlank
+	@Size(max = 50)
 	@Schema(description = "Kullanıcının soyadı", example = "Kumaş", required = true)
 	private String lastName;
 
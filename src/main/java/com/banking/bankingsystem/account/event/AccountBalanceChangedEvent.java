@@ -0,0 +1,15 @@
+package com.banking.bankingsystem.account.event;
+
+import java.util.UUID;
+
+/**
+ * Bir hesabın bakiyesi değiştiğinde yayınlanır. Açık bir veritabanı işlemi içinde yayınlandığında dinleyiciler işlem commit
+ * edildikten sonra çalışır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public record AccountBalanceChangedEvent(UUID accountId) {
+}
@@ -0,0 +1,15 @@
+package com.banking.bankingsystem.account.event;
+
+import java.util.UUID;
+
+/**
+ * Bir hesabın bilgileri güncellendiğinde ya da hesap silindiğinde yayınlanır. Açık bir veritabanı işlemi içinde
+ * yayınlandığında dinleyiciler işlem commit edildikten sonra çalışır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public record AccountChangedEvent(UUID accountId) {
+}
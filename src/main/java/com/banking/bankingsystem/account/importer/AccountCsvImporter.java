@@ -0,0 +1,331 @@
+package com.banking.bankingsystem.account.importer;
+
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.dto.AccountDto;
+import com.banking.bankingsystem.account.dto.AccountImportRejectionDto;
+import com.banking.bankingsystem.account.dto.AccountImportReportDto;
+import com.banking.bankingsystem.account.dto.CreateAccountRequestDto;
+import com.banking.bankingsystem.common.id.TimeOrderedUuid;
+import com.banking.bankingsystem.common.metrics.Operation;
+import com.banking.bankingsystem.common.metrics.OperationMetrics;
+import com.banking.bankingsystem.common.metrics.RejectionReason;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * {@link CreateAccountRequestDto} alanlarını içeren CSV dosyasını satırları bellekte toplamadan hesaplara aktarır. İlk satır
+ * {@code identityNo,firstName,lastName,accountType} kolonlarını herhangi bir sırayla içeren başlıktır. Alanlar RFC 4180'e göre
+ * çift tırnak içine alınabilir; tırnaklı alan virgül, satır sonu ve {@code ""} ile kaçışlanmış tırnak içerebilir. Tırnağı
+ * kapanmayan ya da kapanan tırnaktan sonra virgül gelmeyen satırlar reddedilir. Tırnağı {@code max-record-lines} satır içinde
+ * kapanmayan kayıtta yalnızca ilk satır reddedilir, sonraki satırlar yeniden okunur; böylece tek bir eksik tırnak dosyanın
+ * geri kalanını tek kayda toplamaz. Okunan satırlar
+ * {@code batch-size}'lık parçalara bölünür; parçalar iş parçacıklarında doğrulanırken önceki parçalar okuma sırasıyla
+ * {@link AccountImportWriter} ile eklenir. Her parça ayrı commit edilir; hatalı ya da mükerrer satırlar aktarımı durdurmaz,
+ * raporda satır numarasıyla listelenir.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Component
+@RequiredArgsConstructor
+public class AccountCsvImporter {
+
+	static final String DUPLICATE = "Bu kimlik numarasına sahip bu türde bir hesap bulunmaktadır.";
+
+	private static final List<String> COLUMNS = List.of("identityNo", "firstName", "lastName", "accountType");
+
+	private final AccountImportWriter accountImportWriter;
+
+	private final AccountImportProperties properties;
+
+	private final Validator validator;
+
+	private final OperationMetrics operationMetrics;
+
+	/**
+	 * @throws IllegalArgumentException dosya boşsa ya da başlıkta zorunlu bir kolon eksikse
+	 */
+	public AccountImportReportDto importCsv(InputStream inputStream) throws IOException {
+		final long started = System.nanoTime();
+		final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+		final Header header = parseHeader(reader.readLine());
+		final int batchSize = Math.max(1, properties.getBatchSize());
+		final int parallelism = Math.max(1, properties.getParallelism());
+		final Report report = new Report(properties.getMaxReportedRejections());
+
+		final ExecutorService executor = Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("account-import-", 0).factory());
+		try {
+			final Deque<Future<List<Row>>> pending = new ArrayDeque<>();
+			final Deque<String> replay = new ArrayDeque<>();
+			final int maxRecordLines = Math.max(1, properties.getMaxRecordLines());
+			List<Line> lines = new ArrayList<>(batchSize);
+			long lineNumber = 1;
+			for (String text = readLine(reader, replay); text != null; text = readLine(reader, replay)) {
+				final long recordLineNumber = ++lineNumber;
+				if (text.isBlank()) {
+					continue;
+				}
+				final List<String> continuation = new ArrayList<>();
+				boolean quoted = hasOddQuotes(text);
+				while (quoted && continuation.size() < maxRecordLines - 1) {
+					final String next = readLine(reader, replay);
+					if (Objects.isNull(next)) {
+						break;
+					}
+					continuation.add(next);
+					quoted ^= hasOddQuotes(next);
+				}
+				if (quoted) {
+					for (int i = continuation.size() - 1; i >= 0; i--) {
+						replay.push(continuation.get(i));
+					}
+					lines.add(new Line(recordLineNumber, text));
+				} else {
+					lineNumber += continuation.size();
+					continuation.addFirst(text);
+					lines.add(new Line(recordLineNumber, String.join("\n", continuation)));
+				}
+				if (lines.size() == batchSize) {
+					final List<Line> chunk = lines;
+					pending.add(executor.submit(() -> parse(header, chunk)));
+					lines = new ArrayList<>(batchSize);
+					if (pending.size() >= parallelism) {
+						write(pending.poll().get(), report);
+					}
+				}
+			}
+			if (!lines.isEmpty()) {
+				final List<Line> chunk = lines;
+				pending.add(executor.submit(() -> parse(header, chunk)));
+			}
+			while (!pending.isEmpty()) {
+				write(pending.poll().get(), report);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Hesap aktarımı beklenirken iş parçacığı kesildi.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException("Hesaplar aktarılamadı.", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+
+		return report.toDto((System.nanoTime() - started) / 1_000_000);
+	}
+
+	private static Header parseHeader(String text) {
+		if (Objects.isNull(text) || text.isBlank()) {
+			throw new IllegalArgumentException("CSV dosyası boş.");
+		}
+
+		final List<String> names = fields(text.startsWith("\uFEFF") ? text.substring(1) : text);
+		if (Objects.isNull(names)) {
+			throw new IllegalArgumentException("CSV başlığında geçersiz tırnak kullanımı.");
+		}
+		final Map<String, Integer> indexes = new HashMap<>();
+		for (int i = 0; i < names.size(); i++) {
+			indexes.put(names.get(i).trim(), i);
+		}
+		for (String column : COLUMNS) {
+			if (!indexes.containsKey(column)) {
+				throw new IllegalArgumentException("CSV başlığında " + column + " kolonu eksik.");
+			}
+		}
+		return new Header(indexes.get("identityNo"), indexes.get("firstName"), indexes.get("lastName"), indexes.get("accountType"), names.size());
+	}
+
+	/**
+	 * Bir CSV kaydını alanlarına ayırır; tırnaklı alanların tırnakları atılır ve {@code ""} tek tırnağa çevrilir.
+	 *
+	 * @return tırnak kullanımı geçersizse null
+	 */
+	private static List<String> fields(String record) {
+		final List<String> fields = new ArrayList<>();
+		final StringBuilder field = new StringBuilder();
+		int i = 0;
+		while (true) {
+			if (i < record.length() && record.charAt(i) == '"') {
+				i++;
+				while (true) {
+					if (i == record.length()) {
+						return null;
+					}
+					final char c = record.charAt(i++);
+					if (c != '"') {
+						field.append(c);
+					} else if (i < record.length() && record.charAt(i) == '"') {
+						field.append('"');
+						i++;
+					} else {
+						break;
+					}
+				}
+				if (i < record.length() && record.charAt(i) != ',') {
+					return null;
+				}
+			} else {
+				for (; i < record.length() && record.charAt(i) != ','; i++) {
+					if (record.charAt(i) == '"') {
+						return null;
+					}
+					field.append(record.charAt(i));
+				}
+			}
+			fields.add(field.toString());
+			field.setLength(0);
+			if (i == record.length()) {
+				return fields;
+			}
+			i++;
+		}
+	}
+
+	/**
+	 * Tırnağı kapanmayan bir kayıt için okunup geri bırakılan satırlar varsa önce onları, yoksa dosyadaki sonraki satırı döner.
+	 */
+	private static String readLine(BufferedReader reader, Deque<String> replay) throws IOException {
+		return replay.isEmpty() ? reader.readLine() : replay.pop();
+	}
+
+	private static boolean hasOddQuotes(String text) {
+		return text.chars().filter(c -> c == '"').count() % 2 == 1;
+	}
+
+	private List<Row> parse(Header header, List<Line> lines) {
+		final List<Row> rows = new ArrayList<>(lines.size());
+		for (Line line : lines) {
+			rows.add(parse(header, line));
+		}
+		return rows;
+	}
+
+	private Row parse(Header header, Line line) {
+		final List<String> values = fields(line.text());
+		if (Objects.isNull(values)) {
+			return Row.rejected(line.number(), "Geçersiz tırnak kullanımı.");
+		}
+		if (values.size() != header.columns()) {
+			return Row.rejected(line.number(), "Kolon sayısı başlıkla uyuşmuyor.");
+		}
+
+		final CreateAccountRequestDto request = new CreateAccountRequestDto();
+		request.setFirstName(values.get(header.firstName()).trim());
+		request.setLastName(values.get(header.lastName()).trim());
+		try {
+			request.setIdentityNo(new BigDecimal(values.get(header.identityNo()).trim()));
+		} catch (NumberFormatException e) {
+			return Row.rejected(line.number(), "identityNo: sayı olmalıdır");
+		}
+		try {
+			request.setAccountType(AccountType.valueOf(values.get(header.accountType()).trim()));
+		} catch (IllegalArgumentException e) {
+			return Row.rejected(line.number(), "accountType: geçersiz hesap türü");
+		}
+
+		final Set<ConstraintViolation<CreateAccountRequestDto>> violations = validator.validate(request);
+		if (!violations.isEmpty()) {
+			return Row.rejected(line.number(), violations.stream()
+					.sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+					.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+					.collect(Collectors.joining(", ")));
+		}
+
+		final AccountDto account = new AccountDto();
+		account.setId(TimeOrderedUuid.next());
+		account.setIdentityNo(request.getIdentityNo());
+		account.setFirstName(request.getFirstName());
+		account.setLastName(request.getLastName());
+		account.setAccountType(request.getAccountType());
+		account.setBalance(BigDecimal.ZERO);
+		account.setVersion(0L);
+		return new Row(line.number(), account, null);
+	}
+
+	private void write(List<Row> rows, Report report) {
+		final List<AccountDto> accounts = rows.stream().map(Row::account).filter(Objects::nonNull).toList();
+		final Set<UUID> inserted = accounts.isEmpty() ? Set.of() : operationMetrics.db(Operation.ACCOUNT_IMPORT, () -> accountImportWriter.write(accounts));
+
+		for (Row row : rows) {
+			report.totalRows++;
+			if (Objects.isNull(row.account())) {
+				operationMetrics.rejected(Operation.ACCOUNT_IMPORT, RejectionReason.INVALID_ROW);
+				report.reject(row.lineNumber(), row.rejection());
+			} else if (!inserted.contains(row.account().getId())) {
+				operationMetrics.rejected(Operation.ACCOUNT_IMPORT, RejectionReason.DUPLICATE);
+				report.reject(row.lineNumber(), DUPLICATE);
+			} else {
+				report.importedCount++;
+			}
+		}
+	}
+
+	private record Header(int identityNo, int firstName, int lastName, int accountType, int columns) {
+	}
+
+	private record Line(long number, String text) {
+	}
+
+	private record Row(long lineNumber, AccountDto account, String rejection) {
+
+		static Row rejected(long lineNumber, String reason) {
+			return new Row(lineNumber, null, reason);
+		}
+	}
+
+	private static final class Report {
+
+		private final int maxReportedRejections;
+
+		private final List<AccountImportRejectionDto> rejections = new ArrayList<>();
+
+		private long totalRows;
+
+		private long importedCount;
+
+		private long rejectedCount;
+
+		private Report(int maxReportedRejections) {
+			this.maxReportedRejections = maxReportedRejections;
+		}
+
+		private void reject(long lineNumber, String reason) {
+			rejectedCount++;
+			if (rejections.size() < maxReportedRejections) {
+				rejections.add(new AccountImportRejectionDto(lineNumber, reason));
+			}
+		}
+
+		private AccountImportReportDto toDto(long elapsedMillis) {
+			return new AccountImportReportDto(totalRows, importedCount, rejectedCount, elapsedMillis, rejections);
+		}
+	}
+}
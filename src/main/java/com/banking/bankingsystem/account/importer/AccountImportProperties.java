@@ -0,0 +1,37 @@
+package com.banking.bankingsystem.account.importer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@ConfigurationProperties(prefix = "banking.account-import")
+public class AccountImportProperties {
+
+	/**
+	 * Tek bir veritabanı işleminde eklenen satır sayısı. Satırlar bu boyutta parçalar halinde doğrulanır.
+	 */
+	private int batchSize = 1000;
+
+	/**
+	 * Parçaları aynı anda doğrulayan iş parçacığı sayısı. Ekleme tek bir bağlantı üzerinden sırayla yapılır; okunup henüz
+	 * eklenmemiş parça sayısı da bu değerle sınırlıdır.
+	 */
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Tırnaklı alan içeren bir kaydın kaplayabileceği en fazla satır sayısı. Tırnağı bu kadar satırda kapanmayan kaydın yalnızca
+	 * ilk satırı reddedilir ve okuma sonraki satırdan sürer.
+	 */
+	private int maxRecordLines = 100;
+
+	/**
+	 * Raporda ayrıntısı listelenen en fazla reddedilen satır sayısı. Toplam sayı her zaman raporlanır.
+	 */
+	private int maxReportedRejections = 1000;
+}
@@ -0,0 +1,117 @@
+package com.banking.bankingsystem.account.importer;
+
+import com.banking.bankingsystem.account.dto.AccountDto;
+import com.banking.bankingsystem.common.outbox.OutboxWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * İçe aktarılan hesapları parça parça ekler. Aynı kimlik numarası ve hesap türüyle kayıtlı hesaplar satır başına sorgu
+ * yapılmadan {@code uq_account_identity_type} kısıtıyla ayıklanır. Her parça, hesapların {@code ACCOUNT_CREATED} outbox
+ * olaylarıyla birlikte tek bir veritabanı işleminde yazılır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Component
+@RequiredArgsConstructor
+public class AccountImportWriter {
+
+	private static final String INSERT_ACCOUNT = "insert into account (id, identity_no, first_name, last_name, account_type, balance, version) values (?, ?, ?, ?, ?, 0, 0)";
+
+	/**
+	 * PostgreSQL'de parçanın tamamı dizi parametreleriyle tek ifadede eklenir. Çakışan satırlar atlanır ve yalnızca eklenen
+	 * satırların id'leri döner; dosya içindeki tekrarlarda ilk satır eklenir.
+	 */
+	private static final String INSERT_ACCOUNTS_UNNEST = "insert into account (id, identity_no, first_name, last_name, account_type, balance, version) "
+			+ "select id, identity_no, first_name, last_name, account_type, 0, 0 "
+			+ "from unnest(?::uuid[], ?::numeric[], ?::varchar[], ?::varchar[], ?::varchar[]) as t(id, identity_no, first_name, last_name, account_type) "
+			+ "on conflict on constraint uq_account_identity_type do nothing returning id";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final OutboxWriter outboxWriter;
+
+	private volatile Boolean postgres;
+
+	/**
+	 * Hesapları ekler ve eklenenlerin id'lerini döner. Dönen kümede olmayan hesaplar kayıtlı bir hesapla ya da parçadaki önceki
+	 * bir satırla çakışmıştır.
+	 */
+	public Set<UUID> write(List<AccountDto> accounts) {
+		return isPostgres() ? writeUnnest(accounts) : writeBatch(accounts);
+	}
+
+	private Set<UUID> writeUnnest(List<AccountDto> accounts) {
+		return transactionTemplate.execute(status -> {
+			final Set<UUID> inserted = new HashSet<>(jdbcTemplate.query(connection -> {
+				final PreparedStatement statement = connection.prepareStatement(INSERT_ACCOUNTS_UNNEST);
+				statement.setArray(1, connection.createArrayOf("uuid", accounts.stream().map(AccountDto::getId).toArray()));
+				statement.setArray(2, connection.createArrayOf("numeric", accounts.stream().map(AccountDto::getIdentityNo).toArray()));
+				statement.setArray(3, connection.createArrayOf("varchar", accounts.stream().map(AccountDto::getFirstName).toArray()));
+				statement.setArray(4, connection.createArrayOf("varchar", accounts.stream().map(AccountDto::getLastName).toArray()));
+				statement.setArray(5, connection.createArrayOf("varchar", accounts.stream().map(account -> account.getAccountType().name()).toArray()));
+				return statement;
+			}, (resultSet, rowNum) -> resultSet.getObject(1, UUID.class)));
+
+			outboxWriter.appendAccounts(accounts.stream().filter(account -> inserted.contains(account.getId())).toList());
+			return inserted;
+		});
+	}
+
+	/**
+	 * Parça tek bir JDBC batch'i ile eklenir. Kısıt ihlali olursa parça geri alınır ve satırlar tek tek, her biri kendi
+	 * işleminde yeniden eklenir; böylece yalnızca çakışan satırlar dışarıda kalır.
+	 */
+	private Set<UUID> writeBatch(List<AccountDto> accounts) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				jdbcTemplate.batchUpdate(INSERT_ACCOUNT, accounts.stream().map(AccountImportWriter::row).toList());
+				outboxWriter.appendAccounts(accounts);
+			});
+			return accounts.stream().map(AccountDto::getId).collect(Collectors.toSet());
+		} catch (DuplicateKeyException e) {
+			final Set<UUID> inserted = new HashSet<>();
+			for (AccountDto account : accounts) {
+				try {
+					transactionTemplate.executeWithoutResult(status -> {
+						jdbcTemplate.update(INSERT_ACCOUNT, row(account));
+						outboxWriter.appendAccounts(List.of(account));
+					});
+					inserted.add(account.getId());
+				} catch (DuplicateKeyException duplicate) {
+					// kayıtlı bir hesapla ya da parçadaki önceki bir satırla çakışıyor
+				}
+			}
+			return inserted;
+		}
+	}
+
+	private static Object[] row(AccountDto account) {
+		return new Object[] { account.getId(), account.getIdentityNo(), account.getFirstName(), account.getLastName(), account.getAccountType().name() };
+	}
+
+	private boolean isPostgres() {
+		if (Objects.isNull(postgres)) {
+			final String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+			postgres = "PostgreSQL".equals(product);
+		}
+		return postgres;
+	}
+}
@@ -33,5 +33,6 @@ public interface AccountMapper {
 	@Mapping(target = "accountType", ignore = true)
 	@Mapping(target = "balance", ignore = true)
 	@Mapping(target = "transactions", ignore = true)
+	@Mapping(target = "version", ignore = true)
 	void updateAccountFromUpdateAccountRequestDto(UpdateAccountRequestDto updateAccountRequestDto, @MappingTarget Account account);
 }
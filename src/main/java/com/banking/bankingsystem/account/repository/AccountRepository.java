@@ -2,11 +2,17 @@ package com.banking.bankingsystem.account.repository;
 
 import com.banking.bankingsystem.account.data.Account;
 import com.banking.bankingsystem.account.data.AccountType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -16,7 +22,22 @@ import java.util.UUID;
  */
 
 @Repository
-public interface AccountRepository extends JpaRepository<Account, UUID> {
+public interface AccountRepository extends JpaRepository<Account, UUID>, AccountRepositoryCustom {
 
 	boolean existsByIdentityNoAndAccountType(BigDecimal identityNo, AccountType accountType);
+
+	/**
+	 * Yalnızca sürüm kolonunu okur. Bakiye ya da ad bilgisi değiştiğinde sürüm de arttığı için koşullu GET istekleri hesabı
+	 * yüklemeden bu değerle yanıtlanır.
+	 */
+	@Query("select a.version from Account a where a.id = :id")
+	Optional<Long> findVersionById(@Param("id") UUID id);
+
+	/**
+	 * Hesapları id sırasıyla kilitleyerek getirir. Aynı hesap kümesini kilitleyen eşzamanlı işlemler kilitleri aynı sırada
+	 * aldığı için birbirini kilitlenmeye (deadlock) sokmaz.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select a from Account a where a.id in :ids order by a.id")
+	List<Account> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
 }
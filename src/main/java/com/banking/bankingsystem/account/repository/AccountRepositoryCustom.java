@@ -0,0 +1,45 @@
+package com.banking.bankingsystem.account.repository;
+
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.dto.AccountDto;
+import com.banking.bankingsystem.common.money.Money;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public interface AccountRepositoryCustom {
+
+	/**
+	 * Hesabı doğrudan DTO'ya seçer; entity persistence context'e girmez.
+	 */
+	Optional<AccountDto> findDtoById(UUID id);
+
+	/**
+	 * Hesapları id sırasıyla, {@code afterId}'den sonra gelen en fazla {@code limit} adet olarak getirir. Satırlar doğrudan
+	 * DTO'ya seçilir; entity ve ilişkili işlem koleksiyonu yüklenmez. Hesap türü filtresi verildiğinde (account_type, id)
+	 * indeksi üzerinde seek yapılır.
+	 *
+	 * @param accountType null ise tüm hesap türleri
+	 * @param afterId     null ise ilk sayfa
+	 */
+	List<AccountDto> findPageAfter(AccountType accountType, UUID afterId, int limit);
+
+	/**
+	 * Hareketin tutarını bakiyeye tek bir koşullu UPDATE ile uygular ve hareket satırını ekler. Yatırma bakiyeyi artırır,
+	 * çekme azaltır; bakiye 0'ın altına düşecek ya da {@code maxBalance}'ı aşacaksa satır güncellenmez ve hareket eklenmez.
+	 * Sürüm de artırılır, böylece hesabı önceden okumuş bir güncelleme optimistic lock çakışması alır. PostgreSQL'de UPDATE
+	 * ve INSERT tek ifadede, tek gidiş-dönüşte çalışır.
+	 *
+	 * @return hesabın yeni bakiyesi, hesap yoksa ya da koşul sağlanmıyorsa boş
+	 */
+	Optional<Money> applyTransaction(AccountTransactionDto transaction, BigDecimal maxBalance);
+}
@@ -0,0 +1,125 @@
+package com.banking.bankingsystem.account.repository;
+
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.data.QAccount;
+import com.banking.bankingsystem.account.dto.AccountDto;
+import com.banking.bankingsystem.common.money.Money;
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@RequiredArgsConstructor
+public class AccountRepositoryCustomImpl implements AccountRepositoryCustom {
+
+	private static final QAccount ACCOUNT = QAccount.account;
+
+	private static final QBean<AccountDto> ACCOUNT_DTO = Projections.bean(AccountDto.class, ACCOUNT.id, ACCOUNT.identityNo, ACCOUNT.firstName,
+			ACCOUNT.lastName, ACCOUNT.accountType, ACCOUNT.balance, ACCOUNT.version);
+
+	private static final String BALANCE_CONDITION = "where id = ? and balance + ? >= 0 and balance + ? <= ?";
+
+	/**
+	 * PostgreSQL'de bakiye UPDATE'i, yeni bakiyeyi RETURNING ile döner ve hareket satırı aynı ifadede yalnızca güncellenen
+	 * satır için eklenir.
+	 */
+	private static final String APPLY_TRANSACTION_RETURNING = "with moved as (update account set balance = balance + ?, version = version + 1 "
+			+ BALANCE_CONDITION + " returning id, balance, account_type), "
+			+ "inserted as (insert into account_transaction (id, account_id, transaction_date, transaction_type, amount) select ?, id, ?, ?, ? from moved) "
+			+ "select balance, account_type from moved";
+
+	/**
+	 * Diğer veritabanlarında yeni bakiye UPDATE'in FINAL TABLE sonucundan okunur, hareket ayrı bir INSERT ile eklenir.
+	 */
+	private static final String APPLY_BALANCE_FINAL_TABLE = "select balance, account_type from final table (update account set balance = balance + ?, "
+			+ "version = version + 1 " + BALANCE_CONDITION + ")";
+
+	private static final String INSERT_TRANSACTION = "insert into account_transaction (id, account_id, transaction_date, transaction_type, amount) values (?, ?, ?, ?, ?)";
+
+	private static final RowMapper<Money> BALANCE = (resultSet, rowNum) -> Money.of(resultSet.getBigDecimal(1), AccountType.valueOf(resultSet.getString(2)));
+
+	private final EntityManager entityManager;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private volatile Boolean postgres;
+
+	@Override
+	public Optional<AccountDto> findDtoById(UUID id) {
+		return Optional.ofNullable(new JPAQuery<>(entityManager)
+										   .select(ACCOUNT_DTO)
+										   .from(ACCOUNT)
+										   .where(ACCOUNT.id.eq(id))
+										   .setHint(HibernateHints.HINT_READ_ONLY, true)
+										   .fetchOne());
+	}
+
+	@Override
+	public List<AccountDto> findPageAfter(AccountType accountType, UUID afterId, int limit) {
+		final BooleanBuilder builder = new BooleanBuilder();
+
+		if (Objects.nonNull(accountType)) {
+			builder.and(ACCOUNT.accountType.eq(accountType));
+		}
+
+		if (Objects.nonNull(afterId)) {
+			builder.and(ACCOUNT.id.gt(afterId));
+		}
+
+		return new JPAQuery<>(entityManager)
+				.select(ACCOUNT_DTO)
+				.from(ACCOUNT)
+				.where(builder)
+				.orderBy(ACCOUNT.id.asc())
+				.limit(limit)
+				.setHint(HibernateHints.HINT_READ_ONLY, true)
+				.fetch();
+	}
+
+	@Override
+	public Optional<Money> applyTransaction(AccountTransactionDto transaction, BigDecimal maxBalance) {
+		final BigDecimal delta = transaction.getTransactionType() == TransactionType.DEPOSIT ? transaction.getAmount() : transaction.getAmount().negate();
+		final Timestamp transactionDate = Timestamp.valueOf(transaction.getTransactionDate());
+		final String transactionType = transaction.getTransactionType().name();
+
+		if (isPostgres()) {
+			return jdbcTemplate.query(APPLY_TRANSACTION_RETURNING, BALANCE, delta, transaction.getAccountId(), delta, delta, maxBalance,
+									  transaction.getId(), transactionDate, transactionType, transaction.getAmount()).stream().findFirst();
+		}
+
+		final Optional<Money> balance = jdbcTemplate.query(APPLY_BALANCE_FINAL_TABLE, BALANCE, delta, transaction.getAccountId(), delta, delta, maxBalance)
+				.stream().findFirst();
+		balance.ifPresent(ignored -> jdbcTemplate.update(INSERT_TRANSACTION, transaction.getId(), transaction.getAccountId(), transactionDate,
+														 transactionType, transaction.getAmount()));
+		return balance;
+	}
+
+	private boolean isPostgres() {
+		if (Objects.isNull(postgres)) {
+			final String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+			postgres = "PostgreSQL".equals(product);
+		}
+		return postgres;
+	}
+}
@@ -5,14 +5,31 @@ import com.banking.bankingsystem.account.data.AccountType;
 import com.banking.bankingsystem.account.dto.AccountDto;
 import com.banking.bankingsystem.account.dto.CreateAccountRequestDto;
 import com.banking.bankingsystem.account.dto.UpdateAccountRequestDto;
+import com.banking.bankingsystem.account.event.AccountChangedEvent;
 import com.banking.bankingsystem.account.mapper.AccountMapper;
 import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.common.dto.CursorPageDto;
+import com.banking.bankingsystem.common.metrics.Operation;
+import com.banking.bankingsystem.common.metrics.OperationMetrics;
+import com.banking.bankingsystem.common.metrics.RejectionReason;
+import com.banking.bankingsystem.common.outbox.OutboxEventType;
+import com.banking.bankingsystem.common.outbox.OutboxWriter;
+import com.banking.bankingsystem.config.CacheConfig;
+import com.banking.bankingsystem.config.RetryConfig;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -25,44 +42,124 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AccountService {
 
+	public static final int MAX_PAGE_SIZE = 1000;
+
 	private final AccountRepository accountRepository;
 
+	private final OperationMetrics operationMetrics;
+
+	private final OutboxWriter outboxWriter;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Transactional
 	public AccountDto createAccount(CreateAccountRequestDto request) {
 		final BigDecimal identityNumber = request.getIdentityNo();
 		final AccountType accountType = request.getAccountType();
 
-		final boolean exists = accountRepository.existsByIdentityNoAndAccountType(identityNumber, accountType);
+		final boolean exists = operationMetrics.db(Operation.ACCOUNT_CREATE,
+												   () -> accountRepository.existsByIdentityNoAndAccountType(identityNumber, accountType));
 
 		if (exists) {
 			throw new IllegalArgumentException("Bu kimlik numarasına sahip bu türde bir hesap bulunmaktadır.");
 		}
 
-		final Account account = AccountMapper.INSTANCE.createAccountFromCreateAccountRequestDto(request);
+		final Account account = operationMetrics.mapping(Operation.ACCOUNT_CREATE,
+														 () -> AccountMapper.INSTANCE.createAccountFromCreateAccountRequestDto(request));
+		final Account saved = operationMetrics.db(Operation.ACCOUNT_CREATE, () -> accountRepository.save(account));
 
-		return AccountMapper.INSTANCE.accountToAccountDto(accountRepository.save(account));
+		final AccountDto result = operationMetrics.mapping(Operation.ACCOUNT_CREATE, () -> AccountMapper.INSTANCE.accountToAccountDto(saved));
+		operationMetrics.db(Operation.ACCOUNT_CREATE, () -> outboxWriter.append(OutboxEventType.ACCOUNT_CREATED, result.getId(), result));
+		return result;
 	}
 
-	public List<AccountDto> getAllAccounts() {
-		return AccountMapper.INSTANCE.accountsToAccountDtoList(accountRepository.findAll());
+	/**
+	 * Hesapları id sırasıyla imleç tabanlı sayfalar halinde getirir. İmleç, önceki sayfanın son hesap id'sidir; sayfa
+	 * OFFSET kullanılmadan doğrudan indeks üzerinden bulunduğu için süre tablo büyüklüğünden bağımsızdır.
+	 */
+	@Transactional(readOnly = true)
+	public CursorPageDto<AccountDto> getAccounts(AccountType accountType, String cursor, int size) {
+		if (size < 1 || size > MAX_PAGE_SIZE) {
+			throw new IllegalArgumentException("Sayfa boyutu 1 ile " + MAX_PAGE_SIZE + " arasında olmalıdır.");
+		}
+
+		final UUID afterId = decodeCursor(cursor);
+		final List<AccountDto> rows = operationMetrics.db(Operation.ACCOUNT_LIST, () -> accountRepository.findPageAfter(accountType, afterId, size + 1));
+		final boolean hasNext = rows.size() > size;
+		final List<AccountDto> content = hasNext ? rows.subList(0, size) : rows;
+
+		return new CursorPageDto<>(content, hasNext ? content.getLast().getId().toString() : null);
 	}
 
+	@Cacheable(cacheNames = CacheConfig.ACCOUNTS, key = "#id", sync = true)
+	@Transactional(readOnly = true)
 	public AccountDto getAccountById(UUID id) {
-		return AccountMapper.INSTANCE.accountToAccountDto(
-				accountRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Hesap bulunamadı.")));
+		return operationMetrics.db(Operation.ACCOUNT_GET, () -> accountRepository.findDtoById(id))
+				.orElseThrow(() -> notFound(Operation.ACCOUNT_GET, "Hesap bulunamadı."));
+	}
+
+	/**
+	 * Hesabın güncel sürümünü önbelleğe bakmadan veritabanından okur. Para yatırma / çekme, transfer ve hesap güncellemesi
+	 * sürümü artırır.
+	 */
+	@Transactional(readOnly = true)
+	public long getAccountVersion(UUID id) {
+		return operationMetrics.db(Operation.ACCOUNT_GET, () -> accountRepository.findVersionById(id))
+				.orElseThrow(() -> notFound(Operation.ACCOUNT_GET, "Hesap bulunamadı."));
 	}
 
+	/**
+	 * Hesap okunup değiştirildikten sonra kaydedilir. Arada bakiye ya da ad bilgisi değişmişse sürüm uyuşmaz ve işlem güncel
+	 * kayıt üzerinden yeniden denenir; böylece eşzamanlı bir para yatırma işleminin bakiyesi ezilmez. UPDATE outbox kaydından
+	 * önce flush edilir; sürüm çakışması outbox'a yazmadan alınır ve olay artırılmış sürümü taşır. Önbellekteki hesap
+	 * {@link AccountChangedEvent} ile commit'ten sonra çıkarılır.
+	 */
+	@Retryable(retryFor = ConcurrencyFailureException.class, label = "account.update", maxAttemptsExpression = RetryConfig.MAX_ATTEMPTS,
+			   backoff = @Backoff(delayExpression = RetryConfig.DELAY, maxDelayExpression = RetryConfig.MAX_DELAY,
+								  multiplierExpression = RetryConfig.MULTIPLIER, random = true))
+	@Transactional
 	public AccountDto updateAccount(UUID id, UpdateAccountRequestDto request) {
-		final Account account = accountRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Güncellenecek hesap bulunamadı."));
+		final Account account = operationMetrics.db(Operation.ACCOUNT_UPDATE, () -> accountRepository.findById(id))
+				.orElseThrow(() -> notFound(Operation.ACCOUNT_UPDATE, "Güncellenecek hesap bulunamadı."));
 
-		AccountMapper.INSTANCE.updateAccountFromUpdateAccountRequestDto(request, account);
+		operationMetrics.mapping(Operation.ACCOUNT_UPDATE, () -> AccountMapper.INSTANCE.updateAccountFromUpdateAccountRequestDto(request, account));
+		final Account saved = operationMetrics.db(Operation.ACCOUNT_UPDATE, () -> accountRepository.saveAndFlush(account));
 
-		return AccountMapper.INSTANCE.accountToAccountDto(accountRepository.save(account));
+		final AccountDto result = operationMetrics.mapping(Operation.ACCOUNT_UPDATE, () -> AccountMapper.INSTANCE.accountToAccountDto(saved));
+		operationMetrics.db(Operation.ACCOUNT_UPDATE, () -> outboxWriter.append(OutboxEventType.ACCOUNT_UPDATED, id, result));
+		eventPublisher.publishEvent(new AccountChangedEvent(id));
+		return result;
 	}
 
+	@Retryable(retryFor = ConcurrencyFailureException.class, label = "account.delete", maxAttemptsExpression = RetryConfig.MAX_ATTEMPTS,
+			   backoff = @Backoff(delayExpression = RetryConfig.DELAY, maxDelayExpression = RetryConfig.MAX_DELAY,
+								  multiplierExpression = RetryConfig.MULTIPLIER, random = true))
+	@Transactional
 	public void deleteAccountById(UUID id) {
-		if (!accountRepository.existsById(id)) {
-			throw new EntityNotFoundException("Silinecek hesap bulunamadı.");
+		if (!operationMetrics.db(Operation.ACCOUNT_DELETE, () -> accountRepository.existsById(id))) {
+			throw notFound(Operation.ACCOUNT_DELETE, "Silinecek hesap bulunamadı.");
+		}
+		operationMetrics.db(Operation.ACCOUNT_DELETE, () -> {
+			accountRepository.deleteById(id);
+			outboxWriter.append(OutboxEventType.ACCOUNT_DELETED, id, Map.of("id", id));
+		});
+		eventPublisher.publishEvent(new AccountChangedEvent(id));
+	}
+
+	private EntityNotFoundException notFound(Operation operation, String message) {
+		operationMetrics.rejected(operation, RejectionReason.NOT_FOUND);
+		return new EntityNotFoundException(message);
+	}
+
+	private static UUID decodeCursor(String cursor) {
+		if (Objects.isNull(cursor)) {
+			return null;
+		}
+
+		try {
+			return UUID.fromString(cursor);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Geçersiz imleç.");
 		}
-		accountRepository.deleteById(id);
 	}
 }
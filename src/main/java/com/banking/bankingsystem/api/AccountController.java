@@ -1,9 +1,14 @@
 package com.banking.bankingsystem.api;
 
+import com.banking.bankingsystem.account.data.AccountType;
 import com.banking.bankingsystem.account.dto.AccountDto;
+import com.banking.bankingsystem.account.dto.AccountImportReportDto;
 import com.banking.bankingsystem.account.dto.CreateAccountRequestDto;
 import com.banking.bankingsystem.account.dto.UpdateAccountRequestDto;
+import com.banking.bankingsystem.account.importer.AccountCsvImporter;
 import com.banking.bankingsystem.account.service.AccountService;
+import com.banking.bankingsystem.common.dto.CursorPageDto;
+import com.banking.bankingsystem.transaction.ledger.LedgerEngine;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,11 +16,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -32,6 +41,10 @@ public class AccountController {
 
 	private final AccountService accountService;
 
+	private final ObjectProvider<LedgerEngine> ledgerEngine;
+
+	private final AccountCsvImporter accountCsvImporter;
+
 	@Operation(summary = "Hesap oluştur", description = "Kullanıcının kimlik numarası, adı, soyadı ve hesap türü ile yeni hesap oluşturur")
 	@ApiResponses({ @ApiResponse(responseCode = "201", description = "Hesap başarıyla oluşturuldu"),
 			@ApiResponse(responseCode = "400", description = "Geçersiz giriş verisi") })
@@ -41,16 +54,45 @@ public class AccountController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(accountService.createAccount(request));
 	}
 
-	@Operation(summary = "Tüm hesapları getir", description = "Sistemdeki tüm hesapları listeler")
+	@Operation(summary = "CSV'den hesap aktar",
+			   description = "identityNo, firstName, lastName ve accountType kolonlarını içeren CSV dosyasındaki hesapları parçalar halinde ekler. "
+					   + "Hatalı ya da kayıtlı hesaplarla çakışan satırlar atlanır ve satır numarasıyla raporlanır")
+	@ApiResponses({ @ApiResponse(responseCode = "200", description = "Aktarım tamamlandı, rapor döndü"),
+			@ApiResponse(responseCode = "400", description = "Dosya boş ya da başlıkta zorunlu kolon eksik") })
+	@PostMapping(path = "/import", consumes = "text/csv")
+	public ResponseEntity<AccountImportReportDto> importAccounts(@Parameter(description = "Aktarılacak CSV dosyası") InputStream csv)
+			throws IOException {
+		return ResponseEntity.ok(accountCsvImporter.importCsv(csv));
+	}
+
+	@Operation(summary = "Hesapları listele", description = "Hesapları id sırasıyla imleç tabanlı sayfalar halinde listeler, isteğe bağlı olarak hesap türüne göre filtreler")
+	@ApiResponses({ @ApiResponse(responseCode = "200", description = "Hesaplar başarıyla listelendi"),
+			@ApiResponse(responseCode = "400", description = "Geçersiz imleç ya da sayfa boyutu") })
 	@GetMapping
-	public ResponseEntity<List<AccountDto>> getAllAccounts() {
-		return ResponseEntity.ok(accountService.getAllAccounts());
+	public ResponseEntity<CursorPageDto<AccountDto>> getAccounts(
+			@RequestParam(required = false) @Parameter(description = "Hesap türü") AccountType accountType,
+			@RequestParam(required = false) @Parameter(description = "Önceki sayfadan dönen imleç") String cursor,
+			@RequestParam(defaultValue = "50") @Parameter(description = "Sayfadaki veri miktarı") int size) {
+		return ResponseEntity.ok(accountService.getAccounts(accountType, cursor, size));
 	}
 
-	@Operation(summary = "Id ile hesap getir", description = "Belirtilen id'ye sahip hesabı getirir")
+	@Operation(summary = "Id ile hesap getir",
+			   description = "Belirtilen id'ye sahip hesabı getirir. If-None-Match hesabın güncel sürümüyle eşleşirse hesap yüklenmeden 304 döner")
+	@ApiResponses({ @ApiResponse(responseCode = "200", description = "Hesap başarıyla getirildi"),
+			@ApiResponse(responseCode = "304", description = "Hesap son alınan ETag'den beri değişmedi"),
+			@ApiResponse(responseCode = "404", description = "Hesap bulunamadı") })
 	@GetMapping("/{id}")
-	public ResponseEntity<AccountDto> getAccountById(@PathVariable @Parameter(description = "Görüntülenecek hesap id") UUID id) {
-		return ResponseEntity.ok(accountService.getAccountById(id));
+	public ResponseEntity<AccountDto> getAccountById(@PathVariable @Parameter(description = "Görüntülenecek hesap id") UUID id,
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(description = "Önceki yanıttan alınan ETag") String ifNoneMatch) {
+		if (Objects.nonNull(ifNoneMatch)) {
+			final String eTag = VersionETag.of(accountService.getAccountVersion(id));
+			if (VersionETag.matches(ifNoneMatch, eTag)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+			}
+		}
+
+		final AccountDto account = accountService.getAccountById(id);
+		return ResponseEntity.ok().eTag(VersionETag.of(account.getVersion())).body(account);
 	}
 
 	@Operation(summary = "Hesap güncelle", description = "Belirtilen id'ye sahip hesabın ad ve soyad bilgilerini günceller")
@@ -63,10 +105,22 @@ public class AccountController {
 		return ResponseEntity.ok(accountService.updateAccount(id, request));
 	}
 
+	/**
+	 * Ledger açıkken bakiye hesabın shard'ında önbelleğe alınır ve günlükteki kayıtlar veritabanına sonradan uygulanır. Silme
+	 * bu yüzden shard üzerinden yürütülür; hesabın henüz uygulanmamış kaydı varsa reddedilir.
+	 */
 	@Operation(summary = "Hesap sil", description = "Belirtilen id'ye sahip hesabı siler")
+	@ApiResponses({ @ApiResponse(responseCode = "204", description = "Hesap silindi"),
+			@ApiResponse(responseCode = "404", description = "Hesap bulunamadı"),
+			@ApiResponse(responseCode = "409", description = "Hesabın veritabanına henüz uygulanmamış hareketleri var") })
 	@DeleteMapping("/{id}")
 	public ResponseEntity<Void> deleteAccountById(@PathVariable @Parameter(description = "Silinecek hesap id") UUID id) {
-		accountService.deleteAccountById(id);
+		final LedgerEngine engine = ledgerEngine.getIfAvailable();
+		if (engine != null) {
+			engine.deleteAccount(id, () -> accountService.deleteAccountById(id));
+		} else {
+			accountService.deleteAccountById(id);
+		}
 		return ResponseEntity.noContent().build();
 	}
 }
@@ -1,9 +1,27 @@
 package com.banking.bankingsystem.api;
 
+import com.banking.bankingsystem.account.service.AccountService;
+import com.banking.bankingsystem.common.dto.CursorPageDto;
+import com.banking.bankingsystem.transaction.binary.TransactionBinaryCodec;
 import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
 import com.banking.bankingsystem.transaction.dto.AccountTransactionSearchRequest;
+import com.banking.bankingsystem.transaction.dto.BatchTransactionRequestDto;
+import com.banking.bankingsystem.transaction.dto.BalanceAsOfDto;
+import com.banking.bankingsystem.transaction.dto.BalanceRebuildReportDto;
+import com.banking.bankingsystem.transaction.dto.BalanceSnapshotDto;
+import com.banking.bankingsystem.transaction.dto.BatchTransactionResultDto;
+import com.banking.bankingsystem.transaction.dto.DailyAccountSummaryDto;
 import com.banking.bankingsystem.transaction.dto.TransactionRequestDto;
+import com.banking.bankingsystem.transaction.dto.TransferRequestDto;
+import com.banking.bankingsystem.transaction.dto.TransferResultDto;
+import com.banking.bankingsystem.transaction.export.AccountTransactionExporter;
+import com.banking.bankingsystem.transaction.export.TransactionExportFormat;
+import com.banking.bankingsystem.transaction.idempotency.IdempotencyStore;
+import com.banking.bankingsystem.transaction.ledger.LedgerEngine;
+import com.banking.bankingsystem.transaction.search.TransactionSearchCache;
 import com.banking.bankingsystem.transaction.service.AccountTransactionService;
+import com.banking.bankingsystem.transaction.service.BalanceRebuildService;
+import com.banking.bankingsystem.transaction.service.DailyAccountSummaryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,12 +29,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -31,40 +57,181 @@ import java.util.UUID;
 @Tag(name = "Hesap Hareketleri", description = "Para yatırma / çekme işlemleri")
 public class AccountTransactionController {
 
+	public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
 	private final AccountTransactionService accountTransactionService;
 
+	private final AccountService accountService;
+
+	private final ObjectProvider<LedgerEngine> ledgerEngine;
+
+	private final AccountTransactionExporter accountTransactionExporter;
+
+	private final DailyAccountSummaryService dailyAccountSummaryService;
+
+	private final BalanceRebuildService balanceRebuildService;
+
+	private final TransactionSearchCache transactionSearchCache;
+
 	@PostMapping("/{accountId}/deposit")
 	@Operation(summary = "Hesaba para yatırma işlemi", description = "Belirtilen hesaba para yatırma işlemi gerçekleştirir.")
 	@ApiResponses(value = { @ApiResponse(responseCode = "201", description = "İşlem başarıyla gerçekleştirildi"),
 			@ApiResponse(responseCode = "400", description = "Geçersiz işlem veya yetersiz bakiye"),
-			@ApiResponse(responseCode = "404", description = "Hesap bulunamadı") })
+			@ApiResponse(responseCode = "404", description = "Hesap bulunamadı"),
+			@ApiResponse(responseCode = "409", description = "Aynı Idempotency-Key ile eşzamanlı bir istek işleniyor") })
 	public ResponseEntity<AccountTransactionDto> deposit(@PathVariable @Parameter(description = "İşlem yapılacak hesap id") UUID accountId,
-			@Valid @RequestBody TransactionRequestDto request) {
-		return ResponseEntity.status(HttpStatus.CREATED).body(accountTransactionService.deposit(accountId, request));
+			@Valid @RequestBody TransactionRequestDto request,
+			@RequestHeader(name = IDEMPOTENCY_KEY, required = false)
+			@Parameter(description = "Tekrarlanan isteklerin ilk işlemin sonucunu almasını sağlayan istemci anahtarı") String idempotencyKey) {
+		IdempotencyStore.validate(idempotencyKey);
+		request.setIdempotencyKey(idempotencyKey);
+
+		final LedgerEngine engine = ledgerEngine.getIfAvailable();
+		return ResponseEntity.status(HttpStatus.CREATED)
+				.body(engine != null ? engine.deposit(accountId, request) : accountTransactionService.deposit(accountId, request));
 	}
 
 	@PostMapping("/{accountId}/withdraw")
 	@Operation(summary = "Hesaptan para çekme işlemi", description = "Belirtilen hesaptan para çekme işlemi gerçekleştirir.")
 	@ApiResponses(value = { @ApiResponse(responseCode = "201", description = "İşlem başarıyla gerçekleştirildi"),
 			@ApiResponse(responseCode = "400", description = "Geçersiz işlem veya yetersiz bakiye"),
-			@ApiResponse(responseCode = "404", description = "Hesap bulunamadı") })
+			@ApiResponse(responseCode = "404", description = "Hesap bulunamadı"),
+			@ApiResponse(responseCode = "409", description = "Aynı Idempotency-Key ile eşzamanlı bir istek işleniyor") })
 	public ResponseEntity<AccountTransactionDto> withdraw(@PathVariable @Parameter(description = "İşlem yapılacak hesap id") UUID accountId,
-			@Valid @RequestBody TransactionRequestDto request) {
-		return ResponseEntity.status(HttpStatus.CREATED).body(accountTransactionService.withdraw(accountId, request));
+			@Valid @RequestBody TransactionRequestDto request,
+			@RequestHeader(name = IDEMPOTENCY_KEY, required = false)
+			@Parameter(description = "Tekrarlanan isteklerin ilk işlemin sonucunu almasını sağlayan istemci anahtarı") String idempotencyKey) {
+		IdempotencyStore.validate(idempotencyKey);
+		request.setIdempotencyKey(idempotencyKey);
+
+		final LedgerEngine engine = ledgerEngine.getIfAvailable();
+		return ResponseEntity.status(HttpStatus.CREATED)
+				.body(engine != null ? engine.withdraw(accountId, request) : accountTransactionService.withdraw(accountId, request));
 	}
 
+	@PostMapping("/batch")
+	@Operation(summary = "Toplu para yatırma / çekme işlemi",
+			   description = "Birden fazla hesap için para yatırma ve çekme kalemlerini tek istekte uygular ve her kalemin sonucunu döner.")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Kalemler işlendi"),
+			@ApiResponse(responseCode = "400", description = "Geçersiz istek") })
+	public ResponseEntity<List<BatchTransactionResultDto>> processBatch(@Valid @RequestBody BatchTransactionRequestDto request) {
+		final LedgerEngine engine = ledgerEngine.getIfAvailable();
+		return ResponseEntity.ok(engine != null ? engine.processBatch(request) : accountTransactionService.processBatch(request));
+	}
+
+	/**
+	 * Ledger açıkken bakiyeler shard'larda tutulur ve günlükten veritabanına sonradan uygulanır. İki hesap farklı shard'larda
+	 * olabildiği için transfer tek bir işlemde yapılamaz; veritabanındaki bakiye henüz uygulanmamış kayıtları içermediğinden
+	 * JPA yolu da kullanılamaz. Bu durumda istek reddedilir.
+	 */
+	@PostMapping("/transfer")
+	@Operation(summary = "Hesaplar arası transfer",
+			   description = "Gönderen hesaptan çekme ve alıcı hesaba yatırma işlemini tek bir veritabanı işleminde gerçekleştirir. Ledger motoru açıkken kullanılamaz.")
+	@ApiResponses(value = { @ApiResponse(responseCode = "201", description = "Transfer başarıyla gerçekleştirildi"),
+			@ApiResponse(responseCode = "400", description = "Geçersiz işlem, yetersiz bakiye veya farklı para birimi"),
+			@ApiResponse(responseCode = "404", description = "Hesap bulunamadı"),
+			@ApiResponse(responseCode = "501", description = "Ledger motoru açıkken transfer desteklenmiyor") })
+	public ResponseEntity<TransferResultDto> transfer(@Valid @RequestBody TransferRequestDto request) {
+		if (ledgerEngine.getIfAvailable() != null) {
+			throw new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED, "Ledger motoru açıkken hesaplar arası transfer yapılamaz.");
+		}
+		return ResponseEntity.status(HttpStatus.CREATED).body(accountTransactionService.transfer(request));
+	}
+
+	/**
+	 * Sürüm listeden önce okunur. Arada yeni bir işlem eklenirse yanıt eski sürümün ETag'iyle döner ve istemci bir sonraki
+	 * istekte listeyi yeniden alır; tersi olsaydı eksik liste yeni ETag ile önbellekte kalabilirdi.
+	 */
 	@GetMapping("/{accountId}")
 	@Operation(summary = "Hesap id ile tüm işlemlerini getir",
-			   description = "Belirli bir hesap için geçmişte yapılan tüm para yatırma/çekme işlemlerini getirir.")
+			   description = "Belirli bir hesap için geçmişte yapılan tüm para yatırma/çekme işlemlerini getirir. If-None-Match hesabın güncel sürümüyle eşleşirse liste yüklenmeden 304 döner.")
 	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "İşlemler başarıyla getirildi"),
+			@ApiResponse(responseCode = "304", description = "İşlemler son alınan ETag'den beri değişmedi"),
 			@ApiResponse(responseCode = "404", description = "Hesap bulunamadı") })
 	public ResponseEntity<List<AccountTransactionDto>> getTransactionsByAccountId(
-			@PathVariable @Parameter(description = "İşlem yapılacak hesap id") UUID accountId) {
-		return ResponseEntity.ok(accountTransactionService.getTransactionsByAccountId(accountId));
+			@PathVariable @Parameter(description = "İşlem yapılacak hesap id") UUID accountId,
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(description = "Önceki yanıttan alınan ETag") String ifNoneMatch,
+			@RequestHeader(name = HttpHeaders.ACCEPT, required = false) @Parameter(hidden = true) String accept) {
+		final long version = accountService.getAccountVersion(accountId);
+		final String eTag = acceptsBinary(accept) ? VersionETag.of(version, "bin") : VersionETag.of(version);
+		if (VersionETag.matches(ifNoneMatch, eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+		}
+
+		return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(accountTransactionService.getTransactionsByAccountId(accountId));
+	}
+
+	@GetMapping("/{accountId}/page")
+	@Operation(summary = "Hesap id ile işlemleri imleç ile sayfalayarak getir",
+			   description = "Hesap hareketlerini en yeniden eskiye doğru, bir önceki sayfadan dönen imleç ile sayfalayarak getirir.")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "İşlemler başarıyla getirildi"),
+			@ApiResponse(responseCode = "400", description = "Geçersiz imleç veya sayfa boyutu") })
+	public ResponseEntity<CursorPageDto<AccountTransactionDto>> getTransactionPageByAccountId(
+			@PathVariable @Parameter(description = "İşlem yapılacak hesap id") UUID accountId,
+			@RequestParam(required = false) @Parameter(description = "Önceki sayfadan dönen imleç") String cursor,
+			@RequestParam(defaultValue = "50") @Parameter(description = "Sayfadaki veri miktarı") int size) {
+		return ResponseEntity.ok(accountTransactionService.getTransactionsByAccountId(accountId, cursor, size));
+	}
+
+	@GetMapping("/{accountId}/balance")
+	@Operation(summary = "Gün sonu bakiyesi", description = "Hesabın belirtilen günün sonundaki bakiyesini günlük özetlerden hesaplar.")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Bakiye başarıyla getirildi"),
+			@ApiResponse(responseCode = "404", description = "Hesap bulunamadı") })
+	public ResponseEntity<BalanceAsOfDto> getBalanceAsOf(@PathVariable @Parameter(description = "İşlem yapılacak hesap id") UUID accountId,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @Parameter(description = "Bakiyesi istenen gün") LocalDate date) {
+		return ResponseEntity.ok(dailyAccountSummaryService.getBalanceAsOf(accountId, date));
+	}
+
+	@GetMapping("/{accountId}/daily-summary")
+	@Operation(summary = "Günlük hareket toplamları", description = "Hesabın tarih aralığındaki her gün için para yatırma / çekme toplamlarını getirir.")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Özetler başarıyla getirildi"),
+			@ApiResponse(responseCode = "400", description = "Geçersiz tarih aralığı"),
+			@ApiResponse(responseCode = "404", description = "Hesap bulunamadı") })
+	public ResponseEntity<List<DailyAccountSummaryDto>> getDailySummaries(
+			@PathVariable @Parameter(description = "İşlem yapılacak hesap id") UUID accountId,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @Parameter(description = "Başlangıç günü") LocalDate fromDate,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @Parameter(description = "Bitiş günü") LocalDate toDate) {
+		return ResponseEntity.ok(dailyAccountSummaryService.getDailySummaries(accountId, fromDate, toDate));
+	}
+
+	@PostMapping("/balance-snapshot")
+	@Operation(summary = "Bakiye snapshot'ı al",
+			   description = "Hesap bakiyelerinin hareket geçmişinden hesaplanan snapshot'ını son snapshot'tan sonraki hareketlerle ilerletir.")
+	public ResponseEntity<BalanceSnapshotDto> takeBalanceSnapshot() {
+		return ResponseEntity.ok(balanceRebuildService.takeSnapshot());
+	}
+
+	@GetMapping("/balance-audit")
+	@Operation(summary = "Bakiyeleri hareket geçmişiyle denetle",
+			   description = "Tüm hesapların bakiyesini snapshot ve sonraki hareketlerden paralel olarak yeniden hesaplar ve kayıtlı bakiyelerle farkını raporlar.")
+	public ResponseEntity<BalanceRebuildReportDto> auditBalances() {
+		return ResponseEntity.ok(balanceRebuildService.rebuild());
 	}
 
 	@PostMapping("/search")
-	public ResponseEntity<Page<AccountTransactionDto>> searchTransactions(@RequestBody AccountTransactionSearchRequest request) {
-		return ResponseEntity.ok(accountTransactionService.searchTransactions(request));
+	public ResponseEntity<Slice<AccountTransactionDto>> searchTransactions(@RequestBody AccountTransactionSearchRequest request) {
+		return ResponseEntity.ok(transactionSearchCache.search(request));
+	}
+
+	@PostMapping("/export")
+	@Operation(summary = "İşlemleri dışa aktar",
+			   description = "Arama filtrelerine uyan tüm işlemleri NDJSON ya da CSV olarak, bellekte toplamadan yanıt gövdesine akıtır.")
+	public ResponseEntity<StreamingResponseBody> exportTransactions(@RequestBody AccountTransactionSearchRequest request,
+			@RequestParam(defaultValue = "NDJSON") @Parameter(description = "Çıktı biçimi") TransactionExportFormat format) {
+		return ResponseEntity
+				.ok()
+				.contentType(MediaType.parseMediaType(format.getContentType()))
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions." + format.getFileExtension() + "\"")
+				.body(outputStream -> accountTransactionExporter.export(request, format, outputStream));
+	}
+
+	@PostMapping("/search/cursor")
+	@Operation(summary = "İşlemleri imleç ile ara", description = "Arama filtrelerini uygular ve sonuçları imleç ile sayfalayarak döner.")
+	public ResponseEntity<CursorPageDto<AccountTransactionDto>> searchTransactionsByCursor(@RequestBody AccountTransactionSearchRequest request) {
+		return ResponseEntity.ok(transactionSearchCache.searchByCursor(request));
+	}
+
+	private static boolean acceptsBinary(String accept) {
+		return Objects.nonNull(accept) && MediaType.parseMediaTypes(accept).stream().anyMatch(TransactionBinaryCodec.MEDIA_TYPE::equalsTypeAndSubtype);
 	}
 }
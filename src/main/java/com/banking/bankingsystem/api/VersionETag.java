@@ -0,0 +1,43 @@
+package com.banking.bankingsystem.api;
+
+import java.util.Objects;
+
+/**
+ * Hesap sürümünden güçlü ETag üretir ve {@code If-None-Match} başlığıyla karşılaştırır. Aynı sürümün farklı gösterimleri
+ * (JSON, ikili) sonek ile ayrılır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+final class VersionETag {
+
+	private VersionETag() {
+	}
+
+	static String of(long version) {
+		return "\"" + version + "\"";
+	}
+
+	static String of(long version, String representation) {
+		return "\"" + version + "-" + representation + "\"";
+	}
+
+	/**
+	 * {@code If-None-Match} virgülle ayrılmış ETag listesi ya da {@code *} olabilir. GET için zayıf karşılaştırma yapılır,
+	 * {@code W/} öneki yok sayılır.
+	 */
+	static boolean matches(String ifNoneMatch, String eTag) {
+		if (Objects.isNull(ifNoneMatch)) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			final String trimmed = candidate.trim();
+			if ("*".equals(trimmed) || eTag.equals(trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,27 @@
+package com.banking.bankingsystem.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "İmleç tabanlı sayfa")
+public class CursorPageDto<T> {
+
+	@Schema(description = "Sayfadaki kayıtlar")
+	private List<T> content;
+
+	@Schema(description = "Sonraki sayfayı almak için gönderilecek imleç, son sayfada boş", example = "MjAyNS0wMS0wMVQxODozMDowMHw...")
+	private String nextCursor;
+}
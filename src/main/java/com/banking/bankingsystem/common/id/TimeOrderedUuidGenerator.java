@@ -0,0 +1,20 @@
+package com.banking.bankingsystem.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.util.UUID;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public class TimeOrderedUuidGenerator implements UuidValueGenerator {
+
+	@Override
+	public UUID generateUuid(SharedSessionContractImplementor session) {
+		return TimeOrderedUuid.next();
+	}
+}
@@ -0,0 +1,36 @@
+package com.banking.bankingsystem.common.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Metriklerde {@code operation} etiketi olarak kullanılan servis işlemleri.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Getter
+@RequiredArgsConstructor
+public enum Operation {
+
+	ACCOUNT_CREATE("account.create"),
+	ACCOUNT_LIST("account.list"),
+	ACCOUNT_GET("account.get"),
+	ACCOUNT_UPDATE("account.update"),
+	ACCOUNT_DELETE("account.delete"),
+	ACCOUNT_IMPORT("account.import"),
+	TRANSACTION_DEPOSIT("transaction.deposit"),
+	TRANSACTION_WITHDRAW("transaction.withdraw"),
+	TRANSACTION_BATCH("transaction.batch"),
+	TRANSACTION_TRANSFER("transaction.transfer"),
+	TRANSACTION_HISTORY("transaction.history"),
+	TRANSACTION_SEARCH("transaction.search"),
+	TRANSACTION_BALANCE_AS_OF("transaction.balance_as_of"),
+	TRANSACTION_DAILY_SUMMARY("transaction.daily_summary"),
+	TRANSACTION_BALANCE_SNAPSHOT("transaction.balance_snapshot"),
+	TRANSACTION_BALANCE_AUDIT("transaction.balance_audit");
+
+	private final String value;
+}
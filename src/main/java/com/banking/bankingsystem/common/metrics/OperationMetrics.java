@@ -0,0 +1,101 @@
+package com.banking.bankingsystem.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Servis işlemlerinin veritabanı ve dönüşüm sürelerini, reddedilen işlem sayılarını ve istek başına çalışan SQL ifadesi
+ * sayılarını kaydeder. Tüm meter'lar başlangıçta
+ * oluşturulur; sıcak yolda yalnızca EnumMap okuması ve {@link Timer#record(Supplier)} çağrısı yapılır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Component
+public class OperationMetrics {
+
+	static final String DURATION = "banking.operation.duration";
+
+	static final String REJECTIONS = "banking.operation.rejections";
+
+	static final String SQL_STATEMENTS = "banking.operation.sql.statements";
+
+	private final Map<Operation, Timer> dbTimers = new EnumMap<>(Operation.class);
+
+	private final Map<Operation, Timer> mappingTimers = new EnumMap<>(Operation.class);
+
+	private final Map<Operation, Map<RejectionReason, Counter>> rejections = new EnumMap<>(Operation.class);
+
+	private final Map<Operation, DistributionSummary> sqlStatements = new EnumMap<>(Operation.class);
+
+	public OperationMetrics(MeterRegistry meterRegistry) {
+		for (Operation operation : Operation.values()) {
+			dbTimers.put(operation, timer(meterRegistry, operation, "db"));
+			mappingTimers.put(operation, timer(meterRegistry, operation, "mapping"));
+
+			final Map<RejectionReason, Counter> counters = new EnumMap<>(RejectionReason.class);
+			for (RejectionReason reason : RejectionReason.values()) {
+				counters.put(reason, Counter.builder(REJECTIONS)
+						.description("İş kuralı nedeniyle reddedilen işlem sayısı")
+						.tag("operation", operation.getValue())
+						.tag("reason", reason.getValue())
+						.register(meterRegistry));
+			}
+			rejections.put(operation, counters);
+
+			sqlStatements.put(operation, DistributionSummary.builder(SQL_STATEMENTS)
+					.description("İstek başına çalıştırılan SQL ifadesi sayısı")
+					.tag("operation", operation.getValue())
+					.register(meterRegistry));
+		}
+	}
+
+	/**
+	 * Veritabanı erişimini süreyle birlikte çalıştırır.
+	 */
+	public <T> T db(Operation operation, Supplier<T> action) {
+		SqlStatementCounter.enter(operation);
+		return dbTimers.get(operation).record(action);
+	}
+
+	public void db(Operation operation, Runnable action) {
+		SqlStatementCounter.enter(operation);
+		dbTimers.get(operation).record(action);
+	}
+
+	/**
+	 * Entity/DTO dönüşümünü süreyle birlikte çalıştırır.
+	 */
+	public <T> T mapping(Operation operation, Supplier<T> action) {
+		return mappingTimers.get(operation).record(action);
+	}
+
+	public void mapping(Operation operation, Runnable action) {
+		mappingTimers.get(operation).record(action);
+	}
+
+	public void rejected(Operation operation, RejectionReason reason) {
+		rejections.get(operation).get(reason).increment();
+	}
+
+	void sqlStatements(Operation operation, int count) {
+		sqlStatements.get(operation).record(count);
+	}
+
+	private static Timer timer(MeterRegistry meterRegistry, Operation operation, String phase) {
+		return Timer.builder(DURATION)
+				.description("Servis işleminin veritabanı ya da dönüşüm aşamasında geçen süre")
+				.tag("operation", operation.getValue())
+				.tag("phase", phase)
+				.register(meterRegistry);
+	}
+}
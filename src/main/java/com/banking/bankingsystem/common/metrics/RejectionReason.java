@@ -0,0 +1,27 @@
+package com.banking.bankingsystem.common.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * İş kuralı nedeniyle reddedilen işlemlerin nedeni.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Getter
+@RequiredArgsConstructor
+public enum RejectionReason {
+
+	INSUFFICIENT_FUNDS("insufficient_funds"),
+	BALANCE_LIMIT("balance_limit"),
+	NOT_FOUND("not_found"),
+	CURRENCY_MISMATCH("currency_mismatch"),
+	INVALID_AMOUNT("invalid_amount"),
+	INVALID_ROW("invalid_row"),
+	DUPLICATE("duplicate");
+
+	private final String value;
+}
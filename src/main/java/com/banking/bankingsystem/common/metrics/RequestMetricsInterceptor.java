@@ -0,0 +1,76 @@
+package com.banking.bankingsystem.common.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Her controller metodu için o anda işlenmekte olan istek sayısını gauge olarak yayınlar; gauge'lar endpoint başına bir kez
+ * oluşturulur. İstek boyunca {@link SqlStatementCounter} kapsamı açık tutulur ve çalışan SQL ifadesi sayısı istek sonunda
+ * isteğin {@link Operation}'ına kaydedilir.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Component
+@RequiredArgsConstructor
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+	static final String IN_FLIGHT = "banking.http.inflight";
+
+	private final MeterRegistry meterRegistry;
+
+	private final OperationMetrics operationMetrics;
+
+	private final ConcurrentMap<HandlerMethod, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (handler instanceof HandlerMethod handlerMethod) {
+			inFlight.computeIfAbsent(handlerMethod, this::register).incrementAndGet();
+			SqlStatementCounter.start();
+		}
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		if (handler instanceof HandlerMethod handlerMethod) {
+			inFlight.get(handlerMethod).decrementAndGet();
+			SqlStatementCounter.finish(operationMetrics);
+		}
+	}
+
+	/**
+	 * Asenkron isteklerde ilk dispatch afterCompletion çağrılmadan biter; yanıt yazılırken yapılan dispatch ayrıca sayılır.
+	 */
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (handler instanceof HandlerMethod handlerMethod) {
+			inFlight.get(handlerMethod).decrementAndGet();
+		}
+	}
+
+	private AtomicInteger register(HandlerMethod handlerMethod) {
+		final String endpoint = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+		final AtomicInteger count = new AtomicInteger();
+
+		Gauge.builder(IN_FLIGHT, count, AtomicInteger::get)
+				.description("İşlenmekte olan istek sayısı")
+				.tag("endpoint", endpoint)
+				.register(meterRegistry);
+
+		return count;
+	}
+}
@@ -0,0 +1,55 @@
+package com.banking.bankingsystem.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Yeniden denenen işlemler için çakışma, başarıyla sonuçlanan yeniden deneme ve tükenen deneme sayılarını yayınlar.
+ * {@code operation} etiketi {@code @Retryable} üzerindeki {@code label} değeridir.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Component
+@RequiredArgsConstructor
+public class RetryMetricsListener implements RetryListener {
+
+	static final String CONFLICTS = "banking.retry.conflicts";
+
+	static final String RECOVERED = "banking.retry.recovered";
+
+	static final String EXHAUSTED = "banking.retry.exhausted";
+
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+		if (throwable instanceof ConcurrencyFailureException) {
+			meterRegistry.counter(CONFLICTS, "operation", operation(context)).increment();
+		}
+	}
+
+	@Override
+	public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+		if (Objects.isNull(throwable)) {
+			if (context.getRetryCount() > 0) {
+				meterRegistry.counter(RECOVERED, "operation", operation(context)).increment();
+			}
+		} else if (throwable instanceof ConcurrencyFailureException) {
+			meterRegistry.counter(EXHAUSTED, "operation", operation(context)).increment();
+		}
+	}
+
+	private static String operation(RetryContext context) {
+		return String.valueOf(context.getAttribute(RetryContext.NAME));
+	}
+}
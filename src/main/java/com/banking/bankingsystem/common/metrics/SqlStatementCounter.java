@@ -0,0 +1,113 @@
+package com.banking.bankingsystem.common.metrics;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Uygulamanın {@link DataSource}'unu sarar ve bağlantılardan hazırlanan SQL ifadelerini iş parçacığı bazında sayar; Hibernate,
+ * JdbcTemplate ve doğrudan JDBC ile çalıştırılan ifadelerin hepsi sayılır. Bir JDBC batch'i tek ifade olarak sayılır. Sayım
+ * yalnızca {@link RequestMetricsInterceptor}'ın açtığı istek kapsamında yapılır; ifadeler istek içinde
+ * {@link OperationMetrics#db} ile çalıştırılan ilk {@link Operation}'a yazılır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Component
+public class SqlStatementCounter implements BeanPostProcessor {
+
+	private static final Set<String> STATEMENT_FACTORIES = Set.of("prepareStatement", "createStatement", "prepareCall");
+
+	private static final ThreadLocal<Scope> SCOPE = ThreadLocal.withInitial(Scope::new);
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		return bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource) ? new CountingDataSource(dataSource) : bean;
+	}
+
+	static void start() {
+		final Scope scope = SCOPE.get();
+		scope.active = true;
+		scope.operation = null;
+		scope.count = 0;
+	}
+
+	/**
+	 * Kapsamın işlemini belirler; kapsamda daha önce bir işlem belirlendiyse değiştirmez.
+	 */
+	static void enter(Operation operation) {
+		final Scope scope = SCOPE.get();
+		if (scope.active && Objects.isNull(scope.operation)) {
+			scope.operation = operation;
+		}
+	}
+
+	/**
+	 * Kapsamı kapatır ve bir işlem belirlendiyse sayılan ifade sayısını o işleme kaydeder.
+	 */
+	static void finish(OperationMetrics operationMetrics) {
+		final Scope scope = SCOPE.get();
+		if (Objects.nonNull(scope.operation)) {
+			operationMetrics.sqlStatements(scope.operation, scope.count);
+		}
+		scope.active = false;
+		scope.operation = null;
+	}
+
+	private static void count() {
+		final Scope scope = SCOPE.get();
+		if (scope.active) {
+			scope.count++;
+		}
+	}
+
+	private static final class Scope {
+
+		private boolean active;
+
+		private Operation operation;
+
+		private int count;
+	}
+
+	private static final class CountingDataSource extends DelegatingDataSource {
+
+		private CountingDataSource(DataSource targetDataSource) {
+			super(targetDataSource);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return counting(super.getConnection());
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return counting(super.getConnection(username, password));
+		}
+
+		private static Connection counting(Connection connection) {
+			return (Connection) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(), new Class<?>[] { Connection.class },
+													   (proxy, method, args) -> {
+														   if (STATEMENT_FACTORIES.contains(method.getName())) {
+															   count();
+														   }
+														   try {
+															   return method.invoke(connection, args);
+														   } catch (InvocationTargetException e) {
+															   throw e.getCause();
+														   }
+													   });
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package com.banking.bankingsystem.common.money;
+
+import com.banking.bankingsystem.account.data.AccountType;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Tutarı hesap türünün para biriminde, kuruş/cent gibi alt birim sayısı olarak {@code long} ile tutar. Toplama, çıkarma ve
+ * karşılaştırma yeni {@link BigDecimal} oluşturmaz; taşma {@link Math#addExact} ile, ölçek ise {@link BigDecimal}'den
+ * dönüşümde tam olarak kontrol edilir. Veritabanı kolonları ve API tutarları {@code numeric(9,2)} / {@link BigDecimal} olarak
+ * kalır, dönüşüm sınırda yapılır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public record Money(long minorUnits, AccountType currency) implements Comparable<Money> {
+
+	/**
+	 * Tüm hesap türleri için ondalık basamak sayısı.
+	 */
+	public static final int SCALE = 2;
+
+	public Money {
+		Objects.requireNonNull(currency, "Para birimi boş olamaz.");
+	}
+
+	public static Money of(BigDecimal amount, AccountType currency) {
+		return new Money(toMinorUnits(amount), currency);
+	}
+
+	public static Money zero(AccountType currency) {
+		return new Money(0, currency);
+	}
+
+	/**
+	 * Tutarı alt birim sayısına çevirir. Yuvarlama gerektiren ya da {@code long} aralığına sığmayan tutarlar reddedilir.
+	 *
+	 * @throws IllegalArgumentException tutarda ikiden fazla anlamlı ondalık basamak varsa ya da tutar çok büyükse
+	 */
+	public static long toMinorUnits(BigDecimal amount) {
+		try {
+			return amount.movePointRight(SCALE).longValueExact();
+		} catch (ArithmeticException e) {
+			throw new IllegalArgumentException("Tutar en fazla " + SCALE + " ondalık basamak içerebilir ve desteklenen aralıkta olmalıdır.");
+		}
+	}
+
+	/**
+	 * Tutarın {@link #toMinorUnits} kurallarına uyduğunu doğrular ve aynı tutarı döner.
+	 */
+	public static BigDecimal requireExact(BigDecimal amount) {
+		toMinorUnits(amount);
+		return amount;
+	}
+
+	public Money plus(Money other) {
+		return new Money(Math.addExact(minorUnits, sameCurrency(other).minorUnits), currency);
+	}
+
+	public Money minus(Money other) {
+		return new Money(Math.subtractExact(minorUnits, sameCurrency(other).minorUnits), currency);
+	}
+
+	public boolean isNegative() {
+		return minorUnits < 0;
+	}
+
+	public boolean isGreaterThan(Money other) {
+		return compareTo(other) > 0;
+	}
+
+	public boolean isLessThan(Money other) {
+		return compareTo(other) < 0;
+	}
+
+	public BigDecimal toBigDecimal() {
+		return BigDecimal.valueOf(minorUnits, SCALE);
+	}
+
+	@Override
+	public int compareTo(Money other) {
+		return Long.compare(minorUnits, sameCurrency(other).minorUnits);
+	}
+
+	@Override
+	public String toString() {
+		return toBigDecimal().toPlainString() + " " + currency;
+	}
+
+	private Money sameCurrency(Money other) {
+		if (currency != other.currency) {
+			throw new IllegalArgumentException("Farklı para birimlerindeki tutarlar birlikte işlenemez.");
+		}
+		return other;
+	}
+}
@@ -0,0 +1,63 @@
+package com.banking.bankingsystem.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Olayları bir dosyaya satır başına bir JSON olarak ekleyen yayıncı. Grup diske zorlandıktan sonra döner; böylece olaylar
+ * tablodan silindiğinde dosyada kalıcıdır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Component
+@ConditionalOnProperty(prefix = "banking.outbox", name = "publisher", havingValue = "file", matchIfMissing = true)
+public class FileOutboxPublisher implements OutboxPublisher {
+
+	private final Path file;
+
+	private final ObjectMapper objectMapper;
+
+	public FileOutboxPublisher(OutboxProperties properties, ObjectMapper objectMapper) {
+		this.file = Path.of(properties.getFile());
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public synchronized void publish(List<OutboxEvent> events) throws IOException {
+		final StringBuilder lines = new StringBuilder();
+		for (OutboxEvent event : events) {
+			final ObjectNode line = objectMapper.createObjectNode()
+					.put("id", event.id())
+					.put("aggregateId", event.aggregateId().toString())
+					.put("eventType", event.eventType().name())
+					.put("createdAt", event.createdAt().toString());
+			line.set("payload", objectMapper.readTree(event.payload()));
+			lines.append(objectMapper.writeValueAsString(line)).append('\n');
+		}
+
+		if (file.getParent() != null) {
+			Files.createDirectories(file.getParent());
+		}
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+			final ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(false);
+		}
+	}
+}
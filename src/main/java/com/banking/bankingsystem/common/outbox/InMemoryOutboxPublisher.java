@@ -0,0 +1,35 @@
+package com.banking.bankingsystem.common.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Yayınlanan olayları bellekte tutan yayıncı; testler ve yerel geliştirme içindir.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Component
+@ConditionalOnProperty(prefix = "banking.outbox", name = "publisher", havingValue = "memory")
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+
+	private final List<OutboxEvent> events = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void publish(List<OutboxEvent> events) {
+		this.events.addAll(events);
+	}
+
+	public List<OutboxEvent> getEvents() {
+		return List.copyOf(events);
+	}
+
+	public void clear() {
+		events.clear();
+	}
+}
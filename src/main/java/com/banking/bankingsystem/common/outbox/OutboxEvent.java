@@ -0,0 +1,16 @@
+package com.banking.bankingsystem.common.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * {@code outbox} tablosundaki bir olay. {@code id} yazılma sırasını verir; aynı hesaba ait olaylar hesap satırı kilitliyken
+ * yazıldığı için bu sıra hesap bazında commit sırasıyla aynıdır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public record OutboxEvent(long id, UUID aggregateId, OutboxEventType eventType, String payload, LocalDateTime createdAt) {
+}
@@ -0,0 +1,15 @@
+package com.banking.bankingsystem.common.outbox;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public enum OutboxEventType {
+
+	ACCOUNT_CREATED,
+	ACCOUNT_UPDATED,
+	ACCOUNT_DELETED,
+	TRANSACTION_CREATED
+}
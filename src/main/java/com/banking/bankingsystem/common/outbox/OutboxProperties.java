@@ -0,0 +1,42 @@
+package com.banking.bankingsystem.common.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@ConfigurationProperties(prefix = "banking.outbox")
+public class OutboxProperties {
+
+	/**
+	 * Hesap ve hareket değişikliklerinin aynı veritabanı işleminde {@code outbox} tablosuna yazılması ve arka planda yayınlanması.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * Aktarıcının tek seferde kilitleyip yayınladığı en fazla olay sayısı.
+	 */
+	private int batchSize = 500;
+
+	/**
+	 * Tablo boşaldıktan sonra aktarıcının yeniden sorgulamadan önce beklediği süre.
+	 */
+	private Duration pollInterval = Duration.ofMillis(200);
+
+	/**
+	 * Olayların gönderildiği yayıncı: {@code file}, {@code memory} ya da kendi {@link OutboxPublisher} bean'i için {@code custom}.
+	 */
+	private String publisher = "file";
+
+	/**
+	 * {@code file} yayıncısının olayları satır başına bir JSON olarak eklediği dosya.
+	 */
+	private String file = "data/outbox/events.jsonl";
+}
@@ -0,0 +1,20 @@
+package com.banking.bankingsystem.common.outbox;
+
+import java.util.List;
+
+/**
+ * Outbox olaylarını dış sistemlere ileten yayıncı. Olaylar yayıncı başarıyla döndükten sonra tablodan silinir; hata halinde
+ * bir sonraki turda yeniden gönderilir, bu nedenle alıcılar olayları {@link OutboxEvent#id()} ile tekilleştirmelidir.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public interface OutboxPublisher {
+
+	/**
+	 * Olayları {@link OutboxEvent#id()} sırasıyla yayınlar.
+	 */
+	void publish(List<OutboxEvent> events) throws Exception;
+}
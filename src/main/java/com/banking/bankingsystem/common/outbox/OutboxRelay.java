@@ -0,0 +1,124 @@
+package com.banking.bankingsystem.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@code outbox} tablosunu id sırasıyla gruplar halinde boşaltıp olayları {@link OutboxPublisher}'a iletir. Grup
+ * {@code FOR UPDATE SKIP LOCKED} ile kilitlenir; birden fazla uygulama örneği aynı anda çalışsa da her olay tek bir aktarıcı
+ * tarafından alınır. Yayıncı başarılı olursa olaylar aynı işlemde silinir, hata alırsa işlem geri alınır ve olaylar bir sonraki
+ * turda yeniden denenir.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "banking.outbox", name = "enabled", havingValue = "true")
+public class OutboxRelay {
+
+	private static final String CLAIM_BATCH = "select id, aggregate_id, event_type, payload, created_at from outbox order by id "
+			+ "fetch first ? rows only for update skip locked";
+
+	private static final String DELETE_EVENT = "delete from outbox where id = ?";
+
+	private static final RowMapper<OutboxEvent> EVENT_MAPPER = (resultSet, rowNum) -> new OutboxEvent(
+			resultSet.getLong("id"),
+			resultSet.getObject("aggregate_id", UUID.class),
+			OutboxEventType.valueOf(resultSet.getString("event_type")),
+			resultSet.getString("payload"),
+			resultSet.getTimestamp("created_at").toLocalDateTime());
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final OutboxPublisher publisher;
+
+	private final OutboxProperties properties;
+
+	private final Counter publishedEvents;
+
+	private final Counter failedBatches;
+
+	private final Timer lag;
+
+	public OutboxRelay(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, OutboxPublisher publisher, OutboxProperties properties,
+					   MeterRegistry meterRegistry) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.publisher = publisher;
+		this.properties = properties;
+		this.publishedEvents = Counter.builder("banking.outbox.published")
+				.description("Yayınlanan outbox olayı sayısı")
+				.register(meterRegistry);
+		this.failedBatches = Counter.builder("banking.outbox.failures")
+				.description("Yayıncının hata verdiği grup sayısı")
+				.register(meterRegistry);
+		this.lag = Timer.builder("banking.outbox.lag")
+				.description("Olayın outbox'a yazılmasından yayınlanmasına kadar geçen süre")
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Dolu gruplar geldikçe beklemeden devam eder; tablo boşalınca ya da yayıncı hata verince turu bitirir.
+	 */
+	@Scheduled(fixedDelayString = "${banking.outbox.poll-interval:200ms}")
+	public void relay() {
+		try {
+			int relayed;
+			do {
+				relayed = relayBatch();
+			} while (relayed == properties.getBatchSize());
+		} catch (RuntimeException e) {
+			failedBatches.increment();
+			log.warn("Outbox olayları yayınlanamadı, bir sonraki turda yeniden denenecek", e);
+		}
+	}
+
+	/**
+	 * En eski olaylardan bir grubu kilitler, yayınlar ve siler.
+	 *
+	 * @return yayınlanan olay sayısı
+	 */
+	public int relayBatch() {
+		final List<OutboxEvent> events = transactionTemplate.execute(status -> {
+			final List<OutboxEvent> claimed = jdbcTemplate.query(CLAIM_BATCH, EVENT_MAPPER, properties.getBatchSize());
+			if (claimed.isEmpty()) {
+				return claimed;
+			}
+
+			try {
+				publisher.publish(claimed);
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new IllegalStateException("Outbox yayıncısı hata verdi.", e);
+			}
+
+			jdbcTemplate.batchUpdate(DELETE_EVENT, claimed.stream().map(event -> new Object[] { event.id() }).toList());
+			return claimed;
+		});
+
+		final LocalDateTime now = LocalDateTime.now();
+		events.forEach(event -> lag.record(Duration.between(event.createdAt(), now)));
+		publishedEvents.increment(events.size());
+		return events.size();
+	}
+}
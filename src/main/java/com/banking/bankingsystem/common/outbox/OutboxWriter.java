@@ -0,0 +1,81 @@
+package com.banking.bankingsystem.common.outbox;
+
+import com.banking.bankingsystem.account.dto.AccountDto;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Olayları çağıranın veritabanı işleminde {@code outbox} tablosuna yazar; işlem geri alınırsa olay da yazılmamış olur.
+ * Outbox kapalıyken hiçbir şey yazmaz.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+	private static final String INSERT_EVENT = "insert into outbox (aggregate_id, event_type, payload, created_at) values (?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final ObjectMapper objectMapper;
+
+	private final OutboxProperties properties;
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void append(OutboxEventType eventType, UUID aggregateId, Object payload) {
+		if (properties.isEnabled()) {
+			jdbcTemplate.update(INSERT_EVENT, aggregateId, eventType.name(), toJson(payload), new Timestamp(System.currentTimeMillis()));
+		}
+	}
+
+	/**
+	 * Hareketleri tek bir JDBC batch'i ile yazar; her hareket kendi hesabının olayıdır.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void appendTransactions(List<AccountTransactionDto> transactions) {
+		if (!properties.isEnabled() || transactions.isEmpty()) {
+			return;
+		}
+		final Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+		jdbcTemplate.batchUpdate(INSERT_EVENT, transactions.stream()
+				.map(transaction -> new Object[] { transaction.getAccountId(), OutboxEventType.TRANSACTION_CREATED.name(), toJson(transaction),
+						createdAt })
+				.toList());
+	}
+
+	/**
+	 * Toplu içe aktarılan hesapları tek bir JDBC batch'i ile {@link OutboxEventType#ACCOUNT_CREATED} olayı olarak yazar.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void appendAccounts(List<AccountDto> accounts) {
+		if (!properties.isEnabled() || accounts.isEmpty()) {
+			return;
+		}
+		final Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+		jdbcTemplate.batchUpdate(INSERT_EVENT, accounts.stream()
+				.map(account -> new Object[] { account.getId(), OutboxEventType.ACCOUNT_CREATED.name(), toJson(account), createdAt })
+				.toList());
+	}
+
+	private String toJson(Object payload) {
+		try {
+			return objectMapper.writeValueAsString(payload);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Outbox olayı JSON'a çevrilemedi.", e);
+		}
+	}
+}
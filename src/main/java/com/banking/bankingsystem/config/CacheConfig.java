@@ -0,0 +1,19 @@
+package com.banking.bankingsystem.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Önbellek boyutu, TTL ve istatistik ayarları {@code spring.cache.caffeine.spec} ile yapılandırılır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	public static final String ACCOUNTS = "accounts";
+}
@@ -1,6 +1,7 @@
 package com.banking.bankingsystem.config;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -24,4 +25,9 @@ public class GlobalExceptionHandler {
 	public ResponseEntity<String> handleEntityNotFoundException(EntityNotFoundException ex) {
 		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
 	}
+
+	@ExceptionHandler(ConcurrencyFailureException.class)
+	public ResponseEntity<String> handleConcurrencyFailureException(ConcurrencyFailureException ex) {
+		return ResponseEntity.status(HttpStatus.CONFLICT).body("İşlem eşzamanlı bir istekle çakıştı, lütfen tekrar deneyin.");
+	}
 }
@@ -0,0 +1,28 @@
+package com.banking.bankingsystem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * Eşzamanlılık çakışmasıyla ({@link org.springframework.dao.ConcurrencyFailureException}) sonuçlanan işlemler, işlem
+ * sınırının dışından yeniden denenir. Retry advisor'ı transaction advisor'ından önce çalıştığı için her deneme yeni bir
+ * veritabanı işleminde yapılır. Bekleme süresi üstel artar ve rastgele dağıtılır, böylece çakışan istekler aynı anda tekrar
+ * denenmez.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Configuration
+@EnableRetry
+public class RetryConfig {
+
+	public static final String MAX_ATTEMPTS = "${banking.retry.max-attempts:5}";
+
+	public static final String DELAY = "${banking.retry.delay:10}";
+
+	public static final String MAX_DELAY = "${banking.retry.max-delay:200}";
+
+	public static final String MULTIPLIER = "${banking.retry.multiplier:2}";
+}
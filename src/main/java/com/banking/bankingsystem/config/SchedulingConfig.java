@@ -0,0 +1,15 @@
+package com.banking.bankingsystem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,44 @@
+package com.banking.bankingsystem.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.Executors;
+
+/**
+ * {@code spring.threads.virtual.enabled=true} ile istekler Tomcat'te sanal iş parçacıklarında işlenir. Veritabanı eşzamanlılığı
+ * HikariCP havuz boyutu ({@code DB_POOL_SIZE}) ile sınırlanır; havuz sanal iş parçacıklarını taşıyıcıya sabitlemeden bekletir.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+	/**
+	 * Eşzamanlı önbellek yüklemesi ({@code @Cacheable(sync = true)}) varsayılan modda yükleyiciyi ConcurrentHashMap.compute
+	 * içindeki {@code synchronized} blokta çalıştırır. Yükleyici JDBC çağrısı yaptığı için sanal iş parçacığı bu süre boyunca
+	 * taşıyıcıya sabitlenir. Asenkron modda blok içinde yalnızca bir CompletableFuture oluşturulur, yükleyici ayrı bir sanal
+	 * iş parçacığında çalışır ve bekleyenler future üzerinde sabitlenmeden bekler.
+	 */
+	@Bean
+	public CacheManagerCustomizer<CaffeineCacheManager> virtualThreadCacheManagerCustomizer(CacheProperties cacheProperties) {
+		return cacheManager -> {
+			final String spec = cacheProperties.getCaffeine().getSpec();
+			final Caffeine<Object, Object> builder = StringUtils.hasText(spec) ? Caffeine.from(spec) : Caffeine.newBuilder();
+
+			cacheManager.setCaffeine(builder.executor(Executors.newVirtualThreadPerTaskExecutor()));
+			cacheManager.setAsyncCacheMode(true);
+		};
+	}
+}
@@ -0,0 +1,37 @@
+package com.banking.bankingsystem.config;
+
+import com.banking.bankingsystem.common.metrics.RequestMetricsInterceptor;
+import com.banking.bankingsystem.transaction.binary.TransactionBinaryHttpMessageConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+	private final RequestMetricsInterceptor requestMetricsInterceptor;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(requestMetricsInterceptor).addPathPatterns("/api/**");
+	}
+
+	/**
+	 * Listenin sonuna eklenir; {@code Accept} başlığı olmayan ya da JSON kabul eden istemciler JSON almaya devam eder.
+	 */
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		converters.add(new TransactionBinaryHttpMessageConverter());
+	}
+}
@@ -0,0 +1,267 @@
+package com.banking.bankingsystem.transaction.binary;
+
+import com.banking.bankingsystem.common.dto.CursorPageDto;
+import com.banking.bankingsystem.common.money.Money;
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link AccountTransactionDto} yanıtlarını JSON yerine sabit düzenli, big-endian bir ikili biçimde yazar ve okur. Alanlar
+ * yansıma kullanılmadan tek tek yazılır:
+ * <pre>
+ * sürüm (1) | tür (1) | [sayfa bilgisi] | [kayıt sayısı (4)] | kayıtlar
+ * kayıt: alan maskesi (1) | id (16) | accountId (16) | transactionDate saniye (8) + nano (4) | transactionType (1) | amount kuruş (8)
+ * </pre>
+ * Boş alanlar maskede işaretlenir ve yazılmaz. Tarihler saat dilimi olmadan UTC epoch olarak, tutarlar {@link Money} alt
+ * birimi olarak tutulur. İşlem türü enum sırasından bağımsız, sabit bir kodla yazılır ({@code D} yatırma, {@code W} çekme);
+ * bilinmeyen kodlar okunurken reddedilir.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public final class TransactionBinaryCodec {
+
+	public static final String MEDIA_TYPE_VALUE = "application/vnd.banking.transactions";
+
+	public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+	static final byte VERSION = 1;
+
+	private static final byte SINGLE = 'T';
+
+	private static final byte LIST = 'L';
+
+	private static final byte SLICE = 'S';
+
+	private static final byte PAGE = 'P';
+
+	private static final byte CURSOR_PAGE = 'C';
+
+	private static final int ID = 1;
+
+	private static final int ACCOUNT_ID = 1 << 1;
+
+	private static final int TRANSACTION_DATE = 1 << 2;
+
+	private static final int TRANSACTION_TYPE = 1 << 3;
+
+	private static final int AMOUNT = 1 << 4;
+
+	private static final byte DEPOSIT = 'D';
+
+	private static final byte WITHDRAW = 'W';
+
+	private TransactionBinaryCodec() {
+	}
+
+	/**
+	 * Tek bir {@link AccountTransactionDto} ya da eleman türü {@link AccountTransactionDto} olan {@link Collection},
+	 * {@link Slice}, {@link Page} veya {@link CursorPageDto} için {@code true} döner.
+	 */
+	public static boolean supports(ResolvableType type) {
+		final Class<?> rawClass = type.toClass();
+		if (AccountTransactionDto.class.isAssignableFrom(rawClass)) {
+			return true;
+		}
+		if (Collection.class.isAssignableFrom(rawClass) || Slice.class.isAssignableFrom(rawClass) || CursorPageDto.class.isAssignableFrom(rawClass)) {
+			return AccountTransactionDto.class.isAssignableFrom(type.as(rawClass).getGeneric(0).toClass());
+		}
+		return false;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static void write(Object value, OutputStream outputStream) throws IOException {
+		final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream));
+		out.writeByte(VERSION);
+
+		switch (value) {
+			case AccountTransactionDto transaction -> {
+				out.writeByte(SINGLE);
+				writeTransaction(out, transaction);
+			}
+			case Page<?> page -> {
+				out.writeByte(PAGE);
+				writePageable(out, page.getPageable());
+				out.writeLong(page.getTotalElements());
+				writeContent(out, (Collection<AccountTransactionDto>) page.getContent());
+			}
+			case Slice<?> slice -> {
+				out.writeByte(SLICE);
+				writePageable(out, slice.getPageable());
+				out.writeBoolean(slice.hasNext());
+				writeContent(out, (Collection<AccountTransactionDto>) slice.getContent());
+			}
+			case CursorPageDto<?> cursorPage -> {
+				out.writeByte(CURSOR_PAGE);
+				out.writeBoolean(cursorPage.getNextCursor() != null);
+				if (cursorPage.getNextCursor() != null) {
+					out.writeUTF(cursorPage.getNextCursor());
+				}
+				writeContent(out, (Collection<AccountTransactionDto>) cursorPage.getContent());
+			}
+			case Collection<?> collection -> {
+				out.writeByte(LIST);
+				writeContent(out, (Collection<AccountTransactionDto>) collection);
+			}
+			default -> throw new IllegalArgumentException("İkili biçimde yazılamayan tür: " + value.getClass().getName());
+		}
+
+		out.flush();
+	}
+
+	/**
+	 * {@link #write} ile yazılan veriyi okur. Dönen nesne yazılanla aynı biçimdedir: {@link AccountTransactionDto},
+	 * {@link List}, {@link Slice}, {@link Page} ya da {@link CursorPageDto}.
+	 */
+	public static Object read(InputStream inputStream) throws IOException {
+		final DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+		final byte version = in.readByte();
+		if (version != VERSION) {
+			throw new IOException("Desteklenmeyen ikili biçim sürümü: " + version);
+		}
+
+		final byte kind = in.readByte();
+		return switch (kind) {
+			case SINGLE -> readTransaction(in);
+			case LIST -> readContent(in);
+			case SLICE -> {
+				final Pageable pageable = readPageable(in);
+				final boolean hasNext = in.readBoolean();
+				yield new SliceImpl<>(readContent(in), pageable, hasNext);
+			}
+			case PAGE -> {
+				final Pageable pageable = readPageable(in);
+				final long totalElements = in.readLong();
+				yield new PageImpl<>(readContent(in), pageable, totalElements);
+			}
+			case CURSOR_PAGE -> {
+				final String nextCursor = in.readBoolean() ? in.readUTF() : null;
+				yield new CursorPageDto<>(readContent(in), nextCursor);
+			}
+			default -> throw new IOException("Bilinmeyen ikili yanıt türü: " + kind);
+		};
+	}
+
+	private static void writePageable(DataOutputStream out, Pageable pageable) throws IOException {
+		out.writeBoolean(pageable.isPaged());
+		if (pageable.isPaged()) {
+			out.writeInt(pageable.getPageNumber());
+			out.writeInt(pageable.getPageSize());
+		}
+	}
+
+	private static Pageable readPageable(DataInputStream in) throws IOException {
+		if (!in.readBoolean()) {
+			return Pageable.unpaged();
+		}
+		final int number = in.readInt();
+		return PageRequest.of(number, in.readInt());
+	}
+
+	private static void writeContent(DataOutputStream out, Collection<AccountTransactionDto> content) throws IOException {
+		out.writeInt(content.size());
+		for (AccountTransactionDto transaction : content) {
+			writeTransaction(out, transaction);
+		}
+	}
+
+	private static List<AccountTransactionDto> readContent(DataInputStream in) throws IOException {
+		final int count = in.readInt();
+		final List<AccountTransactionDto> content = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			content.add(readTransaction(in));
+		}
+		return content;
+	}
+
+	private static void writeTransaction(DataOutputStream out, AccountTransactionDto transaction) throws IOException {
+		final UUID id = transaction.getId();
+		final UUID accountId = transaction.getAccountId();
+		final LocalDateTime transactionDate = transaction.getTransactionDate();
+		final TransactionType transactionType = transaction.getTransactionType();
+		final BigDecimal amount = transaction.getAmount();
+
+		int mask = 0;
+		mask |= id != null ? ID : 0;
+		mask |= accountId != null ? ACCOUNT_ID : 0;
+		mask |= transactionDate != null ? TRANSACTION_DATE : 0;
+		mask |= transactionType != null ? TRANSACTION_TYPE : 0;
+		mask |= amount != null ? AMOUNT : 0;
+		out.writeByte(mask);
+
+		if (id != null) {
+			out.writeLong(id.getMostSignificantBits());
+			out.writeLong(id.getLeastSignificantBits());
+		}
+		if (accountId != null) {
+			out.writeLong(accountId.getMostSignificantBits());
+			out.writeLong(accountId.getLeastSignificantBits());
+		}
+		if (transactionDate != null) {
+			out.writeLong(transactionDate.toEpochSecond(ZoneOffset.UTC));
+			out.writeInt(transactionDate.getNano());
+		}
+		if (transactionType != null) {
+			out.writeByte(switch (transactionType) {
+				case DEPOSIT -> DEPOSIT;
+				case WITHDRAW -> WITHDRAW;
+			});
+		}
+		if (amount != null) {
+			out.writeLong(Money.toMinorUnits(amount));
+		}
+	}
+
+	private static AccountTransactionDto readTransaction(DataInputStream in) throws IOException {
+		final int mask = in.readUnsignedByte();
+		final AccountTransactionDto transaction = new AccountTransactionDto();
+
+		if ((mask & ID) != 0) {
+			transaction.setId(new UUID(in.readLong(), in.readLong()));
+		}
+		if ((mask & ACCOUNT_ID) != 0) {
+			transaction.setAccountId(new UUID(in.readLong(), in.readLong()));
+		}
+		if ((mask & TRANSACTION_DATE) != 0) {
+			final long epochSecond = in.readLong();
+			transaction.setTransactionDate(LocalDateTime.ofEpochSecond(epochSecond, in.readInt(), ZoneOffset.UTC));
+		}
+		if ((mask & TRANSACTION_TYPE) != 0) {
+			final byte code = in.readByte();
+			transaction.setTransactionType(switch (code) {
+				case DEPOSIT -> TransactionType.DEPOSIT;
+				case WITHDRAW -> TransactionType.WITHDRAW;
+				default -> throw new IOException("Bilinmeyen işlem türü kodu: " + code);
+			});
+		}
+		if ((mask & AMOUNT) != 0) {
+			transaction.setAmount(BigDecimal.valueOf(in.readLong(), Money.SCALE));
+		}
+		return transaction;
+	}
+}
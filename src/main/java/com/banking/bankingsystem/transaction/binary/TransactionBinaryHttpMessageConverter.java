@@ -0,0 +1,73 @@
+package com.banking.bankingsystem.transaction.binary;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * {@code Accept: application/vnd.banking.transactions} gönderen istemcilere hesap hareketi yanıtlarını
+ * {@link TransactionBinaryCodec} ile yazar. Yalnızca yanıt yönünde çalışır, istek gövdeleri JSON olarak kalır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public class TransactionBinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+	public TransactionBinaryHttpMessageConverter() {
+		super(TransactionBinaryCodec.MEDIA_TYPE);
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return TransactionBinaryCodec.supports(ResolvableType.forClass(clazz));
+	}
+
+	/**
+	 * Spring yazılabilir türleri önce {@link #canWrite(Type, Class, MediaType)} ile eleman türüne bakarak seçer, ardından
+	 * ham sınıfla bu metodu çağırır. Ham {@code ArrayList} için eleman türü bilinmediğinden kontrol burada tekrarlanmaz.
+	 */
+	@Override
+	public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+		return getSupportedMediaTypes();
+	}
+
+	@Override
+	public boolean canRead(Class<?> clazz, MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+		final ResolvableType resolvableType = type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz);
+		return TransactionBinaryCodec.supports(resolvableType) && canWrite(mediaType);
+	}
+
+	@Override
+	protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+		TransactionBinaryCodec.write(value, outputMessage.getBody());
+	}
+
+	@Override
+	protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("İkili biçimde istek gövdesi desteklenmiyor.", inputMessage);
+	}
+
+	@Override
+	public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("İkili biçimde istek gövdesi desteklenmiyor.", inputMessage);
+	}
+}
@@ -1,8 +1,12 @@
 package com.banking.bankingsystem.transaction.data;
 
 import com.banking.bankingsystem.account.data.Account;
+import com.banking.bankingsystem.common.id.TimeOrderedUuidGenerator;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -20,10 +24,12 @@ import java.util.UUID;
 public class AccountTransaction {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
 	@Column(name = "id")
 	private UUID id;
 
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "account_id", nullable = false)
 	private Account account;
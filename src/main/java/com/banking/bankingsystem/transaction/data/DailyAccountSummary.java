@@ -0,0 +1,43 @@
+package com.banking.bankingsystem.transaction.data;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Bir hesabın bir gündeki para yatırma / çekme toplamları. Her hareketle birlikte aynı veritabanı işleminde güncellenir.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Entity
+@Table(name = "daily_account_summary")
+@IdClass(DailyAccountSummaryId.class)
+@Data
+public class DailyAccountSummary {
+
+	@Id
+	@Column(name = "account_id")
+	private UUID accountId;
+
+	@Id
+	@Column(name = "summary_date")
+	private LocalDate summaryDate;
+
+	@Column(name = "deposit_total", nullable = false, precision = 15, scale = 2)
+	private BigDecimal depositTotal;
+
+	@Column(name = "deposit_count", nullable = false)
+	private int depositCount;
+
+	@Column(name = "withdraw_total", nullable = false, precision = 15, scale = 2)
+	private BigDecimal withdrawTotal;
+
+	@Column(name = "withdraw_count", nullable = false)
+	private int withdrawCount;
+}
@@ -0,0 +1,25 @@
+package com.banking.bankingsystem.transaction.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyAccountSummaryId implements Serializable {
+
+	private UUID accountId;
+
+	private LocalDate summaryDate;
+}
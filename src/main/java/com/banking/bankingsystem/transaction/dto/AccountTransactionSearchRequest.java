@@ -43,4 +43,10 @@ public class AccountTransactionSearchRequest {
 
 	@Schema(description = "Sayfadaki veri miktarı", example = "10")
 	private int size = 10;
+
+	@Schema(description = "Toplam kayıt sayısı hesaplansın mı. false ise COUNT sorgusu çalışmaz ve sonuç Slice olarak döner", example = "true")
+	private boolean withTotalCount = true;
+
+	@Schema(description = "İmleç modunda önceki sayfadan dönen imleç, ilk sayfa için boş")
+	private String cursor;
 }
@@ -0,0 +1,32 @@
+package com.banking.bankingsystem.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Hesabın belirtilen günün sonundaki bakiyesi")
+public class BalanceAsOfDto {
+
+	@Schema(description = "Hesap id", example = "e8b2bc1d-7c5b-4c29-8d9d-3f07b6527cd4")
+	private UUID accountId;
+
+	@Schema(description = "Gün", example = "2026-10-01")
+	private LocalDate date;
+
+	@Schema(description = "Gün sonu bakiyesi", example = "1250.00")
+	private BigDecimal balance;
+}
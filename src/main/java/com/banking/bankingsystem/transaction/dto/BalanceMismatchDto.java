@@ -0,0 +1,34 @@
+package com.banking.bankingsystem.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Hareket geçmişinden hesaplanan bakiyesi kayıtlı bakiyeden farklı olan hesap")
+public class BalanceMismatchDto {
+
+	@Schema(description = "Hesap id", example = "e8b2bc1d-7c5b-4c29-8d9d-3f07b6527cd4")
+	private UUID accountId;
+
+	@Schema(description = "Hesapta kayıtlı bakiye", example = "1250.00")
+	private BigDecimal balance;
+
+	@Schema(description = "Snapshot ve sonraki hareketlerden hesaplanan bakiye", example = "1200.00")
+	private BigDecimal rebuiltBalance;
+
+	@Schema(description = "Kayıtlı bakiye ile hesaplanan bakiye arasındaki fark", example = "50.00")
+	private BigDecimal difference;
+}
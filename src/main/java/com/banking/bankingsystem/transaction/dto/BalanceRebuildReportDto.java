@@ -0,0 +1,37 @@
+package com.banking.bankingsystem.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Bakiyelerin hareket geçmişinden yeniden hesaplanmasının fark raporu")
+public class BalanceRebuildReportDto {
+
+	@Schema(description = "Kullanılan snapshot'ın üst sınırı; snapshot yoksa boş ve tüm geçmiş yeniden oynatılır", example = "2026-10-18T02:15:00")
+	private LocalDateTime highWaterMark;
+
+	@Schema(description = "Kontrol edilen hesap sayısı", example = "100000")
+	private long checkedAccounts;
+
+	@Schema(description = "Bakiyesi uyuşmayan hesap sayısı", example = "0")
+	private long mismatchCount;
+
+	@Schema(description = "Yeniden hesaplamanın süresi (ms)", example = "850")
+	private long elapsedMillis;
+
+	@Schema(description = "Uyuşmayan hesaplar; en fazla banking.rebuild.max-reported-mismatches kadar listelenir")
+	private List<BalanceMismatchDto> mismatches;
+}
@@ -0,0 +1,27 @@
+package com.banking.bankingsystem.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Alınan bakiye snapshot'ının özeti")
+public class BalanceSnapshotDto {
+
+	@Schema(description = "Snapshot'ın kapsadığı hareketlerin üst sınırı (hariç)", example = "2026-10-18T02:15:00")
+	private LocalDateTime highWaterMark;
+
+	@Schema(description = "Snapshot'ı güncellenen hesap sayısı", example = "1250")
+	private int updatedAccounts;
+}
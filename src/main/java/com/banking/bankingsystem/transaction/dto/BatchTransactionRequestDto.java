@@ -0,0 +1,26 @@
+package com.banking.bankingsystem.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@Schema(description = "Birden fazla hesap için toplu para yatırma / çekme isteği")
+public class BatchTransactionRequestDto {
+
+	@NotEmpty
+	@Size(max = 10_000)
+	@Valid
+	@Schema(description = "Sırayla uygulanacak işlem kalemleri", required = true)
+	private List<BatchTransactionItemDto> items;
+}
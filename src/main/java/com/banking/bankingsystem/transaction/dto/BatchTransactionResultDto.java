@@ -0,0 +1,50 @@
+package com.banking.bankingsystem.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@Schema(description = "Toplu işlemdeki bir kalemin sonucu")
+public class BatchTransactionResultDto {
+
+	@Schema(description = "Kalemin istekteki sırası", example = "0")
+	private int index;
+
+	@Schema(description = "İşlem yapılan hesap id", example = "e8b2bc1d-7c5b-4c29-8d9d-3f07b6527cd4")
+	private UUID accountId;
+
+	@Schema(description = "Kalemin uygulanıp uygulanmadığı", example = "true")
+	private boolean successful;
+
+	@Schema(description = "Başarılı kalem için oluşan hesap hareketi")
+	private AccountTransactionDto transaction;
+
+	@Schema(description = "Reddedilen kalem için hata mesajı", example = "Yetersiz bakiye")
+	private String message;
+
+	public static BatchTransactionResultDto accepted(int index, UUID accountId, AccountTransactionDto transaction) {
+		final BatchTransactionResultDto result = new BatchTransactionResultDto();
+		result.setIndex(index);
+		result.setAccountId(accountId);
+		result.setSuccessful(true);
+		result.setTransaction(transaction);
+		return result;
+	}
+
+	public static BatchTransactionResultDto rejected(int index, UUID accountId, String message) {
+		final BatchTransactionResultDto result = new BatchTransactionResultDto();
+		result.setIndex(index);
+		result.setAccountId(accountId);
+		result.setSuccessful(false);
+		result.setMessage(message);
+		return result;
+	}
+}
@@ -0,0 +1,33 @@
+package com.banking.bankingsystem.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@Schema(description = "Hesabın bir gündeki hareket toplamları")
+public class DailyAccountSummaryDto {
+
+	@Schema(description = "Gün", example = "2026-10-01")
+	private LocalDate summaryDate;
+
+	@Schema(description = "Yatırılan toplam tutar", example = "1500.00")
+	private BigDecimal depositTotal;
+
+	@Schema(description = "Para yatırma işlemi sayısı", example = "3")
+	private int depositCount;
+
+	@Schema(description = "Çekilen toplam tutar", example = "250.00")
+	private BigDecimal withdrawTotal;
+
+	@Schema(description = "Para çekme işlemi sayısı", example = "1")
+	private int withdrawCount;
+}
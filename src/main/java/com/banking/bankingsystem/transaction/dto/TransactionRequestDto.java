@@ -1,13 +1,13 @@
 package com.banking.bankingsystem.transaction.dto;
 
-import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
 import java.math.BigDecimal;
-import java.util.UUID;
 
 /**
  * Created on April, 2025
@@ -20,6 +20,14 @@ public class TransactionRequestDto {
 
 	@NotNull
 	@DecimalMin(value = "0.01", message = "Tutar 0.01'den büyük olmalı")
+	@Digits(integer = 7, fraction = 2, message = "Tutar en fazla 7 tam ve 2 ondalık basamak içerebilir")
 	@Schema(description = "İşlem tutarı", example = "500.00", required = true)
 	private BigDecimal amount;
+
+	/**
+	 * {@code Idempotency-Key} başlığından doldurulur, istek gövdesinde yer almaz.
+	 */
+	@JsonIgnore
+	@Schema(hidden = true)
+	private String idempotencyKey;
 }
@@ -0,0 +1,34 @@
+package com.banking.bankingsystem.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+public class TransferRequestDto {
+
+	@NotNull
+	@Schema(description = "Paranın çekileceği hesap id", example = "e8b2bc1d-7c5b-4c29-8d9d-3f07b6527cd4", required = true)
+	private UUID fromAccountId;
+
+	@NotNull
+	@Schema(description = "Paranın yatırılacağı hesap id", example = "f5dc28e1-62ad-47b4-bc18-c9a37c82d429", required = true)
+	private UUID toAccountId;
+
+	@NotNull
+	@DecimalMin(value = "0.01", message = "Tutar 0.01'den büyük olmalı")
+	@Digits(integer = 7, fraction = 2, message = "Tutar en fazla 7 tam ve 2 ondalık basamak içerebilir")
+	@Schema(description = "Transfer tutarı", example = "500.00", required = true)
+	private BigDecimal amount;
+}
@@ -0,0 +1,25 @@
+package com.banking.bankingsystem.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Transfer sonucunda iki hesapta oluşan hareketler")
+public class TransferResultDto {
+
+	@Schema(description = "Gönderen hesaptaki para çekme hareketi")
+	private AccountTransactionDto withdrawal;
+
+	@Schema(description = "Alıcı hesaptaki para yatırma hareketi")
+	private AccountTransactionDto deposit;
+}
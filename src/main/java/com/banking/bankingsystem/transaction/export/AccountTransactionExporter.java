@@ -0,0 +1,93 @@
+package com.banking.bankingsystem.transaction.export;
+
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionSearchRequest;
+import com.banking.bankingsystem.transaction.service.AccountTransactionService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Arama sonuçlarını satır satır yanıt gövdesine yazar. Her satır okunduğu anda yazıldığı için sonuç kümesi bellekte
+ * tutulmaz.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Component
+public class AccountTransactionExporter {
+
+	private static final String CSV_HEADER = "id,accountId,transactionDate,transactionType,amount\n";
+
+	private final AccountTransactionService accountTransactionService;
+
+	private final ObjectWriter rowWriter;
+
+	public AccountTransactionExporter(AccountTransactionService accountTransactionService, ObjectMapper objectMapper) {
+		this.accountTransactionService = accountTransactionService;
+		this.rowWriter = objectMapper.writerFor(AccountTransactionDto.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+	}
+
+	public void export(AccountTransactionSearchRequest request, TransactionExportFormat format, OutputStream outputStream) throws IOException {
+		final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+		try {
+			switch (format) {
+				case NDJSON -> exportNdjson(request, writer);
+				case CSV -> exportCsv(request, writer);
+			}
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		writer.flush();
+	}
+
+	private void exportNdjson(AccountTransactionSearchRequest request, Writer writer) throws IOException {
+		final JsonGenerator generator = rowWriter.createGenerator(writer).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+		accountTransactionService.streamTransactions(request, transaction -> {
+			try {
+				rowWriter.writeValue(generator, transaction);
+				generator.writeRaw('\n');
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+
+		generator.flush();
+	}
+
+	private void exportCsv(AccountTransactionSearchRequest request, Writer writer) throws IOException {
+		writer.write(CSV_HEADER);
+
+		accountTransactionService.streamTransactions(request, transaction -> {
+			try {
+				writer.write(String.valueOf(transaction.getId()));
+				writer.write(',');
+				writer.write(String.valueOf(transaction.getAccountId()));
+				writer.write(',');
+				writer.write(String.valueOf(transaction.getTransactionDate()));
+				writer.write(',');
+				writer.write(transaction.getTransactionType().name());
+				writer.write(',');
+				writer.write(transaction.getAmount().toPlainString());
+				writer.write('\n');
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+}
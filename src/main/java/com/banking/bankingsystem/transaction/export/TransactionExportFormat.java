@@ -0,0 +1,21 @@
+package com.banking.bankingsystem.transaction.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Getter
+@RequiredArgsConstructor
+public enum TransactionExportFormat {
+
+	NDJSON("application/x-ndjson", "ndjson"), CSV("text/csv", "csv");
+
+	private final String contentType;
+
+	private final String fileExtension;
+}
@@ -0,0 +1,68 @@
+package com.banking.bankingsystem.transaction.idempotency;
+
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import jakarta.persistence.*;
+import lombok.Data;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * İstemcinin gönderdiği {@code Idempotency-Key} ile bu anahtarla oluşturulan hesap hareketi. Hareket tablosu ile yabancı
+ * anahtar ilişkisi yoktur; süresi dolan anahtarlar hareketlerden bağımsız olarak silinir.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Entity
+@Table(name = "idempotency_key")
+@Data
+public class IdempotencyKey implements Persistable<String> {
+
+	@Id
+	@Column(name = "idempotency_key", length = 64)
+	private String idempotencyKey;
+
+	@Column(name = "account_id", nullable = false)
+	private UUID accountId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "transaction_type", nullable = false)
+	private TransactionType transactionType;
+
+	@Column(name = "amount", nullable = false, precision = 9, scale = 2)
+	private BigDecimal amount;
+
+	@Column(name = "transaction_id")
+	private UUID transactionId;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Transient
+	private boolean persisted;
+
+	@Override
+	public String getId() {
+		return idempotencyKey;
+	}
+
+	/**
+	 * Id uygulama tarafından atandığı için Spring Data kaydı varsayılan olarak {@code merge} eder; bu da eklemeden önce bir
+	 * SELECT çalıştırır ve var olan anahtarın üzerine yazar. Yeni anahtarlar {@code persist} edilir, çakışmayı unique index yakalar.
+	 */
+	@Override
+	public boolean isNew() {
+		return !persisted;
+	}
+
+	@PostLoad
+	@PostPersist
+	void markPersisted() {
+		persisted = true;
+	}
+}
@@ -0,0 +1,32 @@
+package com.banking.bankingsystem.transaction.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+	/**
+	 * {@code cutoff} tarihinden önce oluşturulmuş en eski anahtarlardan en fazla {@code limit} tanesini siler. Silme işlemi
+	 * küçük gruplara bölündüğü için tablo uzun süre kilitlenmez.
+	 *
+	 * @return silinen satır sayısı
+	 */
+	@Modifying
+	@Transactional
+	@Query(value = "delete from idempotency_key where idempotency_key in "
+			+ "(select idempotency_key from idempotency_key where created_at < :cutoff order by created_at limit :limit)", nativeQuery = true)
+	int deleteExpired(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
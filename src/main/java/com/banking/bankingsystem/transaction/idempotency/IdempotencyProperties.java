@@ -0,0 +1,37 @@
+package com.banking.bankingsystem.transaction.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@ConfigurationProperties(prefix = "banking.idempotency")
+public class IdempotencyProperties {
+
+	/**
+	 * Yakın zamanda tamamlanan anahtarların bellekte tutulduğu önbelleğin en fazla kayıt sayısı.
+	 */
+	private long cacheSize = 100_000;
+
+	/**
+	 * Anahtarların saklanma süresi. Bu süreden eski anahtarlar tablodan silinir ve tekrar kullanılabilir.
+	 */
+	private Duration retention = Duration.ofHours(24);
+
+	/**
+	 * Süresi dolan anahtarları silen arka plan görevinin çalışma aralığı.
+	 */
+	private Duration purgeInterval = Duration.ofMinutes(5);
+
+	/**
+	 * Tek bir DELETE ile silinen en fazla anahtar sayısı.
+	 */
+	private int purgeBatchSize = 1000;
+}
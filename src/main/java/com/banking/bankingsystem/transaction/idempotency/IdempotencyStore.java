@@ -0,0 +1,176 @@
+package com.banking.bankingsystem.transaction.idempotency;
+
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.banking.bankingsystem.transaction.repository.AccountTransactionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@code Idempotency-Key} ile gelen para yatırma / çekme isteklerinin ilk sonucunu saklar. Tamamlanan anahtarlar sınırlı bir
+ * bellek içi önbellekte de tutulur; böylece zaman aşımına uğrayıp tekrarlanan isteklerin çoğu veritabanına ve hesap satırına
+ * hiç gitmeden yanıtlanır. Önbellekte olmayan anahtarlar {@code idempotency_key} tablosundan okunur.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+	public static final int MAX_KEY_LENGTH = 64;
+
+	static final String REPLAYS = "banking.idempotency.replays";
+
+	private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+	private final AccountTransactionRepository accountTransactionRepository;
+
+	private final IdempotencyProperties properties;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Cache<String, CompletedKey> recentKeys;
+
+	public IdempotencyStore(IdempotencyKeyRepository idempotencyKeyRepository, AccountTransactionRepository accountTransactionRepository,
+			IdempotencyProperties properties, MeterRegistry meterRegistry) {
+		this.idempotencyKeyRepository = idempotencyKeyRepository;
+		this.accountTransactionRepository = accountTransactionRepository;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.recentKeys = Caffeine.newBuilder()
+				.maximumSize(properties.getCacheSize())
+				.expireAfterWrite(properties.getRetention())
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, recentKeys, "idempotency-keys");
+	}
+
+	public static void validate(String idempotencyKey) {
+		if (Objects.nonNull(idempotencyKey) && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH)) {
+			throw new IllegalArgumentException("Idempotency-Key 1 ile " + MAX_KEY_LENGTH + " karakter arasında olmalıdır.");
+		}
+	}
+
+	/**
+	 * Anahtar daha önce aynı istek için tamamlandıysa ilk işlemin sonucunu döner. Önce önbelleğe, sonra tabloya bakılır.
+	 *
+	 * @throws IllegalArgumentException anahtar farklı bir hesap, işlem türü ya da tutar için kullanılmışsa
+	 */
+	public Optional<AccountTransactionDto> find(String idempotencyKey, UUID accountId, TransactionType transactionType, BigDecimal amount) {
+		final Optional<AccountTransactionDto> cached = findCached(idempotencyKey, accountId, transactionType, amount);
+		if (cached.isPresent()) {
+			return cached;
+		}
+
+		final Optional<CompletedKey> stored = idempotencyKeyRepository.findById(idempotencyKey)
+				.filter(key -> Objects.nonNull(key.getTransactionId()))
+				.flatMap(key -> accountTransactionRepository.findDtoById(key.getTransactionId())
+						.map(transaction -> new CompletedKey(key.getAccountId(), key.getTransactionType(), key.getAmount(), transaction)));
+
+		stored.ifPresent(completed -> recentKeys.put(idempotencyKey, completed));
+		return stored.map(completed -> replay(completed, accountId, transactionType, amount, "database"));
+	}
+
+	/**
+	 * {@link #find} ile aynı kontrolü yalnızca bellek içi önbellek üzerinden yapar.
+	 */
+	public Optional<AccountTransactionDto> findCached(String idempotencyKey, UUID accountId, TransactionType transactionType, BigDecimal amount) {
+		return Optional.ofNullable(recentKeys.getIfPresent(idempotencyKey))
+				.map(completed -> replay(completed, accountId, transactionType, amount, "cache"));
+	}
+
+	/**
+	 * Anahtarı, bakiye değişmeden önce mevcut veritabanı işlemi içinde tabloya ekler. Aynı anahtarla eşzamanlı gelen ikinci istek
+	 * unique index'e takılır ve {@link ConcurrencyFailureException} alır; yeniden denendiğinde ilk isteğin sonucu okunur.
+	 */
+	public IdempotencyKey claim(String idempotencyKey, UUID accountId, TransactionType transactionType, BigDecimal amount) {
+		final IdempotencyKey key = new IdempotencyKey();
+		key.setIdempotencyKey(idempotencyKey);
+		key.setAccountId(accountId);
+		key.setTransactionType(transactionType);
+		key.setAmount(amount);
+		key.setCreatedAt(LocalDateTime.now());
+
+		try {
+			return idempotencyKeyRepository.saveAndFlush(key);
+		} catch (DataIntegrityViolationException e) {
+			throw new ConcurrencyFailureException("Bu Idempotency-Key ile başka bir istek işleniyor.", e);
+		}
+	}
+
+	/**
+	 * Sahiplenilen anahtarı oluşan hareket ile ilişkilendirir. Anahtar önbelleğe yalnızca işlem commit edildikten sonra eklenir.
+	 */
+	public void complete(IdempotencyKey key, AccountTransactionDto transaction) {
+		key.setTransactionId(transaction.getId());
+		final CompletedKey completed = new CompletedKey(key.getAccountId(), key.getTransactionType(), key.getAmount(), transaction);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					recentKeys.put(key.getIdempotencyKey(), completed);
+				}
+			});
+		} else {
+			recentKeys.put(key.getIdempotencyKey(), completed);
+		}
+	}
+
+	/**
+	 * Başka bir yazma yolunun (ör. ledger) commit ettiği anahtarı önbelleğe ekler.
+	 */
+	public void remember(String idempotencyKey, AccountTransactionDto transaction) {
+		recentKeys.put(idempotencyKey, new CompletedKey(transaction.getAccountId(), transaction.getTransactionType(), transaction.getAmount(), transaction));
+	}
+
+	/**
+	 * Saklama süresi dolan anahtarları küçük gruplar halinde, her grubu ayrı bir işlemde siler.
+	 */
+	@Scheduled(initialDelayString = "${banking.idempotency.purge-interval:PT5M}", fixedDelayString = "${banking.idempotency.purge-interval:PT5M}")
+	public int purgeExpired() {
+		final LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+		final int batchSize = properties.getPurgeBatchSize();
+
+		int total = 0;
+		int deleted;
+		do {
+			deleted = idempotencyKeyRepository.deleteExpired(cutoff, batchSize);
+			total += deleted;
+		} while (deleted == batchSize);
+
+		if (total > 0) {
+			log.info("{} adet süresi dolmuş Idempotency-Key silindi", total);
+		}
+		return total;
+	}
+
+	private AccountTransactionDto replay(CompletedKey completed, UUID accountId, TransactionType transactionType, BigDecimal amount, String source) {
+		if (!completed.accountId().equals(accountId) || completed.transactionType() != transactionType || completed.amount().compareTo(amount) != 0) {
+			throw new IllegalArgumentException("Bu Idempotency-Key farklı bir işlem için kullanılmış.");
+		}
+		meterRegistry.counter(REPLAYS, "source", source).increment();
+		return completed.transaction();
+	}
+
+	private record CompletedKey(UUID accountId, TransactionType transactionType, BigDecimal amount, AccountTransactionDto transaction) {
+	}
+}
@@ -0,0 +1,28 @@
+package com.banking.bankingsystem.transaction.ledger;
+
+/**
+ * Ledger günlüğüne eklenen kayıtların diske ne zaman zorlanacağını belirler.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public enum JournalFsyncPolicy {
+
+	/**
+	 * Her grup yanıtlanmadan önce diske zorlanır; yanıtlanan işlem işletim sistemi çökmesinde de kaybolmaz.
+	 */
+	ALWAYS,
+
+	/**
+	 * Gruplar en fazla {@code fsync-interval} aralıkla diske zorlanır. Yanıtlanan işlem süreç çökmesinde kaybolmaz, işletim
+	 * sistemi çökmesinde son aralıktaki kayıtlar kaybolabilir.
+	 */
+	INTERVAL,
+
+	/**
+	 * Diske yazma işletim sistemine bırakılır; yalnızca süreç çökmesine karşı koruma sağlar.
+	 */
+	NEVER
+}
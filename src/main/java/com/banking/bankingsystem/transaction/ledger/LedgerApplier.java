@@ -0,0 +1,291 @@
+package com.banking.bankingsystem.transaction.ledger;
+
+import com.banking.bankingsystem.common.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Günlük açıkken shard'ın günlüğe yazıp yanıtladığı grupları veritabanına günlük sırasıyla ve toplu halde uygulayan iş
+ * parçacığı. Her uygulama, shard'ın kontrol noktasını aynı veritabanı işleminde ilerletir; başlangıçta kontrol noktasından
+ * sonraki kayıtlar yeniden uygulanır, böylece bir kayıt ne kaybolur ne de iki kez uygulanır. Tekrar denemekle
+ * uygulanamayacak kayıtlar (silinmiş hesap, bütünlük kısıtı ihlali) {@code ledger_dead_letter} tablosuna alınır ve atlanır;
+ * böylece tek bir kayıt günlüğün geri kalanını durdurmaz.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Slf4j
+class LedgerApplier implements Runnable {
+
+	private static final long MAX_RETRY_DELAY_MILLIS = 5_000;
+
+	private final int index;
+
+	private final int batchSize;
+
+	private final LedgerJournal journal;
+
+	private final LedgerBatchWriter batchWriter;
+
+	private final BlockingQueue<Batch> queue;
+
+	/**
+	 * Yanıtlanmış ancak henüz veritabanına uygulanmamış hesap bakiye farkları ve kayıt sayıları.
+	 */
+	private final Map<UUID, Pending> unapplied = new ConcurrentHashMap<>();
+
+	/**
+	 * Kayıtları dead-letter'a alınan, shard önbelleğindeki bakiyesi artık veritabanıyla uyuşmayan hesaplar.
+	 */
+	private final Queue<UUID> rejectedAccounts = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Bir grubun commit'i ile farklarının {@link #unapplied}'dan düşülmesini, veritabanından bakiye okumaya karşı atomik kılar.
+	 */
+	private final ReentrantLock applyLock = new ReentrantLock();
+
+	private final Thread thread;
+
+	private volatile boolean running = true;
+
+	LedgerApplier(int index, LedgerProperties properties, LedgerJournal journal, LedgerBatchWriter batchWriter) {
+		this.index = index;
+		this.batchSize = properties.getBatchSize();
+		this.journal = journal;
+		this.batchWriter = batchWriter;
+		this.queue = new LinkedBlockingQueue<>(Math.max(1, properties.getQueueCapacity() / properties.getBatchSize()));
+		this.thread = Thread.ofPlatform().name("ledger-applier-" + index).unstarted(this);
+	}
+
+	/**
+	 * Günlükte kontrol noktasından sonra kalan kayıtları veritabanına uygular. Shard iş parçacığı başlamadan çağrılır.
+	 */
+	void recover() {
+		try {
+			final List<LedgerJournal.JournalRecord> records = journal.open(batchWriter.loadCheckpoint(index));
+			for (int from = 0; from < records.size(); from += batchSize) {
+				final List<LedgerJournal.JournalRecord> chunk = records.subList(from, Math.min(from + batchSize, records.size()));
+				write(chunk.stream().map(LedgerJournal.JournalRecord::entry).toList(), chunk.getLast().sequence(), false);
+			}
+			if (!records.isEmpty()) {
+				journal.release(records.getLast().sequence());
+				log.info("Ledger shard {} günlüğünden {} kayıt yeniden uygulandı", index, records.size());
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Ledger shard " + index + " günlüğü okunamadı.", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Ledger shard " + index + " günlüğü uygulanırken iş parçacığı kesildi.", e);
+		}
+	}
+
+	void start() {
+		thread.start();
+	}
+
+	void stop() throws InterruptedException {
+		running = false;
+		thread.join();
+	}
+
+	/**
+	 * Günlüğe yazılmış grubu uygulama kuyruğuna ekler. Kuyruk doluysa veritabanı yetişene kadar shard bekletilir.
+	 */
+	void enqueue(List<LedgerEntry> entries, long lastSequence) throws InterruptedException {
+		entries.forEach(entry -> unapplied.merge(entry.accountId(), new Pending(entry.signedAmount(), 1), Pending::plus));
+		queue.put(new Batch(entries, lastSequence));
+	}
+
+	/**
+	 * Hesabın yanıtlanmış ancak henüz veritabanına uygulanmamış bir kaydı varsa true.
+	 */
+	boolean hasUnapplied(UUID accountId) {
+		return unapplied.containsKey(accountId);
+	}
+
+	/**
+	 * Son çağrıdan bu yana kayıtları dead-letter'a alınan hesapları verilen işleme geçirir.
+	 */
+	void drainRejectedAccounts(Consumer<UUID> action) {
+		for (UUID accountId = rejectedAccounts.poll(); accountId != null; accountId = rejectedAccounts.poll()) {
+			action.accept(accountId);
+		}
+	}
+
+	/**
+	 * Hesabın veritabanındaki bakiyesine henüz uygulanmamış farkları ekleyerek döner, hesap yoksa null.
+	 */
+	Money loadBalance(UUID accountId) {
+		applyLock.lock();
+		try {
+			final Money loaded = batchWriter.loadBalance(accountId);
+			final Pending pending = unapplied.get(accountId);
+			return loaded == null || pending == null ? loaded : loaded.plus(Money.of(pending.amount(), loaded.currency()));
+		} finally {
+			applyLock.unlock();
+		}
+	}
+
+	@Override
+	public void run() {
+		final List<Batch> batches = new ArrayList<>();
+		while (running || !queue.isEmpty()) {
+			try {
+				final Batch first = queue.poll(100, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batches.add(first);
+				int size = first.entries().size();
+				for (Batch next = queue.peek(); next != null && size + next.entries().size() <= batchSize; next = queue.peek()) {
+					batches.add(queue.poll());
+					size += next.entries().size();
+				}
+				apply(batches);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				running = false;
+			} finally {
+				batches.clear();
+			}
+		}
+	}
+
+	/**
+	 * Grupları tek veritabanı işleminde uygular. Yanıtlanmış kayıtlar atlanamayacağı için geçici hatalarda artan beklemeyle
+	 * yeniden denenir; uygulayıcı durdurulurken de başarısız kalırsa kayıtlar bir sonraki başlangıçta günlükten uygulanır.
+	 */
+	private void apply(List<Batch> batches) throws InterruptedException {
+		final List<LedgerEntry> entries = new ArrayList<>();
+		batches.forEach(batch -> entries.addAll(batch.entries()));
+		final long lastSequence = batches.getLast().lastSequence();
+
+		try {
+			write(entries, lastSequence, true);
+		} catch (RuntimeException e) {
+			log.error("Ledger shard {} günlüğünün {} sırasına kadarki kayıtları uygulanamadı; bir sonraki başlangıçta yeniden denenecek",
+					  index, lastSequence, e);
+			queue.clear();
+			return;
+		}
+
+		try {
+			journal.release(lastSequence);
+		} catch (IOException e) {
+			log.warn("Ledger shard {} günlüğünün uygulanmış segmentleri silinemedi", index, e);
+		}
+	}
+
+	/**
+	 * Günlükte ardışık sıralarda duran kayıtları uygular ve kontrol noktasını {@code lastSequence}'e ilerletir. Bakiyesi
+	 * güncellenemeyen hesapların kayıtları {@link LedgerBatchWriter} tarafından aynı işlemde dead-letter'a alınır. Grup bir
+	 * bütünlük kısıtına takılırsa (ör. veritabanında zaten bulunan bir Idempotency-Key) kayıtlar tek tek uygulanır ve yalnızca
+	 * takılan kayıt dead-letter'a alınır.
+	 *
+	 * @param retry geçici hatalarda yeniden denenmesi; false ise hata çağırana fırlatılır
+	 */
+	private void write(List<LedgerEntry> entries, long lastSequence, boolean retry) throws InterruptedException {
+		if (attempt(() -> commit(entries, lastSequence), lastSequence, retry) == null) {
+			return;
+		}
+
+		final long firstSequence = lastSequence - entries.size() + 1;
+		for (int i = 0; i < entries.size(); i++) {
+			final LedgerEntry entry = entries.get(i);
+			final long sequence = firstSequence + i;
+			final DataIntegrityViolationException violation = attempt(() -> commit(List.of(entry), sequence), sequence, retry);
+			if (violation != null) {
+				final DataIntegrityViolationException failure = attempt(() -> deadLetter(entry, sequence, violation), sequence, retry);
+				if (failure != null) {
+					throw failure;
+				}
+			}
+		}
+	}
+
+	/**
+	 * İşlemi çalıştırır; geçici hatalarda {@code retry} açıksa ve uygulayıcı durdurulmadıysa artan beklemeyle yeniden dener.
+	 *
+	 * @return işlem bir bütünlük kısıtına takıldıysa o hata, uygulandıysa null
+	 */
+	private DataIntegrityViolationException attempt(Runnable action, long sequence, boolean retry) throws InterruptedException {
+		long delay = 10;
+		while (true) {
+			try {
+				action.run();
+				return null;
+			} catch (DataIntegrityViolationException e) {
+				return e;
+			} catch (RuntimeException e) {
+				if (!retry || !running) {
+					throw e;
+				}
+				log.error("Ledger shard {} günlüğünün {} sırasına kadarki kayıtları uygulanamadı, {} ms sonra yeniden denenecek", index, sequence,
+						  delay, e);
+			}
+			Thread.sleep(delay);
+			delay = Math.min(delay * 2, MAX_RETRY_DELAY_MILLIS);
+		}
+	}
+
+	private void commit(List<LedgerEntry> entries, long lastSequence) {
+		applyLock.lock();
+		try {
+			final Set<UUID> deadLettered = batchWriter.write(entries, index, lastSequence);
+			entries.forEach(this::applied);
+			if (!deadLettered.isEmpty()) {
+				log.error("Ledger shard {} günlüğünün {} sırasına kadarki kayıtlarından {} hesabınkiler uygulanamadı ve dead-letter'a alındı: {}",
+						  index, lastSequence, deadLettered.size(), deadLettered);
+				rejectedAccounts.addAll(deadLettered);
+			}
+		} finally {
+			applyLock.unlock();
+		}
+	}
+
+	private void deadLetter(LedgerEntry entry, long sequence, DataIntegrityViolationException violation) {
+		applyLock.lock();
+		try {
+			batchWriter.deadLetter(entry, index, sequence, violation.getMostSpecificCause().getMessage());
+			applied(entry);
+			rejectedAccounts.add(entry.accountId());
+		} finally {
+			applyLock.unlock();
+		}
+		log.error("Ledger shard {} günlüğünün {} sıralı kaydı uygulanamadı ve dead-letter'a alındı", index, sequence, violation);
+	}
+
+	private void applied(LedgerEntry entry) {
+		unapplied.computeIfPresent(entry.accountId(), (accountId, pending) -> pending.entries() == 1 ? null
+				: new Pending(pending.amount().subtract(entry.signedAmount()), pending.entries() - 1));
+	}
+
+	private record Pending(BigDecimal amount, int entries) {
+
+		Pending plus(Pending other) {
+			return new Pending(amount.add(other.amount()), entries + other.entries());
+		}
+	}
+
+	private record Batch(List<LedgerEntry> entries, long lastSequence) {
+	}
+}
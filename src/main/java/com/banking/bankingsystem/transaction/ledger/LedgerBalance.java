@@ -0,0 +1,50 @@
+package com.banking.bankingsystem.transaction.ledger;
+
+import com.banking.bankingsystem.common.money.Money;
+import com.banking.bankingsystem.transaction.service.AccountTransactionService;
+
+/**
+ * Ledger shard'ının önbellekte tuttuğu hesap bakiyesi. Yalnızca shard iş parçacığı tarafından yerinde güncellendiği için
+ * yatırma ve çekme kararları nesne oluşturmaz. Kabul edilen komutlar bakiyeye grubun commit'i beklenmeden yansır; grup commit
+ * edilemezse shard etkilenen hesapları önbellekten çıkarır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public final class LedgerBalance {
+
+	private long minorUnits;
+
+	public LedgerBalance(Money balance) {
+		this.minorUnits = balance.minorUnits();
+	}
+
+	/**
+	 * @return yeni bakiye üst limiti aşacaksa false, bu durumda bakiye değişmez
+	 */
+	public boolean deposit(long amount) {
+		final long newBalance = Math.addExact(minorUnits, amount);
+		if (newBalance > AccountTransactionService.MAX_ACCOUNT_BALANCE_MINOR_UNITS) {
+			return false;
+		}
+		minorUnits = newBalance;
+		return true;
+	}
+
+	/**
+	 * @return bakiye yetersizse false, bu durumda bakiye değişmez
+	 */
+	public boolean withdraw(long amount) {
+		if (minorUnits < amount) {
+			return false;
+		}
+		minorUnits -= amount;
+		return true;
+	}
+
+	public long minorUnits() {
+		return minorUnits;
+	}
+}
@@ -0,0 +1,234 @@
+package com.banking.bankingsystem.transaction.ledger;
+
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.event.AccountBalanceChangedEvent;
+import com.banking.bankingsystem.common.money.Money;
+import com.banking.bankingsystem.common.outbox.OutboxWriter;
+import com.banking.bankingsystem.transaction.summary.DailyAccountSummaryWriter;
+import com.banking.bankingsystem.transaction.summary.DailySummaryDelta;
+import com.banking.bankingsystem.transaction.service.AccountTransactionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Component
+public class LedgerBatchWriter {
+
+	static final String ACCOUNT_NOT_FOUND = "Hesap bulunamadı.";
+
+	static final String BALANCE_MISMATCH = "Ledger bakiyesi veritabanı ile uyuşmuyor.";
+
+	private static final int MAX_REASON_LENGTH = 255;
+
+	private static final String INSERT_TRANSACTION = "insert into account_transaction (id, account_id, transaction_date, transaction_type, amount) values (?, ?, ?, ?, ?)";
+
+	private static final String APPLY_BALANCE_DELTA = "update account set balance = balance + ?, version = version + 1 where id = ? and balance + ? >= 0 and balance + ? <= ?";
+
+	private static final String INSERT_IDEMPOTENCY_KEY = "insert into idempotency_key (idempotency_key, account_id, transaction_type, amount, transaction_id, created_at) values (?, ?, ?, ?, ?, ?)";
+
+	private static final String SELECT_BALANCE = "select balance, account_type from account where id = ?";
+
+	private static final String SELECT_CHECKPOINT = "select applied_sequence from ledger_journal_checkpoint where shard = ?";
+
+	private static final String UPDATE_CHECKPOINT = "update ledger_journal_checkpoint set applied_sequence = ? where shard = ? and applied_sequence < ?";
+
+	private static final String INSERT_CHECKPOINT = "insert into ledger_journal_checkpoint (shard, applied_sequence) values (?, ?)";
+
+	private static final String INSERT_DEAD_LETTER = "insert into ledger_dead_letter (shard, transaction_id, account_id, transaction_date, transaction_type, amount, idempotency_key, reason, created_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final DailyAccountSummaryWriter dailyAccountSummaryWriter;
+
+	private final OutboxWriter outboxWriter;
+
+	private final Counter deadLetters;
+
+	public LedgerBatchWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+							 DailyAccountSummaryWriter dailyAccountSummaryWriter, OutboxWriter outboxWriter, MeterRegistry meterRegistry) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.eventPublisher = eventPublisher;
+		this.dailyAccountSummaryWriter = dailyAccountSummaryWriter;
+		this.outboxWriter = outboxWriter;
+		this.deadLetters = Counter.builder("banking.ledger.dead.letters")
+				.description("Veritabanına uygulanamayıp ledger_dead_letter tablosuna alınan günlük kaydı sayısı")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Hesabın veritabanındaki güncel bakiyesini döner, hesap yoksa null.
+	 */
+	public Money loadBalance(UUID accountId) {
+		final List<Money> balances = jdbcTemplate.query(SELECT_BALANCE, (resultSet, rowNum) -> Money.of(resultSet.getBigDecimal(1),
+				AccountType.valueOf(resultSet.getString(2))), accountId);
+		return balances.isEmpty() ? null : balances.getFirst();
+	}
+
+	/**
+	 * Shard günlüğünün veritabanına uygulanmış son sıra numarasını döner, henüz hiç uygulanmadıysa 0.
+	 */
+	public long loadCheckpoint(int shard) {
+		final List<Long> checkpoints = jdbcTemplate.queryForList(SELECT_CHECKPOINT, Long.class, shard);
+		return checkpoints.isEmpty() ? 0 : checkpoints.getFirst();
+	}
+
+	/**
+	 * İşlem satırlarını, hesap başına toplanmış bakiye farklarını, günlük özetleri, outbox olaylarını ve varsa Idempotency-Key'leri tek bir veritabanı işleminde yazar.
+	 * Bakiyesi koşullu güncellenemeyen hesapların (silinmiş ya da bakiyesi sınırların dışına çıkan) kayıtları yazılmaz, diğer
+	 * hesapların kayıtları commit edilir. Anahtar zaten varsa işlemin tamamı geri alınır.
+	 *
+	 * @return kayıtları yazılmayan hesaplar
+	 */
+	public Set<UUID> write(List<LedgerEntry> entries) {
+		return accounts(write(entries, null, rejected -> {
+		}));
+	}
+
+	/**
+	 * Günlükten gelen kayıtları yazar ve shard'ın kontrol noktasını aynı veritabanı işleminde {@code appliedSequence}'e ilerletir.
+	 * Kontrol noktası zaten bu sıranın ilerisindeyse kayıtlar daha önce uygulanmıştır ve işlem geri alınır. Bakiyesi koşullu
+	 * güncellenemeyen hesapların (silinmiş ya da bakiyesi sınırların dışına çıkan) kayıtları yazılmaz, aynı işlemde
+	 * {@code ledger_dead_letter} tablosuna alınır; kayıtlar yanıtlanmış olduğu için yeniden denemek sonucu değiştirmez.
+	 *
+	 * @return kayıtları dead-letter'a alınan hesaplar
+	 */
+	public Set<UUID> write(List<LedgerEntry> entries, int shard, long appliedSequence) {
+		final List<LedgerEntry> rejected = write(entries, () -> checkpoint(shard, appliedSequence), rejectedEntries -> {
+			final Map<UUID, String> reasons = new LinkedHashMap<>();
+			for (LedgerEntry entry : rejectedEntries) {
+				insertDeadLetter(entry, shard, reasons.computeIfAbsent(entry.accountId(),
+																	   accountId -> loadBalance(accountId) == null ? ACCOUNT_NOT_FOUND : BALANCE_MISMATCH));
+			}
+		});
+		deadLetters.increment(rejected.size());
+		return accounts(rejected);
+	}
+
+	/**
+	 * Uygulanamayan tek bir günlük kaydını {@code ledger_dead_letter} tablosuna alır ve kontrol noktasını aynı veritabanı
+	 * işleminde kaydın sırasına ilerletir.
+	 */
+	public void deadLetter(LedgerEntry entry, int shard, long sequence, String reason) {
+		transactionTemplate.executeWithoutResult(status -> {
+			checkpoint(shard, sequence);
+			insertDeadLetter(entry, shard, Objects.isNull(reason) ? BALANCE_MISMATCH : reason);
+		});
+		deadLetters.increment();
+	}
+
+	private static Set<UUID> accounts(List<LedgerEntry> entries) {
+		return entries.stream().map(LedgerEntry::accountId).collect(Collectors.toSet());
+	}
+
+	private void checkpoint(int shard, long appliedSequence) {
+		if (jdbcTemplate.update(UPDATE_CHECKPOINT, appliedSequence, shard, appliedSequence) == 0) {
+			if (loadCheckpoint(shard) >= appliedSequence) {
+				throw new IllegalStateException("Ledger shard " + shard + " günlüğünün " + appliedSequence + " sırası zaten uygulanmış.");
+			}
+			jdbcTemplate.update(INSERT_CHECKPOINT, shard, appliedSequence);
+		}
+	}
+
+	private void insertDeadLetter(LedgerEntry entry, int shard, String reason) {
+		jdbcTemplate.update(INSERT_DEAD_LETTER, shard, entry.id(), entry.accountId(), Timestamp.valueOf(entry.transactionDate()),
+							entry.transactionType().name(), entry.amount(), entry.idempotencyKey(),
+							reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason,
+							new Timestamp(System.currentTimeMillis()));
+	}
+
+	/**
+	 * @return bakiyesi koşullu güncellenemeyen hesapların yazılmayan kayıtları
+	 */
+	private List<LedgerEntry> write(List<LedgerEntry> entries, Runnable checkpoint, Consumer<List<LedgerEntry>> rejectedHandler) {
+		final Map<UUID, BigDecimal> deltas = new LinkedHashMap<>();
+		for (LedgerEntry entry : entries) {
+			deltas.merge(entry.accountId(), entry.signedAmount(), BigDecimal::add);
+		}
+
+		return transactionTemplate.execute(status -> {
+			if (checkpoint != null) {
+				checkpoint.run();
+			}
+
+			final int[] updated = jdbcTemplate.batchUpdate(APPLY_BALANCE_DELTA, deltas.entrySet().stream()
+					.map(delta -> new Object[] { delta.getValue(), delta.getKey(), delta.getValue(), delta.getValue(),
+							AccountTransactionService.MAX_ACCOUNT_BALANCE })
+					.toList());
+
+			final Set<UUID> rejectedAccounts = new HashSet<>();
+			int index = 0;
+			for (UUID accountId : deltas.keySet()) {
+				if (updated[index++] == 0) {
+					rejectedAccounts.add(accountId);
+				}
+			}
+			if (rejectedAccounts.isEmpty()) {
+				insert(entries);
+				return List.<LedgerEntry>of();
+			}
+
+			final List<LedgerEntry> rejected = entries.stream().filter(entry -> rejectedAccounts.contains(entry.accountId())).toList();
+			rejectedHandler.accept(rejected);
+			final List<LedgerEntry> accepted = entries.stream().filter(entry -> !rejectedAccounts.contains(entry.accountId())).toList();
+			if (!accepted.isEmpty()) {
+				insert(accepted);
+			}
+			return rejected;
+		});
+	}
+
+	/**
+	 * Bakiyeleri güncellenmiş hesapların işlem satırlarını, günlük özetlerini, Idempotency-Key'lerini ve outbox olaylarını
+	 * açık veritabanı işleminde yazar.
+	 */
+	private void insert(List<LedgerEntry> entries) {
+		jdbcTemplate.batchUpdate(INSERT_TRANSACTION, entries.stream()
+				.map(entry -> new Object[] { entry.id(), entry.accountId(), Timestamp.valueOf(entry.transactionDate()),
+						entry.transactionType().name(), entry.amount() })
+				.toList());
+
+		final DailySummaryDelta delta = new DailySummaryDelta();
+		entries.forEach(entry -> delta.add(entry.accountId(), entry.transactionType(), entry.amount(), entry.transactionDate()));
+		dailyAccountSummaryWriter.apply(delta);
+
+		final List<LedgerEntry> keyed = entries.stream().filter(entry -> Objects.nonNull(entry.idempotencyKey())).toList();
+		if (!keyed.isEmpty()) {
+			final Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+			jdbcTemplate.batchUpdate(INSERT_IDEMPOTENCY_KEY, keyed.stream()
+					.map(entry -> new Object[] { entry.idempotencyKey(), entry.accountId(), entry.transactionType().name(), entry.amount(),
+							entry.id(), createdAt })
+					.toList());
+		}
+
+		outboxWriter.appendTransactions(entries.stream().map(LedgerEntry::toTransactionDto).toList());
+
+		entries.stream().map(LedgerEntry::accountId).distinct()
+				.forEach(accountId -> eventPublisher.publishEvent(new AccountBalanceChangedEvent(accountId)));
+	}
+}
@@ -0,0 +1,250 @@
+package com.banking.bankingsystem.transaction.ledger;
+
+import com.banking.bankingsystem.common.metrics.Operation;
+import com.banking.bankingsystem.common.metrics.OperationMetrics;
+import com.banking.bankingsystem.common.metrics.RejectionReason;
+import com.banking.bankingsystem.common.money.Money;
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.banking.bankingsystem.transaction.dto.BatchTransactionItemDto;
+import com.banking.bankingsystem.transaction.dto.BatchTransactionRequestDto;
+import com.banking.bankingsystem.transaction.dto.BatchTransactionResultDto;
+import com.banking.bankingsystem.transaction.dto.TransactionRequestDto;
+import com.banking.bankingsystem.transaction.idempotency.IdempotencyStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Para yatırma / çekme işlemlerini hesap id'sine göre shard'lara dağıtan bellek içi ledger motoru.
+ * {@code banking.ledger.enabled=true} olduğunda JPA yolunun yerine kullanılır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "banking.ledger", name = "enabled", havingValue = "true")
+public class LedgerEngine {
+
+	private final LedgerShard[] shards;
+
+	private final LedgerProperties properties;
+
+	private final LedgerBatchWriter batchWriter;
+
+	private final OperationMetrics operationMetrics;
+
+	private final IdempotencyStore idempotencyStore;
+
+	public LedgerEngine(LedgerProperties properties, LedgerBatchWriter batchWriter, OperationMetrics operationMetrics, IdempotencyStore idempotencyStore) {
+		this.properties = properties;
+		this.batchWriter = batchWriter;
+		this.operationMetrics = operationMetrics;
+		this.idempotencyStore = idempotencyStore;
+		this.shards = new LedgerShard[properties.getShards()];
+		for (int i = 0; i < shards.length; i++) {
+			shards[i] = new LedgerShard(i, properties, batchWriter, idempotencyStore);
+		}
+	}
+
+	@PostConstruct
+	void start() throws IOException {
+		if (properties.getJournal().isEnabled()) {
+			recoverRemovedShards();
+		}
+		for (LedgerShard shard : shards) {
+			shard.start();
+		}
+	}
+
+	@PreDestroy
+	void stop() throws InterruptedException {
+		for (LedgerShard shard : shards) {
+			shard.stop();
+		}
+	}
+
+	/**
+	 * Hesabı, shard'ında kuyrukta önce gelen komutları işlendikten sonra {@code delete} ile siler ve bakiyesini shard
+	 * önbelleğinden çıkarır.
+	 *
+	 * @throws org.springframework.dao.ConcurrencyFailureException hesabın günlükte veritabanına henüz uygulanmamış kaydı varsa
+	 */
+	public void deleteAccount(UUID accountId, Runnable delete) {
+		final long deadline = deadline();
+		try {
+			await(shardOf(accountId).delete(accountId, delete), deadline);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Ledger kuyruğu beklenirken iş parçacığı kesildi.", e);
+		}
+	}
+
+	public AccountTransactionDto deposit(UUID accountId, TransactionRequestDto request) {
+		final Optional<AccountTransactionDto> replay = findReplay(accountId, TransactionType.DEPOSIT, request);
+		if (replay.isPresent()) {
+			return replay.get();
+		}
+		return awaitCounted(Operation.TRANSACTION_DEPOSIT, RejectionReason.BALANCE_LIMIT,
+							submit(accountId, TransactionType.DEPOSIT, request.getAmount(), request.getIdempotencyKey()));
+	}
+
+	public AccountTransactionDto withdraw(UUID accountId, TransactionRequestDto request) {
+		final Optional<AccountTransactionDto> replay = findReplay(accountId, TransactionType.WITHDRAW, request);
+		if (replay.isPresent()) {
+			return replay.get();
+		}
+		return awaitCounted(Operation.TRANSACTION_WITHDRAW, RejectionReason.INSUFFICIENT_FUNDS,
+							submit(accountId, TransactionType.WITHDRAW, request.getAmount(), request.getIdempotencyKey()));
+	}
+
+	/**
+	 * Kalemleri ilgili shard kuyruklarına bırakır ve tamamının sonucunu bekler. Aynı hesaba ait kalemler aynı shard'da istek
+	 * sırasıyla işlenir; shard'lar kalemleri kendi grup commit'lerine dahil eder. Tutarı alt birime çevrilemeyen kalemler
+	 * kuyruğa hiç alınmaz ve yalnızca kendileri reddedilir; böylece istek bir kısmı uygulanmışken hata ile sonlanmaz.
+	 */
+	public List<BatchTransactionResultDto> processBatch(BatchTransactionRequestDto request) {
+		final List<BatchTransactionItemDto> items = request.getItems();
+		final String[] invalidAmounts = new String[items.size()];
+		for (int index = 0; index < items.size(); index++) {
+			try {
+				Money.toMinorUnits(items.get(index).getAmount());
+			} catch (IllegalArgumentException e) {
+				invalidAmounts[index] = e.getMessage();
+			}
+		}
+
+		final long deadline = deadline();
+		final List<CompletableFuture<AccountTransactionDto>> futures = new ArrayList<>(items.size());
+		for (int index = 0; index < items.size(); index++) {
+			final BatchTransactionItemDto item = items.get(index);
+			futures.add(invalidAmounts[index] == null ? submit(item.getAccountId(), item.getTransactionType(), item.getAmount()) : null);
+		}
+
+		final List<BatchTransactionResultDto> results = new ArrayList<>(items.size());
+		for (int index = 0; index < items.size(); index++) {
+			final UUID accountId = items.get(index).getAccountId();
+			if (invalidAmounts[index] != null) {
+				operationMetrics.rejected(Operation.TRANSACTION_BATCH, RejectionReason.INVALID_AMOUNT);
+				results.add(BatchTransactionResultDto.rejected(index, accountId, invalidAmounts[index]));
+				continue;
+			}
+			try {
+				results.add(BatchTransactionResultDto.accepted(index, accountId, await(futures.get(index), deadline)));
+			} catch (EntityNotFoundException e) {
+				operationMetrics.rejected(Operation.TRANSACTION_BATCH, RejectionReason.NOT_FOUND);
+				results.add(BatchTransactionResultDto.rejected(index, accountId, e.getMessage()));
+			} catch (IllegalArgumentException e) {
+				operationMetrics.rejected(Operation.TRANSACTION_BATCH, items.get(index).getTransactionType() == TransactionType.DEPOSIT
+																	  ? RejectionReason.BALANCE_LIMIT : RejectionReason.INSUFFICIENT_FUNDS);
+				results.add(BatchTransactionResultDto.rejected(index, accountId, e.getMessage()));
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Komutu hesabın shard kuyruğuna ekler. Dönen future yalnızca işlem veritabanına commit edildikten, günlük açıksa günlüğe
+	 * yazılıp fsync politikasına göre diske zorlandıktan sonra tamamlanır.
+	 */
+	public CompletableFuture<AccountTransactionDto> submit(UUID accountId, TransactionType transactionType, BigDecimal amount) {
+		return submit(accountId, transactionType, amount, null);
+	}
+
+	/**
+	 * Anahtarlı komutu kuyruğa ekler. Anahtar, hareketle aynı veritabanı işleminde {@code idempotency_key} tablosuna yazılır.
+	 */
+	public CompletableFuture<AccountTransactionDto> submit(UUID accountId, TransactionType transactionType, BigDecimal amount, String idempotencyKey) {
+		try {
+			return shardOf(accountId).submit(accountId, transactionType, amount, idempotencyKey);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Ledger kuyruğu beklenirken iş parçacığı kesildi.", e);
+		}
+	}
+
+	/**
+	 * Shard sayısı azaltıldığında artık var olmayan shard'ların günlüklerinde kalan kayıtları uygular.
+	 */
+	private void recoverRemovedShards() throws IOException {
+		final Path directory = Path.of(properties.getJournal().getDirectory());
+		for (int index : LedgerJournal.shardsIn(directory)) {
+			if (index < shards.length) {
+				continue;
+			}
+			log.info("Kaldırılmış ledger shard {} günlüğü uygulanıyor", index);
+			try (LedgerJournal journal = new LedgerJournal(directory, index, (int) properties.getJournal().getSegmentSize().toBytes())) {
+				new LedgerApplier(index, properties, journal, batchWriter).recover();
+			}
+		}
+	}
+
+	private Optional<AccountTransactionDto> findReplay(UUID accountId, TransactionType transactionType, TransactionRequestDto request) {
+		if (Objects.isNull(request.getIdempotencyKey())) {
+			return Optional.empty();
+		}
+		return idempotencyStore.find(request.getIdempotencyKey(), accountId, transactionType, request.getAmount());
+	}
+
+	private LedgerShard shardOf(UUID accountId) {
+		return shards[Math.floorMod(accountId.hashCode(), shards.length)];
+	}
+
+	/**
+	 * Shard'ın reddettiği komutları servis katmanıyla aynı metriklere sayar. Shard, para yatırmada yalnızca bakiye limiti,
+	 * para çekmede yalnızca yetersiz bakiye nedeniyle {@link IllegalArgumentException} üretir.
+	 */
+	private AccountTransactionDto awaitCounted(Operation operation, RejectionReason reason, CompletableFuture<AccountTransactionDto> result) {
+		try {
+			return await(result, deadline());
+		} catch (EntityNotFoundException e) {
+			operationMetrics.rejected(operation, RejectionReason.NOT_FOUND);
+			throw e;
+		} catch (IllegalArgumentException e) {
+			operationMetrics.rejected(operation, reason);
+			throw e;
+		}
+	}
+
+	private long deadline() {
+		return System.nanoTime() + properties.getTimeout().toNanos();
+	}
+
+	/**
+	 * Sonucu {@code deadline}'a kadar bekler. Süre dolarsa komut yine de uygulanmış olabilir.
+	 */
+	private <T> T await(CompletableFuture<T> result, long deadline) {
+		try {
+			return result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException("Ledger işlemi tamamlanamadı.", e.getCause());
+		} catch (TimeoutException e) {
+			throw new IllegalStateException("Ledger işlemi " + properties.getTimeout().toMillis() + " ms içinde tamamlanmadı.", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Ledger sonucu beklenirken iş parçacığı kesildi.", e);
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.banking.bankingsystem.transaction.ledger;
+
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public record LedgerEntry(UUID id, UUID accountId, TransactionType transactionType, BigDecimal amount, LocalDateTime transactionDate,
+						  String idempotencyKey) {
+
+	public BigDecimal signedAmount() {
+		return transactionType == TransactionType.DEPOSIT ? amount : amount.negate();
+	}
+
+	public AccountTransactionDto toTransactionDto() {
+		final AccountTransactionDto dto = new AccountTransactionDto();
+		dto.setId(id);
+		dto.setAccountId(accountId);
+		dto.setTransactionDate(transactionDate);
+		dto.setTransactionType(transactionType);
+		dto.setAmount(amount);
+		return dto;
+	}
+}
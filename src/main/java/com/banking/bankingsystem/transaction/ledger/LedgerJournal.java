@@ -0,0 +1,323 @@
+package com.banking.bankingsystem.transaction.ledger;
+
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Bir shard'ın kabul ettiği hareketleri sıra numarasıyla eklediği, bellek eşlemeli ve segmentlere bölünmüş günlük.
+ * Her kayıt {@code [uzunluk][crc32c][veri]} biçimindedir; segmentler sıfırla doldurularak açıldığı için sıfır uzunluk,
+ * CRC'si tutmayan ya da sırası kopan kayıt günlüğün sonu sayılır. Ekleme ve zorlama yalnızca shard iş parçacığından,
+ * uygulanmış segmentlerin silinmesi ise uygulayıcı iş parçacığından çağrılır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Slf4j
+class LedgerJournal implements AutoCloseable {
+
+	private static final Pattern SEGMENT_NAME = Pattern.compile("shard-(\\d+)-(\\d{20})\\.journal");
+
+	private static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES;
+
+	/**
+	 * Sıra, hareket id'si, hesap id'si, tür, tutar (ölçeksiz değer ve ölçek), tarih (saniye ve nanosaniye) ve anahtar uzunluğu.
+	 */
+	private static final int FIXED_PAYLOAD_BYTES = Long.BYTES + 4 * Long.BYTES + Byte.BYTES + Long.BYTES + Byte.BYTES + Long.BYTES + Integer.BYTES
+			+ Short.BYTES;
+
+	private static final int MAX_KEY_BYTES = 256;
+
+	static final int MAX_RECORD_BYTES = HEADER_BYTES + FIXED_PAYLOAD_BYTES + MAX_KEY_BYTES;
+
+	private static final int PREALLOCATE_CHUNK_BYTES = 1 << 20;
+
+	private final Path directory;
+
+	private final int shard;
+
+	private final int segmentSize;
+
+	private final Deque<Segment> segments = new ArrayDeque<>();
+
+	private MappedByteBuffer active;
+
+	private int forcedPosition;
+
+	private long nextSequence;
+
+	LedgerJournal(Path directory, int shard, int segmentSize) {
+		if (segmentSize < MAX_RECORD_BYTES * 2) {
+			throw new IllegalArgumentException("Günlük segment boyutu en az " + MAX_RECORD_BYTES * 2 + " bayt olmalıdır.");
+		}
+		this.directory = directory;
+		this.shard = shard;
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * Dizindeki günlük dosyalarının ait olduğu shard numaralarını döner.
+	 */
+	static Set<Integer> shardsIn(Path directory) throws IOException {
+		final Set<Integer> shards = new TreeSet<>();
+		if (!Files.isDirectory(directory)) {
+			return shards;
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			files.map(file -> SEGMENT_NAME.matcher(file.getFileName().toString()))
+				 .filter(Matcher::matches)
+				 .forEach(matcher -> shards.add(Integer.parseInt(matcher.group(1))));
+		}
+		return shards;
+	}
+
+	/**
+	 * Mevcut segmentleri okur ve sıra numarası {@code appliedSequence}'ten büyük kayıtları döner. Tamamı uygulanmış
+	 * segmentler silinir, yarım kalmış son kayıt sıfırlanır ve ekleme son geçerli kaydın arkasından sürer.
+	 */
+	synchronized List<JournalRecord> open(long appliedSequence) throws IOException {
+		Files.createDirectories(directory);
+		final List<Segment> found = new ArrayList<>();
+		try (Stream<Path> files = Files.list(directory)) {
+			files.forEach(file -> {
+				final Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+				if (matcher.matches() && Integer.parseInt(matcher.group(1)) == shard) {
+					found.add(new Segment(file, Long.parseLong(matcher.group(2))));
+				}
+			});
+		}
+		found.sort((left, right) -> Long.compare(left.firstSequence(), right.firstSequence()));
+
+		final List<JournalRecord> unapplied = new ArrayList<>();
+		long expectedSequence = found.isEmpty() ? appliedSequence + 1 : found.getFirst().firstSequence();
+		for (int i = 0; i < found.size(); i++) {
+			final Segment segment = found.get(i);
+			if (segment.firstSequence() < expectedSequence || segment.firstSequence() > Math.max(expectedSequence, appliedSequence + 1)) {
+				throw new IllegalStateException("Ledger günlüğünde " + expectedSequence + " sırasından sonrası eksik: " + segment.path());
+			}
+			final boolean last = i == found.size() - 1;
+			final MappedByteBuffer buffer = map(segment.path());
+			long sequence = segment.firstSequence();
+			while (buffer.remaining() >= HEADER_BYTES) {
+				final JournalRecord record = read(buffer, sequence);
+				if (record == null) {
+					break;
+				}
+				if (record.sequence() > appliedSequence) {
+					unapplied.add(record);
+				}
+				sequence++;
+			}
+			if (!last && buffer.hasRemaining() && buffer.getInt(buffer.position()) != 0) {
+				throw new IllegalStateException("Ledger günlüğü kapatılmış bir segmentte bozuk: " + segment.path());
+			}
+			expectedSequence = sequence;
+			segments.addLast(segment);
+			if (last) {
+				truncate(buffer);
+				active = buffer;
+				forcedPosition = 0;
+			}
+		}
+		if (expectedSequence <= appliedSequence) {
+			// Günlük veritabanındaki kontrol noktasının gerisinde kaldıysa sıra boşluğu bırakmamak için yeni segmentle devam edilir.
+			active = null;
+		}
+		nextSequence = Math.max(expectedSequence, appliedSequence + 1);
+		release(appliedSequence);
+		if (!unapplied.isEmpty()) {
+			log.info("Ledger shard {} günlüğünde {} uygulanmamış kayıt bulundu", shard, unapplied.size());
+		}
+		return unapplied;
+	}
+
+	/**
+	 * Kayıtları sırayla ekler ve son kaydın sıra numarasını döner. Grubun tamamı tek segmente sığacak şekilde gerekirse önce
+	 * yeni segment açılır; böylece bir G/Ç hatası grubun yalnızca bir kısmının günlüğe girmesine yol açmaz.
+	 */
+	synchronized long append(List<LedgerEntry> entries) throws IOException {
+		final List<byte[]> keys = new ArrayList<>(entries.size());
+		int required = 0;
+		for (LedgerEntry entry : entries) {
+			final byte[] key = Objects.isNull(entry.idempotencyKey()) ? new byte[0] : entry.idempotencyKey().getBytes(StandardCharsets.UTF_8);
+			if (key.length > MAX_KEY_BYTES) {
+				throw new IllegalArgumentException("Idempotency-Key günlüğe yazılamayacak kadar uzun.");
+			}
+			keys.add(key);
+			required += HEADER_BYTES + FIXED_PAYLOAD_BYTES + key.length;
+		}
+		if (required > segmentSize) {
+			throw new IllegalArgumentException("Grup bir günlük segmentine sığmıyor.");
+		}
+		if (active == null || active.remaining() < required) {
+			roll();
+		}
+
+		for (int i = 0; i < entries.size(); i++) {
+			write(entries.get(i), keys.get(i), nextSequence++);
+		}
+		return nextSequence - 1;
+	}
+
+	/**
+	 * Son zorlamadan bu yana eklenen kayıtları diske zorlar.
+	 */
+	synchronized void force() {
+		if (active != null && active.position() > forcedPosition) {
+			active.force(forcedPosition, active.position() - forcedPosition);
+			forcedPosition = active.position();
+		}
+	}
+
+	/**
+	 * Tüm kayıtları {@code appliedSequence} ve öncesinde kalan segmentleri siler. Etkin segment hiçbir zaman silinmez.
+	 */
+	synchronized void release(long appliedSequence) throws IOException {
+		while (segments.size() > 1) {
+			final Segment oldest = segments.removeFirst();
+			if (segments.getFirst().firstSequence() - 1 > appliedSequence) {
+				segments.addFirst(oldest);
+				return;
+			}
+			Files.deleteIfExists(oldest.path());
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		force();
+		active = null;
+		segments.clear();
+	}
+
+	private void roll() throws IOException {
+		force();
+		final Path path = directory.resolve("shard-%d-%020d.journal".formatted(shard, nextSequence));
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+			// Seyrek dosya üzerinde eşlenmiş belleğe yazmak disk dolduğunda SIGBUS ile sonuçlanır; alan önceden ayrılır.
+			final ByteBuffer zeros = ByteBuffer.allocate(PREALLOCATE_CHUNK_BYTES);
+			for (long written = 0; written < segmentSize; ) {
+				zeros.clear().limit((int) Math.min(PREALLOCATE_CHUNK_BYTES, segmentSize - written));
+				written += channel.write(zeros, written);
+			}
+			channel.force(true);
+		}
+		active = map(path);
+		forcedPosition = 0;
+		segments.addLast(new Segment(path, nextSequence));
+	}
+
+	private void write(LedgerEntry entry, byte[] key, long sequence) {
+		final int start = active.position();
+		final int payloadBytes = FIXED_PAYLOAD_BYTES + key.length;
+		final ByteBuffer payload = active.slice(start + HEADER_BYTES, payloadBytes);
+		payload.putLong(sequence)
+			   .putLong(entry.id().getMostSignificantBits())
+			   .putLong(entry.id().getLeastSignificantBits())
+			   .putLong(entry.accountId().getMostSignificantBits())
+			   .putLong(entry.accountId().getLeastSignificantBits())
+			   .put((byte) entry.transactionType().ordinal())
+			   .putLong(entry.amount().unscaledValue().longValueExact())
+			   .put((byte) entry.amount().scale())
+			   .putLong(entry.transactionDate().toEpochSecond(ZoneOffset.UTC))
+			   .putInt(entry.transactionDate().getNano())
+			   .putShort((short) key.length)
+			   .put(key);
+
+		final CRC32C crc = new CRC32C();
+		crc.update(payload.flip());
+		active.putInt(start + Integer.BYTES, (int) crc.getValue());
+		active.putInt(start, payloadBytes);
+		active.position(start + HEADER_BYTES + payloadBytes);
+	}
+
+	/**
+	 * Tampon konumundaki kaydı okur; kayıt yoksa, yarım kalmışsa ya da beklenen sırada değilse null döner.
+	 */
+	private static JournalRecord read(MappedByteBuffer buffer, long expectedSequence) {
+		final int start = buffer.position();
+		final int payloadBytes = buffer.getInt(start);
+		if (payloadBytes < FIXED_PAYLOAD_BYTES || payloadBytes > FIXED_PAYLOAD_BYTES + MAX_KEY_BYTES
+				|| start + HEADER_BYTES + payloadBytes > buffer.limit()) {
+			return null;
+		}
+		final ByteBuffer payload = buffer.slice(start + HEADER_BYTES, payloadBytes);
+		final CRC32C crc = new CRC32C();
+		crc.update(payload.duplicate());
+		if ((int) crc.getValue() != buffer.getInt(start + Integer.BYTES)) {
+			return null;
+		}
+
+		final long sequence = payload.getLong();
+		if (sequence != expectedSequence) {
+			return null;
+		}
+		final UUID id = new UUID(payload.getLong(), payload.getLong());
+		final UUID accountId = new UUID(payload.getLong(), payload.getLong());
+		final TransactionType transactionType = TransactionType.values()[payload.get()];
+		final BigDecimal amount = new BigDecimal(BigInteger.valueOf(payload.getLong()), payload.get());
+		final LocalDateTime transactionDate = LocalDateTime.ofEpochSecond(payload.getLong(), payload.getInt(), ZoneOffset.UTC);
+		final byte[] key = new byte[payload.getShort()];
+		payload.get(key);
+
+		buffer.position(start + HEADER_BYTES + payloadBytes);
+		return new JournalRecord(sequence, new LedgerEntry(id, accountId, transactionType, amount, transactionDate,
+														   key.length == 0 ? null : new String(key, StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Son geçerli kaydın arkasında kalan yarım yazılmış baytları sıfırlar; aksi halde sonradan eklenen kayıtların ardında
+	 * eski bir kayıt parçası geçerli görünebilir.
+	 */
+	private static void truncate(MappedByteBuffer buffer) {
+		final int position = buffer.position();
+		if (!buffer.hasRemaining() || buffer.getInt(position) == 0) {
+			return;
+		}
+		log.warn("Ledger günlüğünün sonundaki yarım kayıt {}. bayttan itibaren siliniyor", position);
+		final byte[] zeros = new byte[Math.min(PREALLOCATE_CHUNK_BYTES, buffer.remaining())];
+		while (buffer.hasRemaining()) {
+			buffer.put(zeros, 0, Math.min(zeros.length, buffer.remaining()));
+		}
+		buffer.force(position, buffer.limit() - position);
+		buffer.position(position);
+	}
+
+	private static MappedByteBuffer map(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			return channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+		}
+	}
+
+	record JournalRecord(long sequence, LedgerEntry entry) {
+	}
+
+	private record Segment(Path path, long firstSequence) {
+	}
+}
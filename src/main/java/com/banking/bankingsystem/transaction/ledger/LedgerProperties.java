@@ -0,0 +1,78 @@
+package com.banking.bankingsystem.transaction.ledger;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@ConfigurationProperties(prefix = "banking.ledger")
+public class LedgerProperties {
+
+	/**
+	 * Para yatırma / çekme işlemlerinin JPA yerine bellek içi ledger motoru üzerinden yürütülmesi.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * Hesapların hash ile dağıtıldığı tek yazıcılı shard sayısı.
+	 */
+	private int shards = 4;
+
+	/**
+	 * Bir shard'ın tek bir veritabanı işleminde commit ettiği en fazla komut sayısı.
+	 */
+	private int batchSize = 256;
+
+	/**
+	 * Her shard kuyruğunun kapasitesi. Kuyruk dolduğunda çağıranlar bekletilir.
+	 */
+	private int queueCapacity = 10_000;
+
+	/**
+	 * Bir komutun shard kuyruğuna alınması ve sonucunun beklenmesi için ayrı ayrı en uzun süre. Süre dolarsa çağırana hata döner;
+	 * komut yine de uygulanmış olabilir, sonucu Idempotency-Key ile doğrulanabilir.
+	 */
+	private Duration timeout = Duration.ofSeconds(10);
+
+	/**
+	 * Kabul edilen hareketlerin veritabanından önce yazıldığı bellek eşlemeli günlük.
+	 */
+	private Journal journal = new Journal();
+
+	@Data
+	public static class Journal {
+
+		/**
+		 * Açık olduğunda hareketler günlüğe yazıldıktan sonra yanıtlanır, veritabanına ise arka planda toplu halde uygulanır.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Shard başına günlük segment dosyalarının tutulduğu dizin.
+		 */
+		private String directory = "data/ledger-journal";
+
+		/**
+		 * Bir segment dosyasının boyutu. Dolan segment kapatılır ve yenisi açılır.
+		 */
+		private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+		/**
+		 * Günlüğün diske zorlanma politikası.
+		 */
+		private JournalFsyncPolicy fsync = JournalFsyncPolicy.ALWAYS;
+
+		/**
+		 * {@link JournalFsyncPolicy#INTERVAL} politikasında iki zorlama arasındaki en uzun süre.
+		 */
+		private Duration fsyncInterval = Duration.ofMillis(10);
+	}
+}
@@ -0,0 +1,426 @@
+package com.banking.bankingsystem.transaction.ledger;
+
+import com.banking.bankingsystem.common.id.TimeOrderedUuid;
+import com.banking.bankingsystem.common.money.Money;
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.banking.bankingsystem.transaction.idempotency.IdempotencyStore;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tek bir iş parçacığı tarafından sürülen ledger bölümü. Bu shard'a düşen hesapların bakiyeleri yalnızca bu iş parçacığı
+ * tarafından okunup yazıldığı için kilit gerekmez; kuyrukta biriken komutlar toplu halde tek bir veritabanı işleminde commit
+ * edilir ve çağıranlar ancak commit sonrası yanıtlanır. Günlük açıksa grup commit yerine günlüğe eklenip fsync politikasına
+ * göre diske zorlandıktan sonra yanıtlanır ve veritabanına {@link LedgerApplier} tarafından uygulanır. Hesap silme de
+ * hesabın shard'ı üzerinden yürür; böylece önbellekteki bakiye silmeden sonra kullanılmaz.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Slf4j
+class LedgerShard implements Runnable {
+
+	private final int index;
+
+	private final int batchSize;
+
+	private final long timeoutNanos;
+
+	private final LedgerBatchWriter batchWriter;
+
+	private final IdempotencyStore idempotencyStore;
+
+	private final JournalFsyncPolicy fsyncPolicy;
+
+	private final long fsyncIntervalNanos;
+
+	/**
+	 * Günlük kapalıyken null.
+	 */
+	private final LedgerJournal journal;
+
+	private final LedgerApplier applier;
+
+	private final BlockingQueue<Command> queue;
+
+	/**
+	 * Bakiyeler alt birim cinsinden, yerinde güncellenen {@link LedgerBalance} olarak tutulur; kabul / ret kararı nesne
+	 * oluşturmadan verilir.
+	 */
+	private final Map<UUID, LedgerBalance> balances = new HashMap<>();
+
+	private final Thread thread;
+
+	private long lastForceNanos = System.nanoTime();
+
+	private volatile boolean running = true;
+
+	LedgerShard(int index, LedgerProperties properties, LedgerBatchWriter batchWriter, IdempotencyStore idempotencyStore) {
+		this.index = index;
+		this.batchSize = properties.getBatchSize();
+		this.timeoutNanos = properties.getTimeout().toNanos();
+		this.batchWriter = batchWriter;
+		this.idempotencyStore = idempotencyStore;
+		this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+		this.thread = Thread.ofPlatform().name("ledger-shard-" + index).unstarted(this);
+
+		final LedgerProperties.Journal journalProperties = properties.getJournal();
+		this.fsyncPolicy = journalProperties.getFsync();
+		this.fsyncIntervalNanos = journalProperties.getFsyncInterval().toNanos();
+		if (journalProperties.isEnabled()) {
+			this.journal = new LedgerJournal(Path.of(journalProperties.getDirectory()), index, (int) journalProperties.getSegmentSize().toBytes());
+			this.applier = new LedgerApplier(index, properties, journal, batchWriter);
+		} else {
+			this.journal = null;
+			this.applier = null;
+		}
+	}
+
+	/**
+	 * Günlük açıksa önce uygulanmamış kayıtları veritabanına uygular; shard ancak günlük veritabanına yetiştikten sonra komut alır.
+	 */
+	void start() {
+		if (applier != null) {
+			applier.recover();
+			applier.start();
+		}
+		thread.start();
+	}
+
+	void stop() throws InterruptedException {
+		running = false;
+		thread.join();
+		if (applier != null) {
+			journal.force();
+			applier.stop();
+			journal.close();
+		}
+	}
+
+	/**
+	 * Tutarın ölçeği çağıranın iş parçacığında doğrulanır ve alt birime çevrilir; shard iş parçacığı yalnızca {@code long}
+	 * aritmetiği yapar.
+	 *
+	 * @throws IllegalArgumentException tutar {@link Money#toMinorUnits} kurallarına uymuyorsa
+	 */
+	CompletableFuture<AccountTransactionDto> submit(UUID accountId, TransactionType transactionType, BigDecimal amount, String idempotencyKey)
+			throws InterruptedException {
+		final TransactionCommand command = new TransactionCommand(accountId, transactionType, amount, Money.toMinorUnits(amount), idempotencyKey,
+																  new CompletableFuture<>());
+		enqueue(command);
+		return command.result();
+	}
+
+	/**
+	 * {@code delete}'i shard iş parçacığında, hesabın kuyrukta önce gelen komutları işlendikten sonra çalıştırır.
+	 */
+	CompletableFuture<Void> delete(UUID accountId, Runnable delete) throws InterruptedException {
+		final DeleteCommand command = new DeleteCommand(accountId, delete, new CompletableFuture<>());
+		enqueue(command);
+		return command.result();
+	}
+
+	private void enqueue(Command command) throws InterruptedException {
+		if (!running) {
+			throw new IllegalStateException("Ledger shard " + index + " kapatıldı.");
+		}
+		if (!queue.offer(command, timeoutNanos, TimeUnit.NANOSECONDS)) {
+			throw new IllegalStateException("Ledger shard " + index + " kuyruğu dolu.");
+		}
+	}
+
+	@Override
+	public void run() {
+		final List<Command> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				final Command first = queue.poll(100, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					if (journal != null && fsyncPolicy == JournalFsyncPolicy.INTERVAL) {
+						journal.force();
+					}
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				process(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				running = false;
+			} catch (RuntimeException e) {
+				log.error("Ledger shard {} beklenmeyen bir hata ile karşılaştı", index, e);
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void process(List<Command> batch) {
+		if (applier != null) {
+			applier.drainRejectedAccounts(balances::remove);
+		}
+
+		Group group = new Group(batch.size());
+		final Map<String, TransactionCommand> keyed = new HashMap<>();
+		for (Command command : batch) {
+			switch (command) {
+				case TransactionCommand transaction -> accept(transaction, group, keyed);
+				case DeleteCommand deletion -> {
+					commit(group);
+					group = new Group(batch.size());
+					delete(deletion);
+				}
+			}
+		}
+		commit(group);
+	}
+
+	private void accept(TransactionCommand command, Group group, Map<String, TransactionCommand> keyed) {
+		if (Objects.nonNull(command.idempotencyKey()) && isDuplicate(command, keyed)) {
+			return;
+		}
+
+		final LedgerBalance balance = currentBalance(command.accountId());
+
+		if (balance == null) {
+			command.result().completeExceptionally(new EntityNotFoundException("İşlem yapılacak hesap bulunamadı."));
+			return;
+		}
+
+		if (command.transactionType() == TransactionType.DEPOSIT) {
+			if (!balance.deposit(command.minorUnits())) {
+				command.result().completeExceptionally(new IllegalArgumentException("Hesap bakiyesi 9.999.999'dan fazla olamaz."));
+				return;
+			}
+		} else if (!balance.withdraw(command.minorUnits())) {
+			command.result().completeExceptionally(new IllegalArgumentException("Yetersiz bakiye"));
+			return;
+		}
+
+		group.touched.add(command.accountId());
+		group.entries.add(new LedgerEntry(TimeOrderedUuid.next(), command.accountId(), command.transactionType(), command.amount(), LocalDateTime.now(),
+										  command.idempotencyKey()));
+		group.accepted.add(command);
+	}
+
+	private void commit(Group group) {
+		final List<LedgerEntry> entries = group.entries;
+		if (entries.isEmpty()) {
+			return;
+		}
+
+		final Set<UUID> rejected;
+		try {
+			if (journal == null) {
+				rejected = batchWriter.write(entries);
+			} else {
+				journal(entries);
+				rejected = Set.of();
+			}
+		} catch (DataIntegrityViolationException e) {
+			if (journal == null && entries.size() > 1) {
+				log.warn("Ledger shard {} {} komutluk grubu bir kısıta takıldı, komutlar tek tek commit edilecek", index, entries.size(), e);
+				commitEach(group);
+				return;
+			}
+			fail(group, e);
+			return;
+		} catch (IOException | RuntimeException e) {
+			fail(group, e);
+			return;
+		}
+
+		rejected.forEach(balances::remove);
+		for (int i = 0; i < entries.size(); i++) {
+			complete(group.accepted.get(i), entries.get(i), rejected);
+		}
+	}
+
+	/**
+	 * Grup bir bütünlük kısıtına takıldığında (ör. veritabanında zaten bulunan bir Idempotency-Key) komutları ayrı veritabanı
+	 * işlemlerinde commit eder; yalnızca takılan komut reddedilir.
+	 */
+	private void commitEach(Group group) {
+		for (int i = 0; i < group.entries.size(); i++) {
+			final LedgerEntry entry = group.entries.get(i);
+			final TransactionCommand command = group.accepted.get(i);
+			try {
+				final Set<UUID> rejected = batchWriter.write(List.of(entry));
+				rejected.forEach(balances::remove);
+				complete(command, entry, rejected);
+			} catch (RuntimeException e) {
+				balances.remove(entry.accountId());
+				command.result().completeExceptionally(e);
+			}
+		}
+	}
+
+	/**
+	 * Bakiyesi veritabanında güncellenemeyen hesabın komutu reddedilir; hesap silinmişse bulunamadı hatası döner.
+	 */
+	private void complete(TransactionCommand command, LedgerEntry entry, Set<UUID> rejected) {
+		if (rejected.contains(entry.accountId())) {
+			command.result().completeExceptionally(batchWriter.loadBalance(entry.accountId()) == null
+												   ? new EntityNotFoundException("İşlem yapılacak hesap bulunamadı.")
+												   : new IllegalStateException(LedgerBatchWriter.BALANCE_MISMATCH));
+			return;
+		}
+		if (Objects.nonNull(entry.idempotencyKey())) {
+			idempotencyStore.remember(entry.idempotencyKey(), entry.toTransactionDto());
+		}
+		command.result().complete(entry.toTransactionDto());
+	}
+
+	private void fail(Group group, Exception e) {
+		log.warn("Ledger shard {} {} komutluk grubu commit edemedi", index, group.entries.size(), e);
+		group.touched.forEach(balances::remove);
+		group.accepted.forEach(command -> command.result().completeExceptionally(e));
+	}
+
+	/**
+	 * Hesabın günlükte veritabanına henüz uygulanmamış kaydı varsa silme reddedilir; uygulayıcı yetiştikten sonra yeniden
+	 * denenebilir. Aksi halde silme bu iş parçacığında çalıştırılır ve bakiye önbellekten çıkarılır. Hesabın kuyrukta sonra
+	 * gelen komutları hesabı veritabanında bulamaz ve reddedilir.
+	 */
+	private void delete(DeleteCommand command) {
+		if (applier != null && applier.hasUnapplied(command.accountId())) {
+			command.result().completeExceptionally(new ConcurrencyFailureException("Hesabın veritabanına henüz uygulanmamış hareketleri var."));
+			return;
+		}
+		try {
+			command.delete().run();
+			command.result().complete(null);
+		} catch (RuntimeException e) {
+			command.result().completeExceptionally(e);
+		} finally {
+			balances.remove(command.accountId());
+		}
+	}
+
+	/**
+	 * Grubu günlüğe ekler, politikaya göre diske zorlar ve veritabanına uygulanmak üzere uygulayıcıya devreder. Günlüğe giren
+	 * kayıtlar diske zorlanamasa da uygulanır; bu durumda çağıranlar hata alır ve sonucu Idempotency-Key ile doğrulayabilir.
+	 */
+	private void journal(List<LedgerEntry> entries) throws IOException {
+		final long lastSequence = journal.append(entries);
+		RuntimeException forceFailure = null;
+		final long now = System.nanoTime();
+		if (fsyncPolicy == JournalFsyncPolicy.ALWAYS || fsyncPolicy == JournalFsyncPolicy.INTERVAL && now - lastForceNanos >= fsyncIntervalNanos) {
+			try {
+				journal.force();
+				lastForceNanos = now;
+			} catch (RuntimeException e) {
+				forceFailure = e;
+			}
+		}
+		try {
+			applier.enqueue(entries, lastSequence);
+		} catch (InterruptedException e) {
+			// Kayıtlar günlükte olduğu için bir sonraki başlangıçta uygulanır.
+			Thread.currentThread().interrupt();
+			running = false;
+		}
+		if (forceFailure != null) {
+			throw forceFailure;
+		}
+	}
+
+	private LedgerBalance currentBalance(UUID accountId) {
+		final LedgerBalance cached = balances.get(accountId);
+		if (cached != null) {
+			return cached;
+		}
+		final Money loaded = applier == null ? batchWriter.loadBalance(accountId) : applier.loadBalance(accountId);
+		if (loaded == null) {
+			return null;
+		}
+		final LedgerBalance balance = new LedgerBalance(loaded);
+		balances.put(accountId, balance);
+		return balance;
+	}
+
+	/**
+	 * Anahtarı önceki bir grupta commit edilmiş ya da aynı grupta zaten kuyruğa alınmış komutları yanıtlar. Aynı gruptaki
+	 * tekrar, ilk komutun sonucunu bekler; böylece grup içinde çakışan anahtar tüm grubun geri alınmasına yol açmaz.
+	 *
+	 * @return komut yanıtlandıysa true
+	 */
+	private boolean isDuplicate(TransactionCommand command, Map<String, TransactionCommand> keyed) {
+		final TransactionCommand first = keyed.putIfAbsent(command.idempotencyKey(), command);
+		if (first != null) {
+			if (first.accountId().equals(command.accountId()) && first.transactionType() == command.transactionType()
+					&& first.minorUnits() == command.minorUnits()) {
+				first.result().whenComplete((result, error) -> {
+					if (error == null) {
+						command.result().complete(result);
+					} else {
+						command.result().completeExceptionally(error);
+					}
+				});
+			} else {
+				command.result().completeExceptionally(new IllegalArgumentException("Bu Idempotency-Key farklı bir işlem için kullanılmış."));
+			}
+			return true;
+		}
+
+		try {
+			final Optional<AccountTransactionDto> replay = idempotencyStore.findCached(command.idempotencyKey(), command.accountId(),
+																					   command.transactionType(), command.amount());
+			replay.ifPresent(command.result()::complete);
+			return replay.isPresent();
+		} catch (IllegalArgumentException e) {
+			command.result().completeExceptionally(e);
+			return true;
+		}
+	}
+
+	private sealed interface Command permits TransactionCommand, DeleteCommand {
+	}
+
+	private record TransactionCommand(UUID accountId, TransactionType transactionType, BigDecimal amount, long minorUnits, String idempotencyKey,
+									  CompletableFuture<AccountTransactionDto> result) implements Command {
+	}
+
+	private record DeleteCommand(UUID accountId, Runnable delete, CompletableFuture<Void> result) implements Command {
+	}
+
+	/**
+	 * Tek veritabanı işleminde ya da tek günlük eklemesinde commit edilecek kabul edilmiş komutlar.
+	 */
+	private static final class Group {
+
+		private final Set<UUID> touched = new HashSet<>();
+
+		private final List<LedgerEntry> entries;
+
+		private final List<TransactionCommand> accepted;
+
+		private Group(int capacity) {
+			this.entries = new ArrayList<>(capacity);
+			this.accepted = new ArrayList<>(capacity);
+		}
+	}
+}
@@ -1,7 +1,9 @@
 package com.banking.bankingsystem.transaction.mapper;
 
 import com.banking.bankingsystem.transaction.data.AccountTransaction;
+import com.banking.bankingsystem.transaction.data.DailyAccountSummary;
 import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.banking.bankingsystem.transaction.dto.DailyAccountSummaryDto;
 import com.banking.bankingsystem.transaction.dto.TransactionRequestDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -20,7 +22,10 @@ public interface AccountTransactionMapper {
 
 	AccountTransactionMapper INSTANCE = Mappers.getMapper(AccountTransactionMapper.class);
 
+	@Mapping(target = "accountId", source = "account.id")
 	AccountTransactionDto accountTransactionToAccountTransactionDto(AccountTransaction accountTransaction);
 
 	List<AccountTransactionDto> accountTransactionsToAccountTransactionDtoList(List<AccountTransaction> accountTransactions);
+
+	List<DailyAccountSummaryDto> dailyAccountSummariesToDailyAccountSummaryDtoList(List<DailyAccountSummary> dailyAccountSummaries);
 }
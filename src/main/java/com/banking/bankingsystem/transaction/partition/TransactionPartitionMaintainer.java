@@ -0,0 +1,80 @@
+package com.banking.bankingsystem.transaction.partition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PostgreSQL'de aylık range partition'lara bölünmüş {@code account_transaction} tablosu için gelecek ayların partition'larını
+ * önceden oluşturur. Partition'ı henüz olmayan aya düşen hareketler default partition'a yazılır; default partition'da satır
+ * bulunan bir ay için sonradan partition oluşturulamadığından partition'lar ihtiyaçtan aylar önce açılır.
+ * Tablo partition'lı değilse (ör. H2) hiçbir şey yapmaz.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionPartitionMaintainer {
+
+	private static final String IS_PARTITIONED = "select count(*) from pg_partitioned_table where partrelid = to_regclass('account_transaction')";
+
+	private static final String CREATE_PARTITION = "create table if not exists %s partition of account_transaction for values from ('%s') to ('%s')";
+
+	private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionPartitionProperties properties;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(cron = "${banking.partitioning.cron:0 0 3 * * *}")
+	public void createUpcomingPartitions() {
+		if (!isPartitioned()) {
+			return;
+		}
+
+		for (YearMonth month : upcomingMonths(YearMonth.now(), properties.getMonthsAhead())) {
+			try {
+				jdbcTemplate.execute(CREATE_PARTITION.formatted(partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+			} catch (DataAccessException e) {
+				log.warn("{} partition'ı oluşturulamadı", partitionName(month), e);
+			}
+		}
+	}
+
+	static List<YearMonth> upcomingMonths(YearMonth current, int monthsAhead) {
+		final List<YearMonth> months = new ArrayList<>(monthsAhead + 1);
+		for (int i = 0; i <= monthsAhead; i++) {
+			months.add(current.plusMonths(i));
+		}
+		return months;
+	}
+
+	static String partitionName(YearMonth month) {
+		return "account_transaction_" + month.format(PARTITION_SUFFIX);
+	}
+
+	private boolean isPartitioned() {
+		final String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+		if (!"PostgreSQL".equals(product)) {
+			return false;
+		}
+		final Integer count = jdbcTemplate.queryForObject(IS_PARTITIONED, Integer.class);
+		return count != null && count > 0;
+	}
+}
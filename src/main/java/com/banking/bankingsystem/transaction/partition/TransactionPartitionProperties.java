@@ -0,0 +1,25 @@
+package com.banking.bankingsystem.transaction.partition;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@ConfigurationProperties(prefix = "banking.partitioning")
+public class TransactionPartitionProperties {
+
+	/**
+	 * İçinde bulunulan aydan sonra önceden oluşturulacak aylık partition sayısı.
+	 */
+	private int monthsAhead = 3;
+
+	/**
+	 * Partition kontrolünün çalıştığı cron ifadesi. Uygulama açılışında da bir kez çalışır.
+	 */
+	private String cron = "0 0 3 * * *";
+}
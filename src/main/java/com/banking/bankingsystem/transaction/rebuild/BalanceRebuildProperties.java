@@ -0,0 +1,45 @@
+package com.banking.bankingsystem.transaction.rebuild;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@ConfigurationProperties(prefix = "banking.rebuild")
+public class BalanceRebuildProperties {
+
+	/**
+	 * Hesap aralıklarını aynı anda yeniden hesaplayan iş parçacığı sayısı. Her iş parçacığı bir veritabanı bağlantısı
+	 * kullandığından bağlantı havuzunun boyutunu aşmamalıdır.
+	 */
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Tek bir iş parçacığının tek sorguda yeniden hesapladığı hesap sayısı.
+	 */
+	private int chunkSize = 5000;
+
+	/**
+	 * Snapshot'ın kapsadığı kayıtların şimdiden ne kadar geride kalacağı. {@code recorded_at} işlemin başladığı anı taşıdığından
+	 * snapshot'ın dışında kalan bir hareket olmaması için en uzun yazma işleminden uzun olmalıdır; ledger günlüğünden geç uygulanan
+	 * hareketler uygulandıkları anla kaydedildiğinden bu süreye bağlı değildir.
+	 */
+	private Duration snapshotLag = Duration.ofMinutes(15);
+
+	/**
+	 * Periyodik snapshot'ın alındığı cron ifadesi.
+	 */
+	private String snapshotCron = "0 30 2 * * *";
+
+	/**
+	 * Raporda ayrıntısı listelenen en fazla uyuşmazlık sayısı. Toplam sayı her zaman raporlanır.
+	 */
+	private int maxReportedMismatches = 1000;
+}
@@ -0,0 +1,157 @@
+package com.banking.bankingsystem.transaction.rebuild;
+
+import com.banking.bankingsystem.transaction.dto.BalanceMismatchDto;
+import com.banking.bankingsystem.transaction.dto.BalanceRebuildReportDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Hesap bakiyelerini snapshot ve sonrasındaki hareketlerden yeniden hesaplayıp {@code account.balance} ile karşılaştırır.
+ * Hesaplar id sırasıyla {@code chunk-size}'lık aralıklara bölünür; aralık sınırlarının tamamı tek sorguda bulunur ve her
+ * aralık ayrı bir iş parçacığında tek sorguyla hesaplanır; aralıklar birbirinden bağımsız olduğundan süre çekirdek sayısıyla
+ * doğrusal kısalır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Component
+public class BalanceRebuilder {
+
+	/**
+	 * Id sırasında her {@code chunk-size}'ıncı hesabın id'sini tek bir indeks taramasıyla döner.
+	 */
+	private static final String SELECT_CHUNK_ENDS = "select id from (select id, row_number() over (order by id) as rn from account) ranked "
+			+ "where mod(rn, ?) = 0 order by id";
+
+	/**
+	 * Aralıktaki her hesap için kayıtlı bakiyeyi, snapshot bakiyesini ve high-water mark'tan sonra kaydedilen hareketlerin net
+	 * tutarını döner.
+	 */
+	private static final String REPLAY_CHUNK = "select a.id, a.balance, s.balance, "
+			+ "coalesce(sum(case when t.transaction_type = 'DEPOSIT' then t.amount else -t.amount end), 0) "
+			+ "from account a "
+			+ "left join account_balance_snapshot s on s.account_id = a.id "
+			+ "left join account_transaction t on t.account_id = a.id and t.recorded_at >= ? "
+			+ "%s group by a.id, a.balance, s.balance order by a.id";
+
+	private static final Timestamp BEGINNING = Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0));
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final BalanceSnapshotter balanceSnapshotter;
+
+	private final BalanceRebuildProperties properties;
+
+	/**
+	 * Snapshot ile aralığın hareketleri aynı veritabanı görüntüsünden okunur; arada alınan yeni bir snapshot aynı hareketlerin
+	 * iki kez sayılmasına yol açmaz.
+	 */
+	private final TransactionTemplate chunkTransaction;
+
+	public BalanceRebuilder(JdbcTemplate jdbcTemplate, BalanceSnapshotter balanceSnapshotter, BalanceRebuildProperties properties,
+							PlatformTransactionManager transactionManager) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.balanceSnapshotter = balanceSnapshotter;
+		this.properties = properties;
+		this.chunkTransaction = new TransactionTemplate(transactionManager);
+		this.chunkTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+		this.chunkTransaction.setReadOnly(true);
+	}
+
+	public BalanceRebuildReportDto rebuild() {
+		final long started = System.nanoTime();
+		final Optional<LocalDateTime> highWaterMark = balanceSnapshotter.findHighWaterMark();
+
+		final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getParallelism()),
+																	  Thread.ofPlatform().name("balance-rebuild-", 0).factory());
+		try {
+			final List<Future<Chunk>> chunks = new ArrayList<>();
+			UUID lower = null;
+			for (UUID upper : jdbcTemplate.queryForList(SELECT_CHUNK_ENDS, UUID.class, properties.getChunkSize())) {
+				final UUID from = lower;
+				chunks.add(executor.submit(() -> replay(from, upper)));
+				lower = upper;
+			}
+			final UUID last = lower;
+			chunks.add(executor.submit(() -> replay(last, null)));
+
+			long checkedAccounts = 0;
+			long mismatchCount = 0;
+			final List<BalanceMismatchDto> mismatches = new ArrayList<>();
+			for (Future<Chunk> future : chunks) {
+				final Chunk chunk = future.get();
+				checkedAccounts += chunk.checkedAccounts();
+				mismatchCount += chunk.mismatches().size();
+				chunk.mismatches().stream().limit(Math.max(0, properties.getMaxReportedMismatches() - mismatches.size())).forEach(mismatches::add);
+			}
+
+			return new BalanceRebuildReportDto(highWaterMark.orElse(null), checkedAccounts, mismatchCount, (System.nanoTime() - started) / 1_000_000,
+											   mismatches);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Bakiye yeniden hesaplaması beklenirken iş parçacığı kesildi.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException("Bakiye yeniden hesaplanamadı.", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * {@code (from, to]} aralığındaki hesapları yeniden hesaplar; sınırlardan biri null ise o yönde sınır yoktur.
+	 */
+	private Chunk replay(UUID from, UUID to) {
+		return chunkTransaction.execute(status -> {
+			final Timestamp highWaterMark = balanceSnapshotter.findHighWaterMark().map(Timestamp::valueOf).orElse(BEGINNING);
+
+			final List<Object> arguments = new ArrayList<>(3);
+			arguments.add(highWaterMark);
+			final List<String> conditions = new ArrayList<>(2);
+			if (from != null) {
+				conditions.add("a.id > ?");
+				arguments.add(from);
+			}
+			if (to != null) {
+				conditions.add("a.id <= ?");
+				arguments.add(to);
+			}
+			final String where = conditions.isEmpty() ? "" : "where " + String.join(" and ", conditions);
+
+			final List<BalanceMismatchDto> mismatches = new ArrayList<>();
+			final long[] checkedAccounts = { 0 };
+			jdbcTemplate.query(REPLAY_CHUNK.formatted(where), resultSet -> {
+				checkedAccounts[0]++;
+				final BigDecimal balance = resultSet.getBigDecimal(2);
+				final BigDecimal snapshot = resultSet.getBigDecimal(3);
+				final BigDecimal rebuilt = (snapshot == null ? BigDecimal.ZERO : snapshot).add(resultSet.getBigDecimal(4));
+				if (balance.compareTo(rebuilt) != 0) {
+					mismatches.add(new BalanceMismatchDto(resultSet.getObject(1, UUID.class), balance, rebuilt, balance.subtract(rebuilt)));
+				}
+			}, arguments.toArray());
+			return new Chunk(checkedAccounts[0], mismatches);
+		});
+	}
+
+	private record Chunk(long checkedAccounts, List<BalanceMismatchDto> mismatches) {
+	}
+}
@@ -0,0 +1,136 @@
+package com.banking.bankingsystem.transaction.rebuild;
+
+import com.banking.bankingsystem.transaction.dto.BalanceSnapshotDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Hesap bakiyelerinin hareket geçmişinden hesaplanmış snapshot'ını tutar. Her snapshot yalnızca önceki high-water mark ile
+ * yenisi arasında kaydedilen hareketleri hesap başına toplayıp mevcut snapshot'a ekler; böylece geçmişin tamamı yalnızca ilk
+ * snapshot'ta taranır. High-water mark işlem tarihine değil veritabanının atadığı {@code recorded_at} sütununa dayanır; ledger
+ * günlüğünden geç uygulanan ya da kurtarılan hareketler özgün tarihleriyle yazılsa da kayıt anları yeni olduğundan bir sonraki
+ * snapshot'a girer.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceSnapshotter {
+
+	private static final int MARK_ID = 1;
+
+	private static final int WRITE_BATCH_SIZE = 1000;
+
+	private static final String SELECT_NOW = "select localtimestamp";
+
+	private static final String SELECT_MARK = "select high_water_mark from account_balance_snapshot_mark where id = ?";
+
+	private static final String LOCK_MARK = SELECT_MARK + " for update";
+
+	private static final String SELECT_DELTAS = "select account_id, sum(case when transaction_type = 'DEPOSIT' then amount else -amount end) "
+			+ "from account_transaction where recorded_at >= ? and recorded_at < ? group by account_id";
+
+	private static final String UPDATE_SNAPSHOT = "update account_balance_snapshot set balance = balance + ? where account_id = ?";
+
+	private static final String INSERT_SNAPSHOT = "insert into account_balance_snapshot (balance, account_id) values (?, ?)";
+
+	private static final String DELETE_REMOVED_ACCOUNTS = "delete from account_balance_snapshot s where not exists (select 1 from account a where a.id = s.account_id)";
+
+	private static final String INSERT_MARK = "insert into account_balance_snapshot_mark (high_water_mark, taken_at, id) values (?, ?, ?)";
+
+	private static final String UPDATE_MARK = "update account_balance_snapshot_mark set high_water_mark = ?, taken_at = ? where id = ?";
+
+	private static final Timestamp BEGINNING = Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0));
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final BalanceRebuildProperties properties;
+
+	@Scheduled(cron = "${banking.rebuild.snapshot-cron:0 30 2 * * *}")
+	public void scheduledSnapshot() {
+		final BalanceSnapshotDto snapshot = takeSnapshot();
+		log.info("Bakiye snapshot'ı {} tarihine ilerletildi, {} hesap güncellendi", snapshot.getHighWaterMark(), snapshot.getUpdatedAccounts());
+	}
+
+	/**
+	 * Snapshot'ı veritabanı saatine göre şimdiden {@code snapshot-lag} gerideki ana ilerletir; {@code recorded_at} de aynı saatle
+	 * atandığından uygulama ile veritabanı arasındaki saat farkı aralığı kaydırmaz. Tüm adımlar tek veritabanı işleminde yürür ve
+	 * high-water mark satırı kilitlendiği için eşzamanlı iki snapshot aynı aralığı iki kez eklemez.
+	 */
+	public BalanceSnapshotDto takeSnapshot() {
+		return transactionTemplate.execute(status -> {
+			final LocalDateTime highWaterMark = jdbcTemplate.queryForObject(SELECT_NOW, Timestamp.class).toLocalDateTime()
+					.minus(properties.getSnapshotLag()).truncatedTo(ChronoUnit.MICROS);
+			final List<Timestamp> marks = jdbcTemplate.queryForList(LOCK_MARK, Timestamp.class, MARK_ID);
+			final Timestamp previous = marks.isEmpty() ? null : marks.getFirst();
+			if (previous != null && !highWaterMark.isAfter(previous.toLocalDateTime())) {
+				return new BalanceSnapshotDto(previous.toLocalDateTime(), 0);
+			}
+
+			final List<Object[]> batch = new ArrayList<>(WRITE_BATCH_SIZE);
+			final int[] updatedAccounts = { 0 };
+			jdbcTemplate.query(SELECT_DELTAS, resultSet -> {
+				batch.add(new Object[] { resultSet.getBigDecimal(2), resultSet.getObject(1, UUID.class) });
+				if (batch.size() == WRITE_BATCH_SIZE) {
+					updatedAccounts[0] += write(batch);
+				}
+			}, previous == null ? BEGINNING : previous, Timestamp.valueOf(highWaterMark));
+			updatedAccounts[0] += write(batch);
+
+			jdbcTemplate.update(DELETE_REMOVED_ACCOUNTS);
+
+			final Timestamp takenAt = new Timestamp(System.currentTimeMillis());
+			jdbcTemplate.update(previous == null ? INSERT_MARK : UPDATE_MARK, Timestamp.valueOf(highWaterMark), takenAt, MARK_ID);
+			return new BalanceSnapshotDto(highWaterMark, updatedAccounts[0]);
+		});
+	}
+
+	/**
+	 * Son snapshot'ın high-water mark'ını döner; henüz snapshot alınmadıysa boş.
+	 */
+	public Optional<LocalDateTime> findHighWaterMark() {
+		return jdbcTemplate.queryForList(SELECT_MARK, Timestamp.class, MARK_ID).stream().findFirst().map(Timestamp::toLocalDateTime);
+	}
+
+	/**
+	 * Önce var olan snapshot satırlarını günceller, güncellenemeyenleri ekler ve tamponu boşaltır.
+	 */
+	private int write(List<Object[]> batch) {
+		if (batch.isEmpty()) {
+			return 0;
+		}
+
+		final int[] updated = jdbcTemplate.batchUpdate(UPDATE_SNAPSHOT, batch);
+		final List<Object[]> missing = new ArrayList<>();
+		for (int i = 0; i < updated.length; i++) {
+			if (updated[i] == 0) {
+				missing.add(batch.get(i));
+			}
+		}
+		if (!missing.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_SNAPSHOT, missing);
+		}
+
+		final int written = batch.size();
+		batch.clear();
+		return written;
+	}
+}
@@ -5,7 +5,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -15,7 +14,6 @@ import java.util.UUID;
  */
 
 @Repository
-public interface AccountTransactionRepository extends JpaRepository<AccountTransaction, UUID>, QuerydslPredicateExecutor<AccountTransaction> {
-
-	List<AccountTransaction> findByAccountId(UUID accountId);
+public interface AccountTransactionRepository extends JpaRepository<AccountTransaction, UUID>, QuerydslPredicateExecutor<AccountTransaction>,
+		AccountTransactionRepositoryCustom {
 }
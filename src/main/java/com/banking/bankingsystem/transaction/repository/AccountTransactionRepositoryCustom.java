@@ -0,0 +1,51 @@
+package com.banking.bankingsystem.transaction.repository;
+
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.querydsl.core.types.Predicate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Okuma sorguları satırları doğrudan {@link AccountTransactionDto}'ya seçer; entity, hesap proxy'si ve dirty-checking
+ * kopyası oluşturulmaz.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public interface AccountTransactionRepositoryCustom {
+
+	Optional<AccountTransactionDto> findDtoById(UUID id);
+
+	List<AccountTransactionDto> findByAccountId(UUID accountId);
+
+	/**
+	 * Sayfayı getirir. Toplam kayıt sayısı için COUNT sorgusu yalnızca sayfa dolu geldiğinde çalıştırılır.
+	 */
+	Page<AccountTransactionDto> findPage(Predicate predicate, Pageable pageable);
+
+	/**
+	 * Toplam kayıt sayısını hesaplamadan sayfa getirir. Sonraki sayfanın varlığı bir fazla satır okunarak belirlenir.
+	 */
+	Slice<AccountTransactionDto> findSlice(Predicate predicate, Pageable pageable);
+
+	/**
+	 * Kayıtları {@code transactionDate DESC, id ASC} sırasıyla en fazla {@code limit} adet getirir. İmleç koşulu
+	 * predicate'e eklendiğinde (account_id, transaction_date DESC, id) indeksi üzerinde seek yapılır.
+	 */
+	List<AccountTransactionDto> findLatestFirst(Predicate predicate, int limit);
+
+	/**
+	 * Eşleşen kayıtları sunucu tarafı imleç ile {@code fetchSize} satırlık parçalar halinde okur. Satırlar persistence
+	 * context'e girmediği için bellek kullanımı satır sayısından bağımsızdır. Açık bir işlem içinde çağrılmalı ve dönen
+	 * stream kapatılmalıdır.
+	 */
+	Stream<AccountTransactionDto> streamLatestFirst(Predicate predicate, int fetchSize);
+}
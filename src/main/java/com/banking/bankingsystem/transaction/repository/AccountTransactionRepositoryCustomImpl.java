@@ -0,0 +1,114 @@
+package com.banking.bankingsystem.transaction.repository;
+
+import com.banking.bankingsystem.transaction.data.AccountTransaction;
+import com.banking.bankingsystem.transaction.data.QAccountTransaction;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.support.Querydsl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public class AccountTransactionRepositoryCustomImpl implements AccountTransactionRepositoryCustom {
+
+	private static final QAccountTransaction ACCOUNT_TRANSACTION = QAccountTransaction.accountTransaction;
+
+	/**
+	 * Hesap id'si yabancı anahtar kolonundan okunur; hesap tablosuna join yapılmaz.
+	 */
+	private static final QBean<AccountTransactionDto> TRANSACTION_DTO = Projections.bean(AccountTransactionDto.class, ACCOUNT_TRANSACTION.id,
+			ACCOUNT_TRANSACTION.account.id.as("accountId"), ACCOUNT_TRANSACTION.transactionDate, ACCOUNT_TRANSACTION.transactionType,
+			ACCOUNT_TRANSACTION.amount);
+
+	private final EntityManager entityManager;
+
+	private final Querydsl querydsl;
+
+	public AccountTransactionRepositoryCustomImpl(EntityManager entityManager) {
+		this.entityManager = entityManager;
+		this.querydsl = new Querydsl(entityManager, new PathBuilder<>(AccountTransaction.class, ACCOUNT_TRANSACTION.getMetadata()));
+	}
+
+	@Override
+	public Optional<AccountTransactionDto> findDtoById(UUID id) {
+		return Optional.ofNullable(selectDto().where(ACCOUNT_TRANSACTION.id.eq(id)).fetchOne());
+	}
+
+	@Override
+	public List<AccountTransactionDto> findByAccountId(UUID accountId) {
+		return selectDto().where(ACCOUNT_TRANSACTION.account.id.eq(accountId)).fetch();
+	}
+
+	@Override
+	public Page<AccountTransactionDto> findPage(Predicate predicate, Pageable pageable) {
+		final JPAQuery<AccountTransactionDto> query = selectDto()
+				.where(predicate)
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize());
+
+		final List<AccountTransactionDto> content = querydsl.applySorting(pageable.getSort(), query).fetch();
+
+		return PageableExecutionUtils.getPage(content, pageable, () -> new JPAQuery<>(entityManager)
+				.select(ACCOUNT_TRANSACTION.count())
+				.from(ACCOUNT_TRANSACTION)
+				.where(predicate)
+				.fetchOne());
+	}
+
+	@Override
+	public Slice<AccountTransactionDto> findSlice(Predicate predicate, Pageable pageable) {
+		final JPAQuery<AccountTransactionDto> query = selectDto()
+				.where(predicate)
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize() + 1L);
+
+		final List<AccountTransactionDto> content = querydsl.applySorting(pageable.getSort(), query).fetch();
+		final boolean hasNext = content.size() > pageable.getPageSize();
+
+		return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+	}
+
+	@Override
+	public List<AccountTransactionDto> findLatestFirst(Predicate predicate, int limit) {
+		return selectDto()
+				.where(predicate)
+				.orderBy(ACCOUNT_TRANSACTION.transactionDate.desc(), ACCOUNT_TRANSACTION.id.asc())
+				.limit(limit)
+				.fetch();
+	}
+
+	@Override
+	public Stream<AccountTransactionDto> streamLatestFirst(Predicate predicate, int fetchSize) {
+		return selectDto()
+				.where(predicate)
+				.orderBy(ACCOUNT_TRANSACTION.transactionDate.desc(), ACCOUNT_TRANSACTION.id.asc())
+				.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+				.stream();
+	}
+
+	private JPAQuery<AccountTransactionDto> selectDto() {
+		return new JPAQuery<>(entityManager)
+				.select(TRANSACTION_DTO)
+				.from(ACCOUNT_TRANSACTION)
+				.setHint(HibernateHints.HINT_READ_ONLY, true);
+	}
+}
@@ -0,0 +1,38 @@
+package com.banking.bankingsystem.transaction.repository;
+
+import com.banking.bankingsystem.transaction.data.DailyAccountSummary;
+import com.banking.bankingsystem.transaction.data.DailyAccountSummaryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Repository
+public interface DailyAccountSummaryRepository extends JpaRepository<DailyAccountSummary, DailyAccountSummaryId> {
+
+	List<DailyAccountSummary> findByAccountIdAndSummaryDateBetweenOrderBySummaryDate(UUID accountId, LocalDate fromDate, LocalDate toDate);
+
+	/**
+	 * Güncel bakiyeden {@code date} sonrasındaki günlerin net hareketlerini çıkararak gün sonu bakiyesini hesaplar. Bakiye ve
+	 * özetler tek sorguda okunduğu için aynı anda commit edilen bir hareket sonucu bozmaz. Maliyet hareket sayısıyla değil,
+	 * {@code date} sonrasındaki gün sayısıyla orantılıdır.
+	 *
+	 * @return hesap yoksa boş
+	 */
+	@Query(value = "select a.balance - coalesce(sum(s.deposit_total - s.withdraw_total), 0) from account a "
+			+ "left join daily_account_summary s on s.account_id = a.id and s.summary_date > :date "
+			+ "where a.id = :accountId group by a.id, a.balance", nativeQuery = true)
+	Optional<BigDecimal> findBalanceAsOf(@Param("accountId") UUID accountId, @Param("date") LocalDate date);
+}
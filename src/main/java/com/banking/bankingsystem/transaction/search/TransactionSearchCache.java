@@ -0,0 +1,175 @@
+package com.banking.bankingsystem.transaction.search;
+
+import com.banking.bankingsystem.account.event.AccountBalanceChangedEvent;
+import com.banking.bankingsystem.account.event.AccountChangedEvent;
+import com.banking.bankingsystem.common.dto.CursorPageDto;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionSearchRequest;
+import com.banking.bankingsystem.transaction.search.TransactionSearchKey.Kind;
+import com.banking.bankingsystem.transaction.service.AccountTransactionService;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * İşlem arama sonuçlarını normalize edilmiş arama isteğiyle önbelleğe alır. Hesap id'si verilen ve verilmeyen aramalar ayrı
+ * önbelleklerde, ayrı süre ve bellek sınırlarıyla tutulur; isabet oranları {@code cache.gets} ve {@code cache.hit.ratio}
+ * metrikleriyle her biri için ayrı görülür.
+ * <p>
+ * Hesap aramaları o hesabın sonuç kuşağıyla etiketlenir. Bakiye değişikliği commit edildiğinde kuşak yenilenir ve hesabın
+ * eski sonuçları bir daha okunmaz, ağırlık sınırıyla ya da süre dolunca bellekten düşer. Kuşak sorgudan önce okunduğu için
+ * commit'ten önce başlamış bir aramanın sonucu eski kuşakla yazılır; diğer hesapların sonuçları etkilenmez. Hesap güncellendiğinde
+ * ya da silindiğinde de kuşak aynı şekilde yenilenir.
+ * <p>
+ * Sorgular Caffeine'in hesaplama kilidi altında değil, çağıran iş parçacığında yürür; aynı anahtarı eşzamanlı isteyenler ilk
+ * aramanın sonucunu bekler.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Component
+public class TransactionSearchCache {
+
+	static final String ACCOUNT_CACHE = "transaction-search-account";
+
+	static final String GLOBAL_CACHE = "transaction-search-global";
+
+	/**
+	 * Sonuç nesnesi, sayfa bilgisi ve anahtar için tahmini sabit bellek.
+	 */
+	static final int ENTRY_BYTES = 512;
+
+	/**
+	 * Tek bir {@link AccountTransactionDto} için iki UUID, tarih ve tutar nesneleriyle birlikte tahmini bellek.
+	 */
+	static final int ROW_BYTES = 256;
+
+	private final AccountTransactionService accountTransactionService;
+
+	private final TransactionSearchCacheProperties properties;
+
+	private final AtomicLong nextGeneration = new AtomicLong();
+
+	private final Cache<UUID, Long> generations;
+
+	private final AsyncCache<TransactionSearchKey, Object> accountResults;
+
+	private final AsyncCache<TransactionSearchKey, Object> globalResults;
+
+	public TransactionSearchCache(AccountTransactionService accountTransactionService, TransactionSearchCacheProperties properties,
+			MeterRegistry meterRegistry) {
+		this.accountTransactionService = accountTransactionService;
+		this.properties = properties;
+		this.generations = Caffeine.newBuilder().maximumSize(properties.getTrackedAccounts()).build();
+		this.accountResults = results(properties.getAccountTtl(), properties.getAccountMaxWeight());
+		this.globalResults = results(properties.getGlobalTtl(), properties.getGlobalMaxWeight());
+		monitor(meterRegistry, accountResults, ACCOUNT_CACHE);
+		monitor(meterRegistry, globalResults, GLOBAL_CACHE);
+	}
+
+	/**
+	 * {@link AccountTransactionSearchRequest#isWithTotalCount()} doğruysa toplam sayılı {@code Page}, değilse {@link Slice} döner.
+	 */
+	public Slice<AccountTransactionDto> search(AccountTransactionSearchRequest request) {
+		return request.isWithTotalCount()
+			   ? cached(Kind.PAGE, request, () -> accountTransactionService.searchTransactions(request))
+			   : cached(Kind.SLICE, request, () -> accountTransactionService.searchTransactionSlice(request));
+	}
+
+	public CursorPageDto<AccountTransactionDto> searchByCursor(AccountTransactionSearchRequest request) {
+		return cached(Kind.CURSOR, request, () -> accountTransactionService.searchTransactionsByCursor(request));
+	}
+
+	/**
+	 * Bakiye değişikliği commit edildikten sonra hesabın kuşağını düşürür; bir sonraki arama yeni bir kuşak alır. İşlem dışında
+	 * yayınlanan olaylar hemen uygulanır.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBalanceChanged(AccountBalanceChangedEvent event) {
+		generations.invalidate(event.accountId());
+	}
+
+	/**
+	 * Hesap güncellemesi ya da silme commit edildikten sonra hesabın kuşağını düşürür; silinen hesabın sonuçları bir daha okunmaz.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onAccountChanged(AccountChangedEvent event) {
+		generations.invalidate(event.accountId());
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T cached(Kind kind, AccountTransactionSearchRequest request, Supplier<T> search) {
+		if (!properties.isEnabled()) {
+			return search.get();
+		}
+
+		final UUID accountId = request.getAccountId();
+		if (Objects.isNull(accountId)) {
+			return (T) load(globalResults, TransactionSearchKey.of(kind, request, 0), search);
+		}
+
+		final long generation = generations.get(accountId, id -> nextGeneration.incrementAndGet());
+		return (T) load(accountResults, TransactionSearchKey.of(kind, request, generation), search);
+	}
+
+	/**
+	 * Anahtar önbellekte yoksa boş bir future yerleştirir ve sorguyu önbellek kilidi bırakıldıktan sonra çağıran iş parçacığında
+	 * yürütür. Başarısız olan future önbellekten kendiliğinden düşer; bekleyen aramalar aynı hatayı alır.
+	 */
+	private static Object load(AsyncCache<TransactionSearchKey, Object> cache, TransactionSearchKey key, Supplier<?> search) {
+		final CompletableFuture<Object> loading = new CompletableFuture<>();
+		final CompletableFuture<Object> result = cache.get(key, (k, executor) -> loading);
+		if (result == loading) {
+			try {
+				loading.complete(search.get());
+			} catch (RuntimeException | Error e) {
+				loading.completeExceptionally(e);
+				throw e;
+			}
+		}
+
+		try {
+			return result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private static AsyncCache<TransactionSearchKey, Object> results(Duration ttl, DataSize maxWeight) {
+		return Caffeine.newBuilder()
+				.maximumWeight(maxWeight.toBytes())
+				.weigher((TransactionSearchKey key, Object value) -> ENTRY_BYTES + ROW_BYTES * rows(value))
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.buildAsync();
+	}
+
+	private static int rows(Object value) {
+		return value instanceof Slice<?> slice ? slice.getNumberOfElements() : ((CursorPageDto<?>) value).getContent().size();
+	}
+
+	private static void monitor(MeterRegistry meterRegistry, AsyncCache<TransactionSearchKey, Object> cache, String name) {
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+		Gauge.builder("cache.hit.ratio", cache, c -> c.synchronous().stats().hitRate()).tag("cache", name).register(meterRegistry);
+	}
+}
@@ -0,0 +1,49 @@
+package com.banking.bankingsystem.transaction.search;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Data
+@ConfigurationProperties(prefix = "banking.search-cache")
+public class TransactionSearchCacheProperties {
+
+	/**
+	 * İşlem arama sonuçlarının bellekte önbelleğe alınması.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Hesap id'si verilen aramaların saklanma süresi. Bu sonuçlar hesapta bakiye değiştiğinde ayrıca geçersiz kılınır.
+	 */
+	private Duration accountTtl = Duration.ofMinutes(5);
+
+	/**
+	 * Hesap id'si verilmeyen aramaların saklanma süresi. Bu sonuçlar tek bir hesaba bağlanamadığı için yalnızca süreyle
+	 * tazelenir.
+	 */
+	private Duration globalTtl = Duration.ofSeconds(10);
+
+	/**
+	 * Hesap id'si verilen arama sonuçlarının kaplayabileceği tahmini en fazla bellek.
+	 */
+	private DataSize accountMaxWeight = DataSize.ofMegabytes(64);
+
+	/**
+	 * Hesap id'si verilmeyen arama sonuçlarının kaplayabileceği tahmini en fazla bellek.
+	 */
+	private DataSize globalMaxWeight = DataSize.ofMegabytes(16);
+
+	/**
+	 * Sonuç kuşağı izlenen en fazla hesap sayısı. Kuşağı bellekten düşen hesabın eski sonuçları bir daha okunmaz.
+	 */
+	private long trackedAccounts = 100_000;
+}
@@ -0,0 +1,37 @@
+package com.banking.bankingsystem.transaction.search;
+
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionSearchRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Değiştirilebilir {@link AccountTransactionSearchRequest}'in önbellek anahtarı olarak kullanılan değişmez kopyası. Tutarlar
+ * ölçekten bağımsız karşılaştırılır; sayfa alanları yalnızca sonucu etkiledikleri arama türünde anahtara girer.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+record TransactionSearchKey(Kind kind, UUID accountId, long generation, LocalDateTime fromDate, LocalDateTime toDate,
+							TransactionType transactionType, BigDecimal minAmount, BigDecimal maxAmount, int page, int size, String cursor) {
+
+	enum Kind {
+		PAGE, SLICE, CURSOR
+	}
+
+	static TransactionSearchKey of(Kind kind, AccountTransactionSearchRequest request, long generation) {
+		final boolean cursor = kind == Kind.CURSOR;
+		return new TransactionSearchKey(kind, request.getAccountId(), generation, request.getFromDate(), request.getToDate(),
+										request.getTransactionType(), normalize(request.getMinAmount()), normalize(request.getMaxAmount()),
+										cursor ? 0 : request.getPage(), request.getSize(), cursor ? request.getCursor() : null);
+	}
+
+	private static BigDecimal normalize(BigDecimal amount) {
+		return Objects.isNull(amount) ? null : amount.stripTrailingZeros();
+	}
+}
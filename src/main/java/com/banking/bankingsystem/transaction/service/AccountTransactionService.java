@@ -1,30 +1,62 @@
 package com.banking.bankingsystem.transaction.service;
 
 import com.banking.bankingsystem.account.data.Account;
+import com.banking.bankingsystem.account.event.AccountBalanceChangedEvent;
 import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.common.dto.CursorPageDto;
+import com.banking.bankingsystem.common.id.TimeOrderedUuid;
+import com.banking.bankingsystem.common.metrics.Operation;
+import com.banking.bankingsystem.common.metrics.OperationMetrics;
+import com.banking.bankingsystem.common.metrics.RejectionReason;
+import com.banking.bankingsystem.common.money.Money;
+import com.banking.bankingsystem.common.outbox.OutboxEventType;
+import com.banking.bankingsystem.common.outbox.OutboxWriter;
+import com.banking.bankingsystem.config.RetryConfig;
 import com.banking.bankingsystem.transaction.data.AccountTransaction;
 import com.banking.bankingsystem.transaction.data.QAccountTransaction;
 import com.banking.bankingsystem.transaction.data.TransactionType;
 import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
 import com.banking.bankingsystem.transaction.dto.AccountTransactionSearchRequest;
+import com.banking.bankingsystem.transaction.dto.BatchTransactionItemDto;
+import com.banking.bankingsystem.transaction.dto.BatchTransactionRequestDto;
+import com.banking.bankingsystem.transaction.dto.BatchTransactionResultDto;
 import com.banking.bankingsystem.transaction.dto.TransactionRequestDto;
+import com.banking.bankingsystem.transaction.dto.TransferRequestDto;
+import com.banking.bankingsystem.transaction.dto.TransferResultDto;
+import com.banking.bankingsystem.transaction.idempotency.IdempotencyKey;
+import com.banking.bankingsystem.transaction.idempotency.IdempotencyStore;
 import com.banking.bankingsystem.transaction.mapper.AccountTransactionMapper;
 import com.banking.bankingsystem.transaction.repository.AccountTransactionRepository;
+import com.banking.bankingsystem.transaction.summary.DailyAccountSummaryWriter;
+import com.banking.bankingsystem.transaction.summary.DailySummaryDelta;
 import com.querydsl.core.BooleanBuilder;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Created on April, 2025
@@ -40,63 +72,308 @@ public class AccountTransactionService {
 
 	private final AccountRepository accountRepository;
 
-	private static final BigDecimal MAX_ACCOUNT_BALANCE = BigDecimal.valueOf(9_999_999);
+	private final ApplicationEventPublisher eventPublisher;
 
+	private final OperationMetrics operationMetrics;
+
+	private final IdempotencyStore idempotencyStore;
+
+	private final DailyAccountSummaryWriter dailyAccountSummaryWriter;
+
+	private final OutboxWriter outboxWriter;
+
+	public static final BigDecimal MAX_ACCOUNT_BALANCE = BigDecimal.valueOf(9_999_999);
+
+	public static final long MAX_ACCOUNT_BALANCE_MINOR_UNITS = Money.toMinorUnits(MAX_ACCOUNT_BALANCE);
+
+	private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
+	private static final int EXPORT_FETCH_SIZE = 1000;
+
+	@Retryable(retryFor = ConcurrencyFailureException.class, label = "transaction.deposit", maxAttemptsExpression = RetryConfig.MAX_ATTEMPTS,
+			   backoff = @Backoff(delayExpression = RetryConfig.DELAY, maxDelayExpression = RetryConfig.MAX_DELAY,
+								  multiplierExpression = RetryConfig.MULTIPLIER, random = true))
 	@Transactional
 	public AccountTransactionDto deposit(UUID accountId, TransactionRequestDto request) {
-		final Account account = accountRepository
-				.findById(accountId)
-				.orElseThrow(() -> new EntityNotFoundException("İşlem yapılacak hesap bulunamadı."));
-
-		final BigDecimal amount = request.getAmount();
-		final BigDecimal newBalance = account.getBalance().add(amount);
+		final BigDecimal amount = Money.requireExact(request.getAmount());
 
-		if (newBalance.compareTo(MAX_ACCOUNT_BALANCE) > 0) {
-			throw new IllegalArgumentException("Hesap bakiyesi 9.999.999'dan fazla olamaz.");
+		final Optional<AccountTransactionDto> replay = findReplay(accountId, request, TransactionType.DEPOSIT);
+		if (replay.isPresent()) {
+			return replay.get();
 		}
+		final IdempotencyKey idempotencyKey = claimIdempotencyKey(accountId, request, TransactionType.DEPOSIT);
 
-		account.setBalance(newBalance);
-		accountRepository.save(account);
+		final AccountTransactionDto transaction = newTransaction(accountId, TransactionType.DEPOSIT, amount);
+		if (operationMetrics.db(Operation.TRANSACTION_DEPOSIT, () -> accountRepository.applyTransaction(transaction, MAX_ACCOUNT_BALANCE)).isEmpty()) {
+			throw rejection(Operation.TRANSACTION_DEPOSIT, accountId, RejectionReason.BALANCE_LIMIT, "Hesap bakiyesi 9.999.999'dan fazla olamaz.");
+		}
 
-		final AccountTransaction accountTransaction = new AccountTransaction();
-		accountTransaction.setAccount(account);
-		accountTransaction.setAmount(amount);
-		accountTransaction.setTransactionType(TransactionType.DEPOSIT);
-		accountTransaction.setTransactionDate(LocalDateTime.now());
+		eventPublisher.publishEvent(new AccountBalanceChangedEvent(accountId));
 
-		return AccountTransactionMapper.INSTANCE.accountTransactionToAccountTransactionDto(accountTransactionRepository.save(accountTransaction));
+		return completeTransaction(Operation.TRANSACTION_DEPOSIT, transaction, idempotencyKey);
 	}
 
+	@Retryable(retryFor = ConcurrencyFailureException.class, label = "transaction.withdraw", maxAttemptsExpression = RetryConfig.MAX_ATTEMPTS,
+			   backoff = @Backoff(delayExpression = RetryConfig.DELAY, maxDelayExpression = RetryConfig.MAX_DELAY,
+								  multiplierExpression = RetryConfig.MULTIPLIER, random = true))
 	@Transactional
 	public AccountTransactionDto withdraw(UUID accountId, TransactionRequestDto request) {
-		final Account account = accountRepository
-				.findById(accountId)
-				.orElseThrow(() -> new EntityNotFoundException("İşlem yapılacak hesap bulunamadı."));
+		final BigDecimal amount = Money.requireExact(request.getAmount());
 
-		final BigDecimal amount = request.getAmount();
+		final Optional<AccountTransactionDto> replay = findReplay(accountId, request, TransactionType.WITHDRAW);
+		if (replay.isPresent()) {
+			return replay.get();
+		}
+		final IdempotencyKey idempotencyKey = claimIdempotencyKey(accountId, request, TransactionType.WITHDRAW);
 
-		if (account.getBalance().compareTo(amount) < 0) {
-			throw new IllegalArgumentException("Yetersiz bakiye");
+		final AccountTransactionDto transaction = newTransaction(accountId, TransactionType.WITHDRAW, amount);
+		if (operationMetrics.db(Operation.TRANSACTION_WITHDRAW, () -> accountRepository.applyTransaction(transaction, MAX_ACCOUNT_BALANCE)).isEmpty()) {
+			throw rejection(Operation.TRANSACTION_WITHDRAW, accountId, RejectionReason.INSUFFICIENT_FUNDS, "Yetersiz bakiye");
 		}
 
-		account.setBalance(account.getBalance().subtract(amount));
-		accountRepository.save(account);
+		eventPublisher.publishEvent(new AccountBalanceChangedEvent(accountId));
 
-		final AccountTransaction accountTransaction = new AccountTransaction();
-		accountTransaction.setAccount(account);
-		accountTransaction.setAmount(amount);
-		accountTransaction.setTransactionType(TransactionType.WITHDRAW);
-		accountTransaction.setTransactionDate(LocalDateTime.now());
+		return completeTransaction(Operation.TRANSACTION_WITHDRAW, transaction, idempotencyKey);
+	}
+
+	/**
+	 * Kalemleri istek sırasıyla uygular. Etkilenen hesaplar tek sorguda kilitlenir, reddedilen kalemler (ör. ikiden fazla ondalık
+	 * basamaklı tutar) diğerlerini etkilemez. Bakiyeler kalemler boyunca {@link Money} olarak izlenir ve hesaplara yalnızca sonda bir kez yazılır. Hareketler
+	 * JDBC batch olarak eklenir ve her hesap için tek bir bakiye UPDATE'i çalışır.
+	 */
+	@Retryable(retryFor = ConcurrencyFailureException.class, label = "transaction.batch", maxAttemptsExpression = RetryConfig.MAX_ATTEMPTS,
+			   backoff = @Backoff(delayExpression = RetryConfig.DELAY, maxDelayExpression = RetryConfig.MAX_DELAY,
+								  multiplierExpression = RetryConfig.MULTIPLIER, random = true))
+	@Transactional
+	public List<BatchTransactionResultDto> processBatch(BatchTransactionRequestDto request) {
+		final List<BatchTransactionItemDto> items = request.getItems();
+
+		final Set<UUID> accountIds = new HashSet<>();
+		items.forEach(item -> accountIds.add(item.getAccountId()));
+
+		final Map<UUID, Account> accounts = new HashMap<>();
+		operationMetrics.db(Operation.TRANSACTION_BATCH, () -> accountRepository.findAllByIdForUpdate(accountIds))
+				.forEach(account -> accounts.put(account.getId(), account));
+
+		final Map<UUID, Money> balances = new HashMap<>();
+		final List<BatchTransactionResultDto> results = new ArrayList<>(items.size());
+		final List<AccountTransaction> accountTransactions = new ArrayList<>(items.size());
+		final LocalDateTime transactionDate = LocalDateTime.now();
+
+		for (int index = 0; index < items.size(); index++) {
+			final BatchTransactionItemDto item = items.get(index);
+			final Account account = accounts.get(item.getAccountId());
+
+			if (Objects.isNull(account)) {
+				operationMetrics.rejected(Operation.TRANSACTION_BATCH, RejectionReason.NOT_FOUND);
+				results.add(BatchTransactionResultDto.rejected(index, item.getAccountId(), "İşlem yapılacak hesap bulunamadı."));
+				continue;
+			}
+
+			final Money amount;
+			try {
+				amount = Money.of(item.getAmount(), account.getAccountType());
+			} catch (IllegalArgumentException e) {
+				operationMetrics.rejected(Operation.TRANSACTION_BATCH, RejectionReason.INVALID_AMOUNT);
+				results.add(BatchTransactionResultDto.rejected(index, account.getId(), e.getMessage()));
+				continue;
+			}
+
+			final Money balance = balances.computeIfAbsent(account.getId(), id -> Money.of(account.getBalance(), account.getAccountType()));
+			final Money newBalance;
+
+			if (item.getTransactionType() == TransactionType.DEPOSIT) {
+				newBalance = balance.plus(amount);
+				if (newBalance.minorUnits() > MAX_ACCOUNT_BALANCE_MINOR_UNITS) {
+					operationMetrics.rejected(Operation.TRANSACTION_BATCH, RejectionReason.BALANCE_LIMIT);
+					results.add(BatchTransactionResultDto.rejected(index, account.getId(), "Hesap bakiyesi 9.999.999'dan fazla olamaz."));
+					continue;
+				}
+			} else {
+				if (balance.isLessThan(amount)) {
+					operationMetrics.rejected(Operation.TRANSACTION_BATCH, RejectionReason.INSUFFICIENT_FUNDS);
+					results.add(BatchTransactionResultDto.rejected(index, account.getId(), "Yetersiz bakiye"));
+					continue;
+				}
+				newBalance = balance.minus(amount);
+			}
+
+			balances.put(account.getId(), newBalance);
+			eventPublisher.publishEvent(new AccountBalanceChangedEvent(account.getId()));
+
+			accountTransactions.add(newTransaction(account, item.getTransactionType(), item.getAmount(), transactionDate));
+
+			results.add(BatchTransactionResultDto.accepted(index, account.getId(), null));
+		}
+
+		balances.forEach((accountId, balance) -> accounts.get(accountId).setBalance(balance.toBigDecimal()));
+
+		operationMetrics.db(Operation.TRANSACTION_BATCH, () -> {
+			accountTransactionRepository.saveAll(accountTransactions);
+
+			final DailySummaryDelta delta = new DailySummaryDelta();
+			accountTransactions.forEach(transaction -> delta.add(transaction.getAccount().getId(), transaction.getTransactionType(),
+																  transaction.getAmount(), transaction.getTransactionDate()));
+			dailyAccountSummaryWriter.apply(delta);
+		});
+
+		operationMetrics.mapping(Operation.TRANSACTION_BATCH, () -> {
+			int saved = 0;
+			for (BatchTransactionResultDto result : results) {
+				if (result.isSuccessful()) {
+					result.setTransaction(AccountTransactionMapper.INSTANCE.accountTransactionToAccountTransactionDto(accountTransactions.get(saved++)));
+				}
+			}
+		});
+
+		operationMetrics.db(Operation.TRANSACTION_BATCH, () -> outboxWriter.appendTransactions(
+				results.stream().filter(BatchTransactionResultDto::isSuccessful).map(BatchTransactionResultDto::getTransaction).toList()));
+
+		return results;
+	}
+
+	/**
+	 * Gönderen hesaptan çekme ve alıcı hesaba yatırma işlemini tek bir veritabanı işleminde uygular. İki hesap
+	 * {@link AccountRepository#findAllByIdForUpdate} ile id sırasıyla kilitlendiği için karşılıklı yönde eşzamanlı yapılan
+	 * transferler birbirini kilitlenmeye sokmaz.
+	 */
+	@Retryable(retryFor = ConcurrencyFailureException.class, label = "transaction.transfer", maxAttemptsExpression = RetryConfig.MAX_ATTEMPTS,
+			   backoff = @Backoff(delayExpression = RetryConfig.DELAY, maxDelayExpression = RetryConfig.MAX_DELAY,
+								  multiplierExpression = RetryConfig.MULTIPLIER, random = true))
+	@Transactional
+	public TransferResultDto transfer(TransferRequestDto request) {
+		final UUID fromAccountId = request.getFromAccountId();
+		final UUID toAccountId = request.getToAccountId();
+		final BigDecimal amount = Money.requireExact(request.getAmount());
+
+		if (fromAccountId.equals(toAccountId)) {
+			throw new IllegalArgumentException("Gönderen ve alıcı hesap aynı olamaz.");
+		}
+
+		final Map<UUID, Account> accounts = new HashMap<>();
+		operationMetrics.db(Operation.TRANSACTION_TRANSFER, () -> accountRepository.findAllByIdForUpdate(List.of(fromAccountId, toAccountId)))
+				.forEach(account -> accounts.put(account.getId(), account));
+
+		final Account from = accounts.get(fromAccountId);
+		final Account to = accounts.get(toAccountId);
+
+		if (Objects.isNull(from) || Objects.isNull(to)) {
+			operationMetrics.rejected(Operation.TRANSACTION_TRANSFER, RejectionReason.NOT_FOUND);
+			throw new EntityNotFoundException("Transfer yapılacak hesap bulunamadı.");
+		}
+
+		if (from.getAccountType() != to.getAccountType()) {
+			operationMetrics.rejected(Operation.TRANSACTION_TRANSFER, RejectionReason.CURRENCY_MISMATCH);
+			throw new IllegalArgumentException("Farklı para birimindeki hesaplar arasında transfer yapılamaz.");
+		}
+
+		final Money transferred = Money.of(amount, from.getAccountType());
+		final Money fromBalance = Money.of(from.getBalance(), from.getAccountType());
+		if (fromBalance.isLessThan(transferred)) {
+			operationMetrics.rejected(Operation.TRANSACTION_TRANSFER, RejectionReason.INSUFFICIENT_FUNDS);
+			throw new IllegalArgumentException("Yetersiz bakiye");
+		}
+
+		final Money newToBalance = Money.of(to.getBalance(), to.getAccountType()).plus(transferred);
+		if (newToBalance.minorUnits() > MAX_ACCOUNT_BALANCE_MINOR_UNITS) {
+			operationMetrics.rejected(Operation.TRANSACTION_TRANSFER, RejectionReason.BALANCE_LIMIT);
+			throw new IllegalArgumentException("Hesap bakiyesi 9.999.999'dan fazla olamaz.");
+		}
 
-		return AccountTransactionMapper.INSTANCE.accountTransactionToAccountTransactionDto(accountTransactionRepository.save(accountTransaction));
+		from.setBalance(fromBalance.minus(transferred).toBigDecimal());
+		to.setBalance(newToBalance.toBigDecimal());
+		eventPublisher.publishEvent(new AccountBalanceChangedEvent(fromAccountId));
+		eventPublisher.publishEvent(new AccountBalanceChangedEvent(toAccountId));
+
+		final LocalDateTime transactionDate = LocalDateTime.now();
+		final AccountTransaction withdrawal = newTransaction(from, TransactionType.WITHDRAW, amount, transactionDate);
+		final AccountTransaction deposit = newTransaction(to, TransactionType.DEPOSIT, amount, transactionDate);
+
+		operationMetrics.db(Operation.TRANSACTION_TRANSFER, () -> {
+			accountTransactionRepository.saveAll(List.of(withdrawal, deposit));
+			dailyAccountSummaryWriter.apply(new DailySummaryDelta()
+													.add(fromAccountId, TransactionType.WITHDRAW, amount, transactionDate)
+													.add(toAccountId, TransactionType.DEPOSIT, amount, transactionDate));
+		});
+
+		final TransferResultDto result = operationMetrics.mapping(Operation.TRANSACTION_TRANSFER,
+				() -> new TransferResultDto(AccountTransactionMapper.INSTANCE.accountTransactionToAccountTransactionDto(withdrawal),
+											AccountTransactionMapper.INSTANCE.accountTransactionToAccountTransactionDto(deposit)));
+		operationMetrics.db(Operation.TRANSACTION_TRANSFER, () -> outboxWriter.appendTransactions(List.of(result.getWithdrawal(), result.getDeposit())));
+		return result;
 	}
 
+	@Transactional(readOnly = true)
 	public List<AccountTransactionDto> getTransactionsByAccountId(UUID accountId) {
-		return AccountTransactionMapper.INSTANCE.accountTransactionsToAccountTransactionDtoList(
-				accountTransactionRepository.findByAccountId(accountId));
+		return operationMetrics.db(Operation.TRANSACTION_HISTORY, () -> accountTransactionRepository.findByAccountId(accountId));
+	}
+
+	/**
+	 * Hesap hareketlerini imleç ile sayfalar. OFFSET yerine son okunan kaydın konumundan devam edildiği için sayfa derinliği
+	 * sorgu süresini etkilemez.
+	 */
+	@Transactional(readOnly = true)
+	public CursorPageDto<AccountTransactionDto> getTransactionsByAccountId(UUID accountId, String cursor, int size) {
+		final BooleanBuilder builder = new BooleanBuilder(QAccountTransaction.accountTransaction.account.id.eq(accountId));
+		return findByCursor(Operation.TRANSACTION_HISTORY, builder, cursor, size);
 	}
 
+	@Transactional(readOnly = true)
 	public Page<AccountTransactionDto> searchTransactions(AccountTransactionSearchRequest request) {
+		final BooleanBuilder builder = buildSearchPredicate(request);
+
+		final Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), Sort.by(Sort.Direction.DESC, "transactionDate"));
+
+		return operationMetrics.db(Operation.TRANSACTION_SEARCH, () -> accountTransactionRepository.findPage(builder, pageable));
+	}
+
+	/**
+	 * {@link #searchTransactions} ile aynı filtreleri uygular, ancak toplam kayıt sayısı için COUNT sorgusu çalıştırmaz.
+	 */
+	@Transactional(readOnly = true)
+	public Slice<AccountTransactionDto> searchTransactionSlice(AccountTransactionSearchRequest request) {
+		final BooleanBuilder builder = buildSearchPredicate(request);
+
+		final Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), Sort.by(Sort.Direction.DESC, "transactionDate"));
+
+		return operationMetrics.db(Operation.TRANSACTION_SEARCH, () -> accountTransactionRepository.findSlice(builder, pageable));
+	}
+
+	@Transactional(readOnly = true)
+	public CursorPageDto<AccountTransactionDto> searchTransactionsByCursor(AccountTransactionSearchRequest request) {
+		return findByCursor(Operation.TRANSACTION_SEARCH, buildSearchPredicate(request), request.getCursor(), request.getSize());
+	}
+
+	/**
+	 * Arama filtrelerine uyan tüm hareketleri tek tek {@code consumer}'a iletir. Kayıtlar listede toplanmaz.
+	 */
+	@Transactional(readOnly = true)
+	public void streamTransactions(AccountTransactionSearchRequest request, Consumer<AccountTransactionDto> consumer) {
+		try (Stream<AccountTransactionDto> rows = accountTransactionRepository.streamLatestFirst(buildSearchPredicate(request), EXPORT_FETCH_SIZE)) {
+			rows.forEach(consumer);
+		}
+	}
+
+	private CursorPageDto<AccountTransactionDto> findByCursor(Operation operation, BooleanBuilder builder, String cursor, int size) {
+		if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+			throw new IllegalArgumentException("Sayfa boyutu 1 ile " + MAX_CURSOR_PAGE_SIZE + " arasında olmalıdır.");
+		}
+
+		if (Objects.nonNull(cursor)) {
+			final QAccountTransaction qAccountTransaction = QAccountTransaction.accountTransaction;
+			final TransactionCursor position = TransactionCursor.decode(cursor);
+			builder.and(qAccountTransaction.transactionDate.lt(position.transactionDate())
+								.or(qAccountTransaction.transactionDate.eq(position.transactionDate()).and(qAccountTransaction.id.gt(position.id()))));
+		}
+
+		final List<AccountTransactionDto> rows = operationMetrics.db(operation, () -> accountTransactionRepository.findLatestFirst(builder, size + 1));
+		final boolean hasNext = rows.size() > size;
+		final List<AccountTransactionDto> content = hasNext ? rows.subList(0, size) : rows;
+
+		return new CursorPageDto<>(content, hasNext ? TransactionCursor.of(content.getLast()).encode() : null);
+	}
+
+	private BooleanBuilder buildSearchPredicate(AccountTransactionSearchRequest request) {
 		final QAccountTransaction qAccountTransaction = QAccountTransaction.accountTransaction;
 
 		final BooleanBuilder builder = new BooleanBuilder();
@@ -134,10 +411,70 @@ public class AccountTransactionService {
 			builder.and(qAccountTransaction.amount.loe(request.getMaxAmount()));
 		}
 
-		final Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), Sort.by(Sort.Direction.DESC, "transactionDate"));
+		return builder;
+	}
+
+	private static AccountTransaction newTransaction(Account account, TransactionType transactionType, BigDecimal amount,
+			LocalDateTime transactionDate) {
+		final AccountTransaction accountTransaction = new AccountTransaction();
+		accountTransaction.setAccount(account);
+		accountTransaction.setAmount(amount);
+		accountTransaction.setTransactionType(transactionType);
+		accountTransaction.setTransactionDate(transactionDate);
+		return accountTransaction;
+	}
 
-		final Page<AccountTransaction> resultPage = accountTransactionRepository.findAll(builder, pageable);
+	/**
+	 * Anahtar daha önce aynı istek için tamamlandıysa ilk sonucu döner. Bu durumda hesap satırına hiç dokunulmaz.
+	 */
+	private Optional<AccountTransactionDto> findReplay(UUID accountId, TransactionRequestDto request, TransactionType transactionType) {
+		if (Objects.isNull(request.getIdempotencyKey())) {
+			return Optional.empty();
+		}
+		return idempotencyStore.find(request.getIdempotencyKey(), accountId, transactionType, request.getAmount());
+	}
+
+	private IdempotencyKey claimIdempotencyKey(UUID accountId, TransactionRequestDto request, TransactionType transactionType) {
+		if (Objects.isNull(request.getIdempotencyKey())) {
+			return null;
+		}
+		return idempotencyStore.claim(request.getIdempotencyKey(), accountId, transactionType, request.getAmount());
+	}
 
-		return resultPage.map(AccountTransactionMapper.INSTANCE::accountTransactionToAccountTransactionDto);
+	private static AccountTransactionDto newTransaction(UUID accountId, TransactionType transactionType, BigDecimal amount) {
+		final AccountTransactionDto transaction = new AccountTransactionDto();
+		transaction.setId(TimeOrderedUuid.next());
+		transaction.setAccountId(accountId);
+		transaction.setTransactionDate(LocalDateTime.now());
+		transaction.setTransactionType(transactionType);
+		transaction.setAmount(amount);
+		return transaction;
+	}
+
+	/**
+	 * Bakiyesi ve satırı yazılmış hareketin günlük özetini, outbox olayını ve varsa Idempotency-Key sonucunu yazar.
+	 */
+	private AccountTransactionDto completeTransaction(Operation operation, AccountTransactionDto transaction, IdempotencyKey idempotencyKey) {
+		operationMetrics.db(operation, () -> {
+			dailyAccountSummaryWriter.record(transaction.getAccountId(), transaction.getTransactionType(), transaction.getAmount(),
+											 transaction.getTransactionDate());
+			outboxWriter.append(OutboxEventType.TRANSACTION_CREATED, transaction.getAccountId(), transaction);
+		});
+		if (Objects.nonNull(idempotencyKey)) {
+			idempotencyStore.complete(idempotencyKey, transaction);
+		}
+		return transaction;
+	}
+
+	/**
+	 * Koşullu UPDATE hiçbir satırı etkilemediğinde nedeni ayırt eder. Bu sorgu yalnızca reddedilen işlemlerde çalışır.
+	 */
+	private RuntimeException rejection(Operation operation, UUID accountId, RejectionReason reason, String message) {
+		if (!operationMetrics.db(operation, () -> accountRepository.existsById(accountId))) {
+			operationMetrics.rejected(operation, RejectionReason.NOT_FOUND);
+			return new EntityNotFoundException("İşlem yapılacak hesap bulunamadı.");
+		}
+		operationMetrics.rejected(operation, reason);
+		return new IllegalArgumentException(message);
 	}
 }
@@ -0,0 +1,41 @@
+package com.banking.bankingsystem.transaction.service;
+
+import com.banking.bankingsystem.common.metrics.Operation;
+import com.banking.bankingsystem.common.metrics.OperationMetrics;
+import com.banking.bankingsystem.transaction.dto.BalanceRebuildReportDto;
+import com.banking.bankingsystem.transaction.dto.BalanceSnapshotDto;
+import com.banking.bankingsystem.transaction.rebuild.BalanceRebuilder;
+import com.banking.bankingsystem.transaction.rebuild.BalanceSnapshotter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Hesap bakiyelerinin hareket geçmişiyle denetimi: periyodik snapshot'lar ve snapshot sonrasındaki hareketlerin paralel
+ * yeniden oynatılması.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Service
+@RequiredArgsConstructor
+public class BalanceRebuildService {
+
+	private final BalanceSnapshotter balanceSnapshotter;
+
+	private final BalanceRebuilder balanceRebuilder;
+
+	private final OperationMetrics operationMetrics;
+
+	public BalanceSnapshotDto takeSnapshot() {
+		return operationMetrics.db(Operation.TRANSACTION_BALANCE_SNAPSHOT, balanceSnapshotter::takeSnapshot);
+	}
+
+	/**
+	 * Bakiyeleri yeniden hesaplar ve kayıtlı bakiyelerle farkını raporlar. Bakiyeler düzeltilmez.
+	 */
+	public BalanceRebuildReportDto rebuild() {
+		return operationMetrics.db(Operation.TRANSACTION_BALANCE_AUDIT, balanceRebuilder::rebuild);
+	}
+}
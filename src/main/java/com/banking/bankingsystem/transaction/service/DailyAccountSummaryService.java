@@ -0,0 +1,79 @@
+package com.banking.bankingsystem.transaction.service;
+
+import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.common.metrics.Operation;
+import com.banking.bankingsystem.common.metrics.OperationMetrics;
+import com.banking.bankingsystem.common.metrics.RejectionReason;
+import com.banking.bankingsystem.transaction.data.DailyAccountSummary;
+import com.banking.bankingsystem.transaction.dto.BalanceAsOfDto;
+import com.banking.bankingsystem.transaction.dto.DailyAccountSummaryDto;
+import com.banking.bankingsystem.transaction.mapper.AccountTransactionMapper;
+import com.banking.bankingsystem.transaction.repository.DailyAccountSummaryRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Gün sonu bakiyesi ve günlük hareket toplamlarını hesap hareketlerini taramadan, {@code daily_account_summary} tablosundan okur.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Service
+@RequiredArgsConstructor
+public class DailyAccountSummaryService {
+
+	public static final int MAX_SUMMARY_DAYS = 366;
+
+	private final DailyAccountSummaryRepository dailyAccountSummaryRepository;
+
+	private final AccountRepository accountRepository;
+
+	private final OperationMetrics operationMetrics;
+
+	public BalanceAsOfDto getBalanceAsOf(UUID accountId, LocalDate date) {
+		final BigDecimal balance = operationMetrics.db(Operation.TRANSACTION_BALANCE_AS_OF,
+													   () -> dailyAccountSummaryRepository.findBalanceAsOf(accountId, date))
+				.orElseThrow(() -> notFound(Operation.TRANSACTION_BALANCE_AS_OF));
+
+		return new BalanceAsOfDto(accountId, date, balance);
+	}
+
+	/**
+	 * Aralıktaki yalnızca hareket olan günleri döner.
+	 */
+	@Transactional(readOnly = true)
+	public List<DailyAccountSummaryDto> getDailySummaries(UUID accountId, LocalDate fromDate, LocalDate toDate) {
+		if (fromDate.isAfter(toDate)) {
+			throw new IllegalArgumentException("Başlangıç tarihi bilgisi bitiş tarihinden küçük ya da eşit olmalıdır.");
+		}
+
+		if (ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_SUMMARY_DAYS) {
+			throw new IllegalArgumentException("Tarih aralığı en fazla " + MAX_SUMMARY_DAYS + " gün olabilir.");
+		}
+
+		final List<DailyAccountSummary> summaries = operationMetrics.db(Operation.TRANSACTION_DAILY_SUMMARY, () -> {
+			if (!accountRepository.existsById(accountId)) {
+				throw notFound(Operation.TRANSACTION_DAILY_SUMMARY);
+			}
+			return dailyAccountSummaryRepository.findByAccountIdAndSummaryDateBetweenOrderBySummaryDate(accountId, fromDate, toDate);
+		});
+
+		return operationMetrics.mapping(Operation.TRANSACTION_DAILY_SUMMARY,
+										() -> AccountTransactionMapper.INSTANCE.dailyAccountSummariesToDailyAccountSummaryDtoList(summaries));
+	}
+
+	private EntityNotFoundException notFound(Operation operation) {
+		operationMetrics.rejected(operation, RejectionReason.NOT_FOUND);
+		return new EntityNotFoundException("Hesap bulunamadı.");
+	}
+}
@@ -0,0 +1,41 @@
+package com.banking.bankingsystem.transaction.service;
+
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * {@code transactionDate DESC, id ASC} sıralamasında son okunan kaydın konumu. İstemciye yalnızca opak bir metin olarak
+ * verilir.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+record TransactionCursor(LocalDateTime transactionDate, UUID id) {
+
+	private static final char SEPARATOR = '|';
+
+	static TransactionCursor of(AccountTransactionDto accountTransaction) {
+		return new TransactionCursor(accountTransaction.getTransactionDate(), accountTransaction.getId());
+	}
+
+	static TransactionCursor decode(String cursor) {
+		try {
+			final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			final int separator = decoded.indexOf(SEPARATOR);
+			return new TransactionCursor(LocalDateTime.parse(decoded.substring(0, separator)), UUID.fromString(decoded.substring(separator + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+			throw new IllegalArgumentException("Geçersiz imleç.");
+		}
+	}
+
+	String encode() {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString((transactionDate.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+	}
+}
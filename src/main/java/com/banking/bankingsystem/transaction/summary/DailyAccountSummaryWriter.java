@@ -0,0 +1,67 @@
+package com.banking.bankingsystem.transaction.summary;
+
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@code daily_account_summary} satırlarını hareketlerle aynı veritabanı işleminde artırır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@Component
+@RequiredArgsConstructor
+public class DailyAccountSummaryWriter {
+
+	private static final String UPDATE_SUMMARY = "update daily_account_summary set deposit_total = deposit_total + ?, deposit_count = deposit_count + ?, "
+			+ "withdraw_total = withdraw_total + ?, withdraw_count = withdraw_count + ? where account_id = ? and summary_date = ?";
+
+	private static final String INSERT_SUMMARY = "insert into daily_account_summary (deposit_total, deposit_count, withdraw_total, withdraw_count, account_id, summary_date) "
+			+ "values (?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void record(UUID accountId, TransactionType transactionType, BigDecimal amount, LocalDateTime transactionDate) {
+		apply(new DailySummaryDelta().add(accountId, transactionType, amount, transactionDate));
+	}
+
+	/**
+	 * Önce var olan gün satırlarını günceller, güncellenemeyenleri ekler. Bir hesabın özet satırlarına yalnızca o hesabın
+	 * bakiyesini değiştiren işlem yazdığı ve bu işlem hesap satırını kilitli tuttuğu için aynı satırı eşzamanlı ekleyen iki işlem
+	 * oluşmaz.
+	 */
+	public void apply(DailySummaryDelta delta) {
+		if (delta.isEmpty()) {
+			return;
+		}
+
+		final List<Object[]> rows = delta.rows().stream()
+				.map(row -> new Object[] { row.getDepositTotal(), row.getDepositCount(), row.getWithdrawTotal(), row.getWithdrawCount(),
+						row.getAccountId(), Date.valueOf(row.getSummaryDate()) })
+				.toList();
+
+		final int[] updated = jdbcTemplate.batchUpdate(UPDATE_SUMMARY, rows);
+
+		final List<Object[]> missing = new ArrayList<>();
+		for (int i = 0; i < updated.length; i++) {
+			if (updated[i] == 0) {
+				missing.add(rows.get(i));
+			}
+		}
+
+		if (!missing.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_SUMMARY, missing);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.banking.bankingsystem.transaction.summary;
+
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bir veritabanı işleminde oluşan hareketlerin hesap ve gün bazında toplamları. Aynı hesap ve güne düşen hareketler tek bir
+ * satır güncellemesine indirgenir.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+public class DailySummaryDelta {
+
+	private final Map<Key, Row> rows = new LinkedHashMap<>();
+
+	public DailySummaryDelta add(UUID accountId, TransactionType transactionType, BigDecimal amount, LocalDateTime transactionDate) {
+		final LocalDate summaryDate = transactionDate.toLocalDate();
+		final Row row = rows.computeIfAbsent(new Key(accountId, summaryDate), key -> new Row(accountId, summaryDate));
+		if (transactionType == TransactionType.DEPOSIT) {
+			row.depositTotal = row.depositTotal.add(amount);
+			row.depositCount++;
+		} else {
+			row.withdrawTotal = row.withdrawTotal.add(amount);
+			row.withdrawCount++;
+		}
+		return this;
+	}
+
+	public boolean isEmpty() {
+		return rows.isEmpty();
+	}
+
+	List<Row> rows() {
+		return new ArrayList<>(rows.values());
+	}
+
+	private record Key(UUID accountId, LocalDate summaryDate) {
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	static final class Row {
+
+		private final UUID accountId;
+
+		private final LocalDate summaryDate;
+
+		private BigDecimal depositTotal = BigDecimal.ZERO;
+
+		private int depositCount;
+
+		private BigDecimal withdrawTotal = BigDecimal.ZERO;
+
+		private int withdrawCount;
+	}
+}
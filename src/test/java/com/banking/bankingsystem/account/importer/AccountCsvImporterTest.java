@@ -0,0 +1,178 @@
+package com.banking.bankingsystem.account.importer;
+
+import com.banking.bankingsystem.account.data.Account;
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.dto.AccountImportReportDto;
+import com.banking.bankingsystem.account.dto.CreateAccountRequestDto;
+import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.account.service.AccountService;
+import com.banking.bankingsystem.transaction.repository.AccountTransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@SpringBootTest(properties = { "banking.account-import.batch-size=2", "banking.account-import.parallelism=2",
+		"banking.account-import.max-reported-rejections=3", "banking.account-import.max-record-lines=3", "banking.outbox.enabled=true", "banking.outbox.publisher=memory",
+		"banking.outbox.poll-interval=1h" })
+@ActiveProfiles("test")
+class AccountCsvImporterTest {
+
+	@Autowired
+	private AccountCsvImporter accountCsvImporter;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private AccountTransactionRepository accountTransactionRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		cleanUp();
+	}
+
+	@AfterEach
+	void tearDown() {
+		cleanUp();
+	}
+
+	@Test
+	void importCsv_ShouldInsertValidRowsAndAppendOutboxEvents() throws IOException {
+		AccountImportReportDto report = importCsv("""
+				\uFEFFaccountType,identityNo,firstName,lastName
+				TL,50000000001,Ali,Veli
+
+				USD,50000000001,Ali,Veli
+				GBP,50000000002,Ayşe,Yılmaz
+				TL,50000000003,Mehmet,Demir
+				""");
+
+		assertEquals(4, report.getTotalRows());
+		assertEquals(4, report.getImportedCount());
+		assertEquals(0, report.getRejectedCount());
+		assertEquals(4, accountRepository.count());
+		assertEquals(4, jdbcTemplate.queryForObject("select count(*) from outbox where event_type = 'ACCOUNT_CREATED'", Integer.class));
+	}
+
+	@Test
+	void importCsv_ShouldRejectInvalidAndDuplicateRowsWithLineNumbers() throws IOException {
+		CreateAccountRequestDto existing = new CreateAccountRequestDto();
+		existing.setIdentityNo(BigDecimal.valueOf(50000000001L));
+		existing.setFirstName("Kayıtlı");
+		existing.setLastName("Hesap");
+		existing.setAccountType(AccountType.TL);
+		accountService.createAccount(existing);
+		jdbcTemplate.update("delete from outbox");
+
+		AccountImportReportDto report = importCsv("""
+				identityNo,firstName,lastName,accountType
+				50000000001,Ali,Veli,TL
+				50000000002,Ayşe,Yılmaz,GBP
+				50000000002,Ayşe,Yılmaz,GBP
+				abc,Mehmet,Demir,TL
+				50000000003,,Demir,XYZ
+				50000000004,,Demir,TL
+				50000000005,Zeynep
+				50000000006,Zeynep,Kaya,USD
+				""");
+
+		assertEquals(8, report.getTotalRows());
+		assertEquals(2, report.getImportedCount());
+		assertEquals(6, report.getRejectedCount());
+		assertEquals(3, report.getRejections().size());
+		assertEquals(2, report.getRejections().get(0).getLineNumber());
+		assertEquals(AccountCsvImporter.DUPLICATE, report.getRejections().get(0).getReason());
+		assertEquals(4, report.getRejections().get(1).getLineNumber());
+		assertEquals(AccountCsvImporter.DUPLICATE, report.getRejections().get(1).getReason());
+		assertEquals(5, report.getRejections().get(2).getLineNumber());
+		assertTrue(report.getRejections().get(2).getReason().startsWith("identityNo"));
+		assertEquals(3, accountRepository.count());
+		assertEquals(2, jdbcTemplate.queryForObject("select count(*) from outbox", Integer.class));
+	}
+
+	@Test
+	void importCsv_ShouldParseQuotedFields() throws IOException {
+		AccountImportReportDto report = importCsv("""
+				"identityNo","firstName","lastName","accountType"
+				50000000001,Enes,"Kumaş, Yılmaz",TL
+				50000000002,"Ayşe ""Ay""\",Demir,"USD"
+				50000000003,"Mehmet
+				Ali",Kaya,GBP
+				50000000004,"Can"x,Kaya,TL
+				50000000005,"Zeynep,Kaya,TL
+				""");
+
+		assertEquals(5, report.getTotalRows());
+		assertEquals(3, report.getImportedCount());
+		assertEquals(2, report.getRejectedCount());
+		assertEquals(6, report.getRejections().get(0).getLineNumber());
+		assertEquals("Geçersiz tırnak kullanımı.", report.getRejections().get(0).getReason());
+		assertEquals(7, report.getRejections().get(1).getLineNumber());
+		assertEquals("Geçersiz tırnak kullanımı.", report.getRejections().get(1).getReason());
+		final List<Account> accounts = accountRepository.findAll();
+		assertTrue(accounts.stream().anyMatch(account -> account.getLastName().equals("Kumaş, Yılmaz")));
+		assertTrue(accounts.stream().anyMatch(account -> account.getFirstName().equals("Ayşe \"Ay\"")));
+		assertTrue(accounts.stream().anyMatch(account -> account.getFirstName().equals("Mehmet\nAli")));
+	}
+
+	@Test
+	void importCsv_ShouldRejectOnlyOpeningLine_WhenQuoteIsNotClosedWithinMaxRecordLines() throws IOException {
+		AccountImportReportDto report = importCsv("""
+				identityNo,firstName,lastName,accountType
+				50000000001,"Ali,Veli,TL
+				50000000002,Ayşe,Yılmaz,GBP
+				50000000003,Mehmet,Demir,TL
+				50000000004,"Can
+				Ali",Kaya,USD
+				50000000005,Zeynep,Kaya,TL
+				""");
+
+		assertEquals(5, report.getTotalRows());
+		assertEquals(4, report.getImportedCount());
+		assertEquals(1, report.getRejectedCount());
+		assertEquals(2, report.getRejections().getFirst().getLineNumber());
+		assertEquals("Geçersiz tırnak kullanımı.", report.getRejections().getFirst().getReason());
+		assertTrue(accountRepository.findAll().stream().anyMatch(account -> account.getFirstName().equals("Can\nAli")));
+	}
+
+	@Test
+	void importCsv_ShouldThrow_WhenHeaderIsMissingOrIncomplete() {
+		assertThrows(IllegalArgumentException.class, () -> importCsv(""));
+		assertThrows(IllegalArgumentException.class, () -> importCsv("identityNo,firstName,lastName\n50000000001,Ali,Veli\n"));
+		assertEquals(0, accountRepository.count());
+	}
+
+	private AccountImportReportDto importCsv(String csv) throws IOException {
+		return accountCsvImporter.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private void cleanUp() {
+		accountTransactionRepository.deleteAll();
+		accountRepository.deleteAll();
+		jdbcTemplate.update("delete from outbox");
+	}
+}
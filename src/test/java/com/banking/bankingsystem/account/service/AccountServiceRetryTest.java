@@ -0,0 +1,122 @@
+package com.banking.bankingsystem.account.service;
+
+import com.banking.bankingsystem.account.data.Account;
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.dto.UpdateAccountRequestDto;
+import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.common.metrics.Operation;
+import com.banking.bankingsystem.common.metrics.OperationMetrics;
+import com.banking.bankingsystem.transaction.dto.TransactionRequestDto;
+import com.banking.bankingsystem.transaction.service.AccountTransactionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@SpringBootTest(properties = { "banking.retry.delay=1", "banking.retry.max-delay=5" })
+@ActiveProfiles("test")
+class AccountServiceRetryTest {
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private AccountTransactionService accountTransactionService;
+
+	@MockitoSpyBean
+	private AccountRepository accountRepository;
+
+	@MockitoSpyBean
+	private OperationMetrics operationMetrics;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private UUID accountId;
+
+	private UpdateAccountRequestDto updateRequest;
+
+	@BeforeEach
+	void setUp() {
+		final Account account = new Account();
+		account.setIdentityNo(BigDecimal.valueOf(40000000001L));
+		account.setFirstName("first name");
+		account.setLastName("last name");
+		account.setAccountType(AccountType.TL);
+		account.setBalance(BigDecimal.valueOf(1000));
+		accountId = accountRepository.save(account).getId();
+
+		updateRequest = new UpdateAccountRequestDto();
+		updateRequest.setFirstName("updated first name");
+		updateRequest.setLastName("updated last name");
+	}
+
+	@AfterEach
+	void tearDown() {
+		reset(accountRepository, operationMetrics);
+		accountRepository.deleteAll();
+	}
+
+	@Test
+	void balanceUpdate_ShouldBumpVersion_SoStaleEntityCannotOverwriteBalance() {
+		final Account stale = accountRepository.findById(accountId).orElseThrow();
+
+		final TransactionRequestDto deposit = new TransactionRequestDto();
+		deposit.setAmount(BigDecimal.valueOf(500));
+		accountTransactionService.deposit(accountId, deposit);
+
+		stale.setFirstName("stale");
+		assertThrows(ObjectOptimisticLockingFailureException.class, () -> accountRepository.save(stale));
+		assertEquals(0, BigDecimal.valueOf(1500).compareTo(accountRepository.findById(accountId).orElseThrow().getBalance()));
+	}
+
+	@Test
+	void updateAccount_ShouldRetryAndKeepConcurrentDeposit_WhenVersionConflicts() {
+		final double conflictsBefore = counter("banking.retry.conflicts");
+		final AtomicBoolean depositedConcurrently = new AtomicBoolean();
+
+		doAnswer(invocation -> {
+			if (depositedConcurrently.compareAndSet(false, true)) {
+				final TransactionRequestDto deposit = new TransactionRequestDto();
+				deposit.setAmount(BigDecimal.valueOf(250));
+				CompletableFuture.runAsync(() -> accountTransactionService.deposit(accountId, deposit)).join();
+			}
+			return invocation.callRealMethod();
+		}).when(operationMetrics).mapping(eq(Operation.ACCOUNT_UPDATE), any(Runnable.class));
+
+		clearInvocations(accountRepository);
+		accountService.updateAccount(accountId, updateRequest);
+
+		final Account account = accountRepository.findById(accountId).orElseThrow();
+		assertEquals("updated first name", account.getFirstName());
+		assertEquals(0, BigDecimal.valueOf(1250).compareTo(account.getBalance()));
+		verify(accountRepository, times(2)).saveAndFlush(any(Account.class));
+		assertEquals(conflictsBefore + 1, counter("banking.retry.conflicts"));
+		assertEquals(1.0, counter("banking.retry.recovered"));
+	}
+
+	private double counter(String name) {
+		return meterRegistry.find(name).tag("operation", "account.update").counters().stream().mapToDouble(c -> c.count()).sum();
+	}
+}
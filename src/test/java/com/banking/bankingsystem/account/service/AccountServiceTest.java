@@ -5,14 +5,23 @@ import com.banking.bankingsystem.account.data.AccountType;
 import com.banking.bankingsystem.account.dto.AccountDto;
 import com.banking.bankingsystem.account.dto.CreateAccountRequestDto;
 import com.banking.bankingsystem.account.dto.UpdateAccountRequestDto;
+import com.banking.bankingsystem.account.event.AccountChangedEvent;
 import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.common.dto.CursorPageDto;
+import com.banking.bankingsystem.common.metrics.OperationMetrics;
+import com.banking.bankingsystem.common.outbox.OutboxEventType;
+import com.banking.bankingsystem.common.outbox.OutboxWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -21,6 +30,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -35,6 +45,17 @@ class AccountServiceTest {
 	@Mock
 	private AccountRepository accountRepository;
 
+	@Mock
+	private OutboxWriter outboxWriter;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Spy
+	private OperationMetrics operationMetrics = new OperationMetrics(meterRegistry);
+
 	@InjectMocks
 	private AccountService accountService;
 
@@ -84,6 +105,7 @@ class AccountServiceTest {
 		assertEquals(firstName, accountDto.getFirstName());
 		assertEquals(lastName, accountDto.getLastName());
 		verify(accountRepository, times(1)).save(any());
+		verify(outboxWriter).append(OutboxEventType.ACCOUNT_CREATED, accountDto.getId(), accountDto);
 	}
 
 	@Test
@@ -96,31 +118,46 @@ class AccountServiceTest {
 	}
 
 	@Test
-	void getAllAccounts_ShouldReturnAccountList() {
-		when(accountRepository.findAll()).thenReturn(List.of(account));
-
-		List<AccountDto> accountDtos = accountService.getAllAccounts();
+	void getAccounts_ShouldReturnPageWithNextCursor_WhenMoreRowsExist() {
+		AccountDto first = new AccountDto();
+		first.setId(UUID.randomUUID());
+		AccountDto second = new AccountDto();
+		second.setId(UUID.randomUUID());
+		when(accountRepository.findPageAfter(AccountType.TL, null, 2)).thenReturn(List.of(first, second));
+
+		CursorPageDto<AccountDto> page = accountService.getAccounts(AccountType.TL, null, 1);
+
+		assertEquals(1, page.getContent().size());
+		assertEquals(first.getId().toString(), page.getNextCursor());
+		verify(accountRepository, never()).findAll();
+	}
 
-		assertFalse(accountDtos.isEmpty());
-		assertEquals(1, accountDtos.size());
-		verify(accountRepository, times(1)).findAll();
+	@Test
+	void getAccounts_ShouldThrowException_WhenCursorIsInvalid() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> accountService.getAccounts(null, "invalid", 10));
+		assertEquals("Geçersiz imleç.", exception.getMessage());
 	}
 
 	@Test
 	void getAccountById_ShouldReturnAccount_WhenAccountExists() {
-		when(accountRepository.findById(any(UUID.class))).thenReturn(Optional.of(account));
+		AccountDto projected = new AccountDto();
+		projected.setId(account.getId());
+		projected.setFirstName(account.getFirstName());
+		projected.setLastName(account.getLastName());
+		when(accountRepository.findDtoById(any(UUID.class))).thenReturn(Optional.of(projected));
 
 		AccountDto accountDto = accountService.getAccountById(account.getId());
 
 		assertNotNull(accountDto);
 		assertEquals(account.getFirstName(), accountDto.getFirstName());
 		assertEquals(account.getLastName(), accountDto.getLastName());
-		verify(accountRepository, times(1)).findById(any(UUID.class));
+		verify(accountRepository, times(1)).findDtoById(any(UUID.class));
+		verify(accountRepository, never()).findById(any(UUID.class));
 	}
 
 	@Test
 	void getAccountById_ShouldThrowException_WhenAccountNotFound() {
-		when(accountRepository.findById(any(UUID.class))).thenReturn(Optional.empty());
+		when(accountRepository.findDtoById(any(UUID.class))).thenReturn(Optional.empty());
 
 		EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> accountService.getAccountById(UUID.randomUUID()));
 		assertEquals("Hesap bulunamadı.", exception.getMessage());
@@ -129,14 +166,17 @@ class AccountServiceTest {
 	@Test
 	void updateAccount_ShouldUpdateAccount_WhenValidDataProvided() {
 		when(accountRepository.findById(any(UUID.class))).thenReturn(Optional.of(account));
-		when(accountRepository.save(any())).thenReturn(account);
+		when(accountRepository.saveAndFlush(any())).thenReturn(account);
 
 		AccountDto accountDto = accountService.updateAccount(account.getId(), updateAccountRequestDto);
 
 		assertNotNull(accountDto);
 		assertEquals("updated first name", accountDto.getFirstName());
 		assertEquals("updated last name", accountDto.getLastName());
-		verify(accountRepository, times(1)).save(any());
+		InOrder inOrder = inOrder(accountRepository, outboxWriter);
+		inOrder.verify(accountRepository).saveAndFlush(account);
+		inOrder.verify(outboxWriter).append(OutboxEventType.ACCOUNT_UPDATED, account.getId(), accountDto);
+		verify(eventPublisher).publishEvent(new AccountChangedEvent(account.getId()));
 	}
 
 	@Test
@@ -155,6 +195,8 @@ class AccountServiceTest {
 		accountService.deleteAccountById(account.getId());
 
 		verify(accountRepository, times(1)).deleteById(any(UUID.class));
+		verify(outboxWriter).append(eq(OutboxEventType.ACCOUNT_DELETED), eq(account.getId()), any());
+		verify(eventPublisher).publishEvent(new AccountChangedEvent(account.getId()));
 	}
 
 	@Test
@@ -163,5 +205,6 @@ class AccountServiceTest {
 
 		EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> accountService.deleteAccountById(UUID.randomUUID()));
 		assertEquals("Silinecek hesap bulunamadı.", exception.getMessage());
+		verifyNoInteractions(outboxWriter, eventPublisher);
 	}
 }
\ No newline at end of file
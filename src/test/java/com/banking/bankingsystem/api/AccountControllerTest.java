@@ -8,6 +8,7 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
@@ -17,7 +18,10 @@ import org.springframework.test.web.servlet.MvcResult;
 import java.math.BigDecimal;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -94,7 +98,7 @@ public class AccountControllerTest {
 	@Test
 	@Order(4)
 	void shouldGetAllAccounts() throws Exception {
-		mockMvc.perform(get("/api/v1/accounts")).andExpect(status().isOk()).andExpect(jsonPath("$.length()").value(1));
+		mockMvc.perform(get("/api/v1/accounts")).andExpect(status().isOk()).andExpect(jsonPath("$.content.length()").value(1));
 	}
 
 	@Test
@@ -123,6 +127,11 @@ public class AccountControllerTest {
 								 .content(objectMapper.writeValueAsString(updateRequest)))
 				.andExpect(status().isOk())
 				.andExpect(jsonPath("$.firstName").value("updated first name"));
+
+		mockMvc
+				.perform(get("/api/v1/accounts/{id}", createdAccountId))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.firstName").value("updated first name"));
 	}
 
 	@Test
@@ -139,6 +148,8 @@ public class AccountControllerTest {
 	@Order(9)
 	void shouldDeleteAccount() throws Exception {
 		mockMvc.perform(delete("/api/v1/accounts/{id}", createdAccountId)).andExpect(status().isNoContent());
+
+		mockMvc.perform(get("/api/v1/accounts/{id}", createdAccountId)).andExpect(status().isNotFound());
 	}
 
 	@Test
@@ -146,4 +157,99 @@ public class AccountControllerTest {
 	void shouldReturnNotFoundWhenDeletingNonExistentAccount() throws Exception {
 		mockMvc.perform(delete("/api/v1/accounts/{id}", UUID.randomUUID())).andExpect(status().isNotFound());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@Order(11)
+	void shouldPageAccountsByCursorAndFilterByAccountType() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			createRequest.setIdentityNo(BigDecimal.valueOf(20000000000L + i));
+			createRequest.setAccountType(AccountType.GBP);
+			mockMvc
+					.perform(post("/api/v1/accounts").contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(createRequest)))
+					.andExpect(status().isCreated());
+		}
+
+		MvcResult firstPage = mockMvc
+				.perform(get("/api/v1/accounts").param("accountType", "GBP").param("size", "2"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content.length()").value(2))
+				.andExpect(jsonPath("$.content[0].accountType").value("GBP"))
+				.andExpect(jsonPath("$.nextCursor").exists())
+				.andReturn();
+
+		String cursor = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("nextCursor").asText();
+
+		mockMvc
+				.perform(get("/api/v1/accounts").param("accountType", "GBP").param("size", "2").param("cursor", cursor))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content.length()").value(1))
+				.andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+		mockMvc.perform(get("/api/v1/accounts").param("cursor", "not-a-cursor")).andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@Order(12)
+	void shouldReturnNotModifiedUntilAccountChanges() throws Exception {
+		createRequest.setIdentityNo(BigDecimal.valueOf(30000000000L));
+		MvcResult created = mockMvc
+				.perform(post("/api/v1/accounts").contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(createRequest)))
+				.andExpect(status().isCreated())
+				.andReturn();
+		UUID accountId = UUID.fromString(objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText());
+
+		String eTag = mockMvc
+				.perform(get("/api/v1/accounts/{id}", accountId))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andReturn()
+				.getResponse()
+				.getHeader(HttpHeaders.ETAG);
+
+		mockMvc
+				.perform(get("/api/v1/accounts/{id}", accountId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, eTag))
+				.andExpect(content().string(""));
+
+		mockMvc
+				.perform(put("/api/v1/accounts/{id}", accountId)
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(updateRequest)))
+				.andExpect(status().isOk());
+
+		mockMvc
+				.perform(get("/api/v1/accounts/{id}", accountId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+				.andExpect(jsonPath("$.firstName").value("updated first name"));
+
+		mockMvc
+				.perform(get("/api/v1/accounts/{id}", UUID.randomUUID()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	@Order(13)
+	void shouldImportAccountsFromCsvAndReportRejectedRows() throws Exception {
+		String csv = """
+				identityNo,firstName,lastName,accountType
+				31000000001,first name,last name,TL
+				31000000001,first name,last name,TL
+				abc,first name,last name,USD
+				""";
+
+		mockMvc
+				.perform(post("/api/v1/accounts/import").contentType("text/csv").content(csv))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalRows").value(3))
+				.andExpect(jsonPath("$.importedCount").value(1))
+				.andExpect(jsonPath("$.rejectedCount").value(2))
+				.andExpect(jsonPath("$.rejections[0].lineNumber").value(3))
+				.andExpect(jsonPath("$.rejections[1].lineNumber").value(4));
+
+		mockMvc
+				.perform(post("/api/v1/accounts/import").contentType("text/csv").content("identityNo,firstName,accountType\n"))
+				.andExpect(status().isBadRequest());
+	}
+}
@@ -3,28 +3,50 @@ package com.banking.bankingsystem.api;
 import com.banking.bankingsystem.account.data.Account;
 import com.banking.bankingsystem.account.data.AccountType;
 import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.config.CacheConfig;
+import com.banking.bankingsystem.transaction.binary.TransactionBinaryCodec;
 import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
 import com.banking.bankingsystem.transaction.dto.AccountTransactionSearchRequest;
+import com.banking.bankingsystem.transaction.dto.BatchTransactionItemDto;
+import com.banking.bankingsystem.transaction.dto.BatchTransactionRequestDto;
 import com.banking.bankingsystem.transaction.dto.TransactionRequestDto;
+import com.banking.bankingsystem.transaction.dto.TransferRequestDto;
 import com.banking.bankingsystem.transaction.repository.AccountTransactionRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -35,6 +57,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
 @ActiveProfiles("test")
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -49,6 +72,9 @@ public class AccountTransactionControllerTest {
 	@Autowired
 	private AccountRepository accountRepository;
 
+	@Autowired
+	private CacheManager cacheManager;
+
 	@Autowired
 	private AccountTransactionRepository transactionRepository;
 
@@ -206,4 +232,502 @@ public class AccountTransactionControllerTest {
 								 .content(objectMapper.writeValueAsString(searchRequest)))
 				.andExpect(status().isBadRequest());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@Order(9)
+	void testConcurrentDeposits_ShouldNotLoseUpdates() throws Exception {
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(BigDecimal.valueOf(10));
+		String content = objectMapper.writeValueAsString(request);
+
+		int depositCount = 40;
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < depositCount; i++) {
+				futures.add(executor.submit(() -> {
+					mockMvc
+							.perform(post("/api/v1/transactions/{accountId}/deposit", testAccountId)
+											 .contentType(MediaType.APPLICATION_JSON)
+											 .content(content))
+							.andExpect(status().isCreated());
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		BigDecimal balance = accountRepository.findById(testAccountId).orElseThrow().getBalance();
+		Assertions.assertEquals(0, BigDecimal.valueOf(5000 + depositCount * 10).compareTo(balance));
+	}
+
+	@Test
+	@Order(10)
+	void testProcessBatch_ShouldReturnPerItemResults() throws Exception {
+		BatchTransactionRequestDto request = new BatchTransactionRequestDto();
+		request.setItems(List.of(batchItem(testAccountId, TransactionType.DEPOSIT, 1000), batchItem(testAccountId, TransactionType.WITHDRAW, 7000),
+								 batchItem(testAccountId, TransactionType.WITHDRAW, 6000)));
+
+		mockMvc
+				.perform(post("/api/v1/transactions/batch").contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$", hasSize(3)))
+				.andExpect(jsonPath("$[0].successful", is(true)))
+				.andExpect(jsonPath("$[1].successful", is(false)))
+				.andExpect(jsonPath("$[1].message", is("Yetersiz bakiye")))
+				.andExpect(jsonPath("$[2].successful", is(true)))
+				.andExpect(jsonPath("$[2].transaction.transactionType", is("WITHDRAW")));
+
+		Assertions.assertEquals(0, BigDecimal.ZERO.compareTo(accountRepository.findById(testAccountId).orElseThrow().getBalance()));
+		Assertions.assertEquals(2, transactionRepository.count());
+	}
+
+	@Test
+	@Order(11)
+	void testGetTransactionPageByAccountId_ShouldFollowCursorToLastPage() throws Exception {
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(BigDecimal.valueOf(100));
+		for (int i = 0; i < 3; i++) {
+			mockMvc
+					.perform(post("/api/v1/transactions/{accountId}/deposit", testAccountId)
+									 .contentType(MediaType.APPLICATION_JSON)
+									 .content(objectMapper.writeValueAsString(request)))
+					.andExpect(status().isCreated());
+		}
+
+		MvcResult firstPage = mockMvc
+				.perform(get("/api/v1/transactions/{accountId}/page", testAccountId).param("size", "2"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content", hasSize(2)))
+				.andExpect(jsonPath("$.nextCursor").isNotEmpty())
+				.andReturn();
+
+		String cursor = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("nextCursor").asText();
+
+		mockMvc
+				.perform(get("/api/v1/transactions/{accountId}/page", testAccountId).param("size", "2").param("cursor", cursor))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content", hasSize(1)))
+				.andExpect(jsonPath("$.nextCursor").doesNotExist());
+	}
+
+	@Test
+	@Order(12)
+	void testSearchTransactions_ShouldSkipTotalCount_WhenRequested() throws Exception {
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(BigDecimal.valueOf(500));
+
+		mockMvc
+				.perform(post("/api/v1/transactions/{accountId}/deposit", testAccountId)
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isCreated());
+
+		searchRequest.setWithTotalCount(false);
+
+		mockMvc
+				.perform(post("/api/v1/transactions/search")
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(searchRequest)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content", hasSize(1)))
+				.andExpect(jsonPath("$.totalElements").doesNotExist())
+				.andExpect(jsonPath("$.last", is(true)));
+	}
+
+	@Test
+	@Order(13)
+	void testExportTransactions_ShouldStreamNdjsonAndCsv() throws Exception {
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(BigDecimal.valueOf(250));
+		for (int i = 0; i < 2; i++) {
+			mockMvc
+					.perform(post("/api/v1/transactions/{accountId}/deposit", testAccountId)
+									 .contentType(MediaType.APPLICATION_JSON)
+									 .content(objectMapper.writeValueAsString(request)))
+					.andExpect(status().isCreated());
+		}
+
+		AccountTransactionSearchRequest exportRequest = new AccountTransactionSearchRequest();
+		exportRequest.setAccountId(testAccountId);
+
+		MvcResult ndjson = mockMvc
+				.perform(post("/api/v1/transactions/export")
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(exportRequest)))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		String ndjsonBody = mockMvc
+				.perform(asyncDispatch(ndjson))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType("application/x-ndjson"))
+				.andReturn()
+				.getResponse()
+				.getContentAsString();
+
+		String[] lines = ndjsonBody.split("\n");
+		Assertions.assertEquals(2, lines.length);
+		Assertions.assertEquals(testAccountId.toString(), objectMapper.readTree(lines[0]).get("accountId").asText());
+
+		MvcResult csv = mockMvc
+				.perform(post("/api/v1/transactions/export")
+								 .param("format", "CSV")
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(exportRequest)))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		String csvBody = mockMvc.perform(asyncDispatch(csv)).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+
+		String[] rows = csvBody.split("\n");
+		Assertions.assertEquals(3, rows.length);
+		Assertions.assertEquals("id,accountId,transactionDate,transactionType,amount", rows[0]);
+		Assertions.assertTrue(rows[1].endsWith(",DEPOSIT,250.00"));
+	}
+
+	@Test
+	@Order(14)
+	void testCachedAccount_ShouldBeInvalidatedByDepositAndWithdraw() throws Exception {
+		mockMvc.perform(get("/api/v1/accounts/{id}", testAccountId)).andExpect(status().isOk()).andExpect(jsonPath("$.balance").value(5000.0));
+		mockMvc.perform(get("/api/v1/accounts/{id}", testAccountId)).andExpect(status().isOk()).andExpect(jsonPath("$.balance").value(5000.0));
+
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(BigDecimal.valueOf(300));
+		mockMvc
+				.perform(post("/api/v1/transactions/{accountId}/deposit", testAccountId)
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isCreated());
+
+		mockMvc.perform(get("/api/v1/accounts/{id}", testAccountId)).andExpect(status().isOk()).andExpect(jsonPath("$.balance").value(5300.0));
+
+		mockMvc
+				.perform(post("/api/v1/transactions/{accountId}/withdraw", testAccountId)
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isCreated());
+
+		mockMvc.perform(get("/api/v1/accounts/{id}", testAccountId)).andExpect(status().isOk()).andExpect(jsonPath("$.balance").value(5000.0));
+
+		CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CacheConfig.ACCOUNTS);
+		Assertions.assertNotNull(cache);
+		Assertions.assertTrue(cache.getNativeCache().stats().hitCount() >= 1);
+	}
+
+	@Test
+	@Order(15)
+	void testPrometheusEndpoint_ShouldExposeOperationMetrics() throws Exception {
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(BigDecimal.valueOf(10_000));
+
+		mockMvc
+				.perform(post("/api/v1/transactions/{accountId}/withdraw", testAccountId)
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isBadRequest());
+
+		mockMvc
+				.perform(get("/actuator/prometheus"))
+				.andExpect(status().isOk())
+				.andExpect(content().string(containsString(
+						"banking_operation_rejections_total{operation=\"transaction.withdraw\",reason=\"insufficient_funds\"} 1.0")))
+				.andExpect(content().string(containsString("banking_operation_duration_seconds_count{operation=\"transaction.withdraw\",phase=\"db\"}")))
+				.andExpect(content().string(containsString("banking_http_inflight{endpoint=\"AccountTransactionController.withdraw\"}")))
+				.andExpect(content().string(containsString("banking_operation_sql_statements_count{operation=\"transaction.withdraw\"} 1\n")))
+				.andExpect(content().string(containsString("banking_operation_sql_statements_sum{operation=\"transaction.withdraw\"} 2.0\n")));
+	}
+
+	@Test
+	@Order(16)
+	void testDeposit_ShouldReplayFirstResult_WhenIdempotencyKeyIsRepeated() throws Exception {
+		String idempotencyKey = UUID.randomUUID().toString();
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(BigDecimal.valueOf(500));
+
+		MvcResult first = mockMvc
+				.perform(post("/api/v1/transactions/{accountId}/deposit", testAccountId)
+								 .header(AccountTransactionController.IDEMPOTENCY_KEY, idempotencyKey)
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isCreated())
+				.andReturn();
+		String transactionId = objectMapper.readTree(first.getResponse().getContentAsString()).get("id").asText();
+
+		mockMvc
+				.perform(post("/api/v1/transactions/{accountId}/deposit", testAccountId)
+								 .header(AccountTransactionController.IDEMPOTENCY_KEY, idempotencyKey)
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.id", is(transactionId)));
+
+		Assertions.assertEquals(0, BigDecimal.valueOf(5500).compareTo(accountRepository.findById(testAccountId).orElseThrow().getBalance()));
+		Assertions.assertEquals(1, transactionRepository.count());
+
+		mockMvc
+				.perform(post("/api/v1/transactions/{accountId}/withdraw", testAccountId)
+								 .header(AccountTransactionController.IDEMPOTENCY_KEY, idempotencyKey)
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().string("Bu Idempotency-Key farklı bir işlem için kullanılmış."));
+
+		mockMvc
+				.perform(post("/api/v1/transactions/{accountId}/deposit", testAccountId)
+								 .header(AccountTransactionController.IDEMPOTENCY_KEY, "x".repeat(65))
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@Order(17)
+	void testDailySummaryAndBalanceAsOf_ShouldReflectDepositsAndWithdrawals() throws Exception {
+		TransactionRequestDto deposit = new TransactionRequestDto();
+		deposit.setAmount(BigDecimal.valueOf(400));
+		TransactionRequestDto withdraw = new TransactionRequestDto();
+		withdraw.setAmount(BigDecimal.valueOf(150));
+
+		for (TransactionRequestDto request : List.of(deposit, deposit)) {
+			mockMvc
+					.perform(post("/api/v1/transactions/{accountId}/deposit", testAccountId)
+									 .contentType(MediaType.APPLICATION_JSON)
+									 .content(objectMapper.writeValueAsString(request)))
+					.andExpect(status().isCreated());
+		}
+		mockMvc
+				.perform(post("/api/v1/transactions/{accountId}/withdraw", testAccountId)
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(withdraw)))
+				.andExpect(status().isCreated());
+
+		LocalDate today = LocalDate.now();
+
+		mockMvc
+				.perform(get("/api/v1/transactions/{accountId}/daily-summary", testAccountId)
+								 .param("fromDate", today.minusDays(7).toString())
+								 .param("toDate", today.toString()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$", hasSize(1)))
+				.andExpect(jsonPath("$[0].summaryDate", is(today.toString())))
+				.andExpect(jsonPath("$[0].depositTotal", is(800.0)))
+				.andExpect(jsonPath("$[0].depositCount", is(2)))
+				.andExpect(jsonPath("$[0].withdrawTotal", is(150.0)))
+				.andExpect(jsonPath("$[0].withdrawCount", is(1)));
+
+		mockMvc
+				.perform(get("/api/v1/transactions/{accountId}/balance", testAccountId).param("date", today.minusDays(1).toString()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.balance", is(5000.0)));
+
+		mockMvc
+				.perform(get("/api/v1/transactions/{accountId}/balance", testAccountId).param("date", today.toString()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.balance", is(5650.0)));
+
+		mockMvc
+				.perform(get("/api/v1/transactions/{accountId}/balance", UUID.randomUUID()).param("date", today.toString()))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	@Order(18)
+	void testTransfer_ShouldMoveBalanceAndRejectCurrencyMismatch() throws Exception {
+		UUID targetAccountId = accountRepository.save(account(12345678902L, AccountType.TL, 1000)).getId();
+		UUID usdAccountId = accountRepository.save(account(12345678903L, AccountType.USD, 1000)).getId();
+
+		mockMvc
+				.perform(post("/api/v1/transactions/transfer")
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(transferRequest(testAccountId, targetAccountId, 750))))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.withdrawal.transactionType", is("WITHDRAW")))
+				.andExpect(jsonPath("$.deposit.transactionType", is("DEPOSIT")));
+
+		Assertions.assertEquals(0, BigDecimal.valueOf(4250).compareTo(accountRepository.findById(testAccountId).orElseThrow().getBalance()));
+		Assertions.assertEquals(0, BigDecimal.valueOf(1750).compareTo(accountRepository.findById(targetAccountId).orElseThrow().getBalance()));
+
+		mockMvc
+				.perform(post("/api/v1/transactions/transfer")
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(transferRequest(testAccountId, usdAccountId, 100))))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().string("Farklı para birimindeki hesaplar arasında transfer yapılamaz."));
+
+		mockMvc
+				.perform(post("/api/v1/transactions/transfer")
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(transferRequest(targetAccountId, testAccountId, 5000))))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().string("Yetersiz bakiye"));
+
+		Assertions.assertEquals(2, transactionRepository.count());
+	}
+
+	@Test
+	@Order(19)
+	void testConcurrentCrossingTransfers_ShouldNotDeadlockOrLoseMoney() throws Exception {
+		UUID otherAccountId = accountRepository.save(account(12345678902L, AccountType.TL, 5000)).getId();
+		String forward = objectMapper.writeValueAsString(transferRequest(testAccountId, otherAccountId, 10));
+		String backward = objectMapper.writeValueAsString(transferRequest(otherAccountId, testAccountId, 10));
+
+		int transferCount = 60;
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < transferCount; i++) {
+				String content = i % 2 == 0 ? forward : backward;
+				futures.add(executor.submit(() -> {
+					mockMvc
+							.perform(post("/api/v1/transactions/transfer").contentType(MediaType.APPLICATION_JSON).content(content))
+							.andExpect(status().isCreated());
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		Assertions.assertEquals(0, BigDecimal.valueOf(5000).compareTo(accountRepository.findById(testAccountId).orElseThrow().getBalance()));
+		Assertions.assertEquals(0, BigDecimal.valueOf(5000).compareTo(accountRepository.findById(otherAccountId).orElseThrow().getBalance()));
+		Assertions.assertEquals(transferCount * 2, transactionRepository.count());
+	}
+
+	@Test
+	@Order(20)
+	void testGetTransactionsByAccountId_ShouldReturnBinary_WhenAccepted() throws Exception {
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(new BigDecimal("250.75"));
+
+		mockMvc
+				.perform(post("/api/v1/transactions/{accountId}/deposit", testAccountId)
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isCreated());
+
+		MvcResult binary = mockMvc
+				.perform(get("/api/v1/transactions/{accountId}", testAccountId).accept(TransactionBinaryCodec.MEDIA_TYPE))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(TransactionBinaryCodec.MEDIA_TYPE))
+				.andReturn();
+		MvcResult json = mockMvc
+				.perform(get("/api/v1/transactions/{accountId}", testAccountId))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+				.andReturn();
+
+		byte[] body = binary.getResponse().getContentAsByteArray();
+		List<?> transactions = (List<?>) TransactionBinaryCodec.read(new ByteArrayInputStream(body));
+		Assertions.assertEquals(1, transactions.size());
+		AccountTransactionDto transaction = (AccountTransactionDto) transactions.getFirst();
+		Assertions.assertEquals(testAccountId, transaction.getAccountId());
+		Assertions.assertEquals(TransactionType.DEPOSIT, transaction.getTransactionType());
+		Assertions.assertEquals(new BigDecimal("250.75"), transaction.getAmount());
+		Assertions.assertTrue(body.length < json.getResponse().getContentAsByteArray().length);
+	}
+
+	@Test
+	@Order(21)
+	void testGetTransactionsByAccountId_ShouldReturnNotModifiedUntilBalanceChanges() throws Exception {
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(BigDecimal.valueOf(100));
+
+		String eTag = mockMvc
+				.perform(get("/api/v1/transactions/{accountId}", testAccountId))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+				.andReturn()
+				.getResponse()
+				.getHeader(HttpHeaders.ETAG);
+		String binaryETag = mockMvc
+				.perform(get("/api/v1/transactions/{accountId}", testAccountId).accept(TransactionBinaryCodec.MEDIA_TYPE))
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse()
+				.getHeader(HttpHeaders.ETAG);
+		Assertions.assertNotEquals(eTag, binaryETag);
+
+		mockMvc
+				.perform(get("/api/v1/transactions/{accountId}", testAccountId).header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + eTag))
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""));
+		mockMvc
+				.perform(get("/api/v1/transactions/{accountId}", testAccountId)
+								 .accept(TransactionBinaryCodec.MEDIA_TYPE)
+								 .header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isOk());
+
+		mockMvc
+				.perform(post("/api/v1/transactions/{accountId}/deposit", testAccountId)
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isCreated());
+
+		mockMvc
+				.perform(get("/api/v1/transactions/{accountId}", testAccountId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+				.andExpect(jsonPath("$", hasSize(1)));
+
+		mockMvc
+				.perform(get("/api/v1/transactions/{accountId}", UUID.randomUUID()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	@Order(22)
+	void testAmounts_ShouldBeRejectedBeforeAnyItemIsApplied_WhenTheyHaveMoreThanTwoDecimals() throws Exception {
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(new BigDecimal("1.005"));
+		mockMvc
+				.perform(post("/api/v1/transactions/{accountId}/deposit", testAccountId)
+								 .contentType(MediaType.APPLICATION_JSON)
+								 .content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isBadRequest());
+
+		BatchTransactionItemDto fractional = batchItem(testAccountId, TransactionType.DEPOSIT, 0);
+		fractional.setAmount(new BigDecimal("1.005"));
+		BatchTransactionRequestDto batch = new BatchTransactionRequestDto();
+		batch.setItems(List.of(batchItem(testAccountId, TransactionType.DEPOSIT, 100), fractional));
+		mockMvc
+				.perform(post("/api/v1/transactions/batch").contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(batch)))
+				.andExpect(status().isBadRequest());
+
+		Assertions.assertEquals(0, BigDecimal.valueOf(5000).compareTo(accountRepository.findById(testAccountId).orElseThrow().getBalance()));
+		Assertions.assertEquals(0, transactionRepository.count());
+	}
+
+	private static Account account(long identityNo, AccountType accountType, long balance) {
+		Account account = new Account();
+		account.setFirstName("Transfer");
+		account.setLastName("User");
+		account.setBalance(BigDecimal.valueOf(balance));
+		account.setIdentityNo(BigDecimal.valueOf(identityNo));
+		account.setAccountType(accountType);
+		return account;
+	}
+
+	private static TransferRequestDto transferRequest(UUID fromAccountId, UUID toAccountId, long amount) {
+		TransferRequestDto request = new TransferRequestDto();
+		request.setFromAccountId(fromAccountId);
+		request.setToAccountId(toAccountId);
+		request.setAmount(BigDecimal.valueOf(amount));
+		return request;
+	}
+
+	private static BatchTransactionItemDto batchItem(UUID accountId, TransactionType transactionType, long amount) {
+		BatchTransactionItemDto item = new BatchTransactionItemDto();
+		item.setAccountId(accountId);
+		item.setTransactionType(transactionType);
+		item.setAmount(BigDecimal.valueOf(amount));
+		return item;
+	}
+}
@@ -0,0 +1,63 @@
+package com.banking.bankingsystem.common.money;
+
+import com.banking.bankingsystem.account.data.AccountType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+class MoneyTest {
+
+	@Test
+	void of_ShouldConvertToMinorUnits_WhenScaleIsAtMostTwo() {
+		assertEquals(1000, Money.of(BigDecimal.TEN, AccountType.TL).minorUnits());
+		assertEquals(1050, Money.of(new BigDecimal("10.5"), AccountType.TL).minorUnits());
+		assertEquals(1001, Money.of(new BigDecimal("10.010"), AccountType.TL).minorUnits());
+		assertEquals(-1, Money.of(new BigDecimal("-0.01"), AccountType.TL).minorUnits());
+		assertEquals(new BigDecimal("10.50"), Money.of(new BigDecimal("10.5"), AccountType.TL).toBigDecimal());
+	}
+
+	@Test
+	void of_ShouldThrowException_WhenAmountNeedsRoundingOrOverflows() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("10.005"), AccountType.TL));
+		assertEquals("Tutar en fazla 2 ondalık basamak içerebilir ve desteklenen aralıkta olmalıdır.", exception.getMessage());
+
+		assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("1E+17"), AccountType.TL));
+	}
+
+	@Test
+	void plus_ShouldThrowException_WhenResultOverflows() {
+		Money max = new Money(Long.MAX_VALUE, AccountType.TL);
+
+		assertThrows(ArithmeticException.class, () -> max.plus(new Money(1, AccountType.TL)));
+		assertThrows(ArithmeticException.class, () -> new Money(Long.MIN_VALUE, AccountType.TL).minus(new Money(1, AccountType.TL)));
+	}
+
+	@Test
+	void arithmetic_ShouldThrowException_WhenCurrenciesDiffer() {
+		Money lira = Money.of(BigDecimal.ONE, AccountType.TL);
+		Money dollar = Money.of(BigDecimal.ONE, AccountType.USD);
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> lira.plus(dollar));
+		assertEquals("Farklı para birimlerindeki tutarlar birlikte işlenemez.", exception.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> lira.compareTo(dollar));
+	}
+
+	@Test
+	void compareTo_ShouldOrderByMinorUnits() {
+		Money balance = Money.of(new BigDecimal("100.00"), AccountType.GBP);
+		Money amount = Money.of(new BigDecimal("100.01"), AccountType.GBP);
+
+		assertTrue(balance.isLessThan(amount));
+		assertTrue(amount.minus(balance).isGreaterThan(Money.zero(AccountType.GBP)));
+		assertTrue(balance.minus(amount).isNegative());
+		assertEquals(0, balance.compareTo(Money.of(BigDecimal.valueOf(100), AccountType.GBP)));
+	}
+}
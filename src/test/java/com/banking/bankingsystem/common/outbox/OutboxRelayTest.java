@@ -0,0 +1,185 @@
+package com.banking.bankingsystem.common.outbox;
+
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.dto.AccountDto;
+import com.banking.bankingsystem.account.dto.CreateAccountRequestDto;
+import com.banking.bankingsystem.account.dto.UpdateAccountRequestDto;
+import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.account.service.AccountService;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.banking.bankingsystem.transaction.dto.TransactionRequestDto;
+import com.banking.bankingsystem.transaction.repository.AccountTransactionRepository;
+import com.banking.bankingsystem.transaction.service.AccountTransactionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@SpringBootTest(properties = { "banking.outbox.enabled=true", "banking.outbox.publisher=memory", "banking.outbox.batch-size=4",
+		"banking.outbox.poll-interval=1h" })
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+	@Autowired
+	private OutboxRelay outboxRelay;
+
+	@MockitoSpyBean
+	private InMemoryOutboxPublisher publisher;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private AccountTransactionService accountTransactionService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private AccountTransactionRepository accountTransactionRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private UUID accountId;
+
+	@BeforeEach
+	void setUp() {
+		cleanUp();
+
+		CreateAccountRequestDto request = new CreateAccountRequestDto();
+		request.setFirstName("Outbox");
+		request.setLastName("User");
+		request.setIdentityNo(BigDecimal.valueOf(40000000000L));
+		request.setAccountType(AccountType.TL);
+		accountId = accountService.createAccount(request).getId();
+	}
+
+	@AfterEach
+	void tearDown() {
+		reset(publisher);
+		cleanUp();
+	}
+
+	@Test
+	void relay_ShouldPublishEventsInWriteOrderAndEmptyTheOutbox() {
+		List<UUID> transactionIds = new ArrayList<>();
+		for (int i = 1; i <= 9; i++) {
+			transactionIds.add(accountTransactionService.deposit(accountId, request(i)).getId());
+		}
+
+		outboxRelay.relay();
+
+		List<OutboxEvent> events = publisher.getEvents();
+		assertEquals(10, events.size());
+		assertEquals(OutboxEventType.ACCOUNT_CREATED, events.getFirst().eventType());
+		assertTrue(events.stream().allMatch(event -> accountId.equals(event.aggregateId())));
+		List<OutboxEvent> transactions = events.subList(1, events.size());
+		for (int i = 0; i < transactions.size(); i++) {
+			assertEquals(OutboxEventType.TRANSACTION_CREATED, transactions.get(i).eventType());
+			assertTrue(transactions.get(i).payload().contains(transactionIds.get(i).toString()));
+		}
+		assertEquals(0, outboxCount());
+	}
+
+	@Test
+	void relayBatch_ShouldKeepEvents_WhenPublisherFails() throws Exception {
+		accountTransactionService.deposit(accountId, request(10));
+		doThrow(new IllegalStateException("broker kapalı")).when(publisher).publish(any());
+
+		outboxRelay.relay();
+
+		assertEquals(2, outboxCount());
+		assertTrue(publisher.getEvents().isEmpty());
+
+		reset(publisher);
+		assertEquals(2, outboxRelay.relayBatch());
+		assertEquals(0, outboxCount());
+	}
+
+	@Test
+	void relayBatch_ShouldPublishEveryEventOnce_WhenRelaysRunConcurrently() throws Exception {
+		for (int i = 1; i <= 39; i++) {
+			accountTransactionService.deposit(accountId, request(i));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<CompletableFuture<Void>> relays = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				relays.add(CompletableFuture.runAsync(() -> {
+					while (outboxCount() > 0) {
+						outboxRelay.relayBatch();
+					}
+				}, executor));
+			}
+			CompletableFuture.allOf(relays.toArray(CompletableFuture[]::new)).get();
+		} finally {
+			executor.shutdownNow();
+		}
+
+		List<Long> ids = publisher.getEvents().stream().map(OutboxEvent::id).toList();
+		assertEquals(40, ids.size());
+		assertEquals(40, ids.stream().distinct().count());
+	}
+
+	@Test
+	void accountChanges_ShouldWriteAccountEvents() {
+		UpdateAccountRequestDto update = new UpdateAccountRequestDto();
+		update.setFirstName("Güncel");
+		update.setLastName("Kullanıcı");
+		AccountDto updated = accountService.updateAccount(accountId, update);
+		AccountTransactionDto transaction = accountTransactionService.deposit(accountId, request(5));
+		accountTransactionRepository.deleteById(transaction.getId());
+		accountService.deleteAccountById(accountId);
+
+		outboxRelay.relay();
+
+		List<OutboxEvent> events = publisher.getEvents();
+		assertEquals(List.of(OutboxEventType.ACCOUNT_CREATED, OutboxEventType.ACCOUNT_UPDATED, OutboxEventType.TRANSACTION_CREATED,
+							 OutboxEventType.ACCOUNT_DELETED), events.stream().map(OutboxEvent::eventType).toList());
+		assertTrue(events.get(1).payload().contains(updated.getFirstName()));
+		assertEquals(1L, updated.getVersion());
+		assertTrue(events.get(1).payload().contains("\"version\":1"), events.get(1).payload());
+	}
+
+	private static TransactionRequestDto request(long amount) {
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(BigDecimal.valueOf(amount));
+		return request;
+	}
+
+	private int outboxCount() {
+		return jdbcTemplate.queryForObject("select count(*) from outbox", Integer.class);
+	}
+
+	private void cleanUp() {
+		accountTransactionRepository.deleteAll();
+		accountRepository.deleteAll();
+		jdbcTemplate.update("delete from outbox");
+		publisher.clear();
+	}
+}
@@ -0,0 +1,69 @@
+package com.banking.bankingsystem.config;
+
+import com.banking.bankingsystem.account.data.Account;
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.dto.AccountDto;
+import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.account.service.AccountService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@ActiveProfiles("test")
+class VirtualThreadConfigTest {
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@AfterEach
+	void tearDown() {
+		accountRepository.deleteAll();
+	}
+
+	@Test
+	void accountCache_ShouldLoadAsynchronously_WhenVirtualThreadsEnabled() throws Exception {
+		final CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CacheConfig.ACCOUNTS);
+		assertNotNull(cache);
+		assertNotNull(cache.getAsyncCache());
+
+		final Account account = new Account();
+		account.setIdentityNo(BigDecimal.valueOf(30000000001L));
+		account.setFirstName("Virtual");
+		account.setLastName("Thread");
+		account.setAccountType(AccountType.TL);
+		final UUID accountId = accountRepository.save(account).getId();
+
+		final AccountDto[] results = new AccountDto[2];
+		final Thread thread = Thread.ofVirtual().start(() -> {
+			results[0] = accountService.getAccountById(accountId);
+			results[1] = accountService.getAccountById(accountId);
+		});
+		thread.join();
+
+		assertEquals(accountId, results[0].getId());
+		assertEquals(results[0], results[1]);
+		assertEquals(1, cache.getNativeCache().stats().hitCount());
+	}
+}
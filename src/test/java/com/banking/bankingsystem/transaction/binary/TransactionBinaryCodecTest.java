@@ -0,0 +1,126 @@
+package com.banking.bankingsystem.transaction.binary;
+
+import com.banking.bankingsystem.common.dto.CursorPageDto;
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+class TransactionBinaryCodecTest {
+
+	@Test
+	void write_ShouldRoundTripEveryField() throws IOException {
+		AccountTransactionDto transaction = transaction(new BigDecimal("1250.5"));
+
+		byte[] bytes = write(transaction);
+
+		assertEquals(2 + 1 + 16 + 16 + 12 + 1 + 8, bytes.length);
+		AccountTransactionDto read = (AccountTransactionDto) read(bytes);
+		assertEquals(transaction.getId(), read.getId());
+		assertEquals(transaction.getAccountId(), read.getAccountId());
+		assertEquals(transaction.getTransactionDate(), read.getTransactionDate());
+		assertEquals(TransactionType.WITHDRAW, read.getTransactionType());
+		assertEquals(new BigDecimal("1250.50"), read.getAmount());
+	}
+
+	@Test
+	void write_ShouldEncodeTransactionTypeWithFixedCode() throws IOException {
+		AccountTransactionDto transaction = new AccountTransactionDto();
+		transaction.setTransactionType(TransactionType.DEPOSIT);
+
+		byte[] bytes = write(transaction);
+
+		assertEquals('D', bytes[3]);
+		assertEquals(TransactionType.DEPOSIT, ((AccountTransactionDto) read(bytes)).getTransactionType());
+
+		bytes[3] = 2;
+		IOException exception = assertThrows(IOException.class, () -> read(bytes));
+		assertEquals("Bilinmeyen işlem türü kodu: 2", exception.getMessage());
+	}
+
+	@Test
+	void write_ShouldSkipNullFields() throws IOException {
+		AccountTransactionDto transaction = new AccountTransactionDto();
+		transaction.setAmount(BigDecimal.ONE);
+
+		byte[] bytes = write(transaction);
+
+		assertEquals(2 + 1 + 8, bytes.length);
+		AccountTransactionDto read = (AccountTransactionDto) read(bytes);
+		assertNull(read.getId());
+		assertNull(read.getTransactionDate());
+		assertEquals(new BigDecimal("1.00"), read.getAmount());
+	}
+
+	@Test
+	void write_ShouldKeepPageAndCursorMetadata() throws IOException {
+		List<AccountTransactionDto> content = List.of(transaction(BigDecimal.TEN), transaction(BigDecimal.ONE));
+
+		Page<?> page = (Page<?>) read(write(new PageImpl<>(content, PageRequest.of(3, 2), 42)));
+		assertEquals(3, page.getNumber());
+		assertEquals(2, page.getSize());
+		assertEquals(42, page.getTotalElements());
+		assertEquals(2, page.getContent().size());
+
+		Slice<?> slice = (Slice<?>) read(write(new SliceImpl<>(content, PageRequest.of(0, 2), true)));
+		assertFalse(slice instanceof Page);
+		assertTrue(slice.hasNext());
+
+		CursorPageDto<?> cursorPage = (CursorPageDto<?>) read(write(new CursorPageDto<>(content, "imleç")));
+		assertEquals("imleç", cursorPage.getNextCursor());
+		assertEquals(content.get(1).getId(), ((AccountTransactionDto) cursorPage.getContent().get(1)).getId());
+		assertNull(((CursorPageDto<?>) read(write(new CursorPageDto<>(List.of(), null)))).getNextCursor());
+
+		assertEquals(2, ((List<?>) read(write(content))).size());
+	}
+
+	@Test
+	void supports_ShouldOnlyAcceptTransactionContainers() {
+		assertTrue(TransactionBinaryCodec.supports(ResolvableType.forClassWithGenerics(List.class, AccountTransactionDto.class)));
+		assertTrue(TransactionBinaryCodec.supports(ResolvableType.forClassWithGenerics(Slice.class, AccountTransactionDto.class)));
+		assertTrue(TransactionBinaryCodec.supports(ResolvableType.forClassWithGenerics(CursorPageDto.class, AccountTransactionDto.class)));
+		assertFalse(TransactionBinaryCodec.supports(ResolvableType.forClassWithGenerics(List.class, String.class)));
+		assertFalse(TransactionBinaryCodec.supports(ResolvableType.forClass(String.class)));
+	}
+
+	private static AccountTransactionDto transaction(BigDecimal amount) {
+		AccountTransactionDto transaction = new AccountTransactionDto();
+		transaction.setId(UUID.randomUUID());
+		transaction.setAccountId(UUID.randomUUID());
+		transaction.setTransactionDate(LocalDateTime.of(2026, 10, 18, 9, 30, 15, 123_456_000));
+		transaction.setTransactionType(TransactionType.WITHDRAW);
+		transaction.setAmount(amount);
+		return transaction;
+	}
+
+	private static byte[] write(Object value) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		TransactionBinaryCodec.write(value, outputStream);
+		return outputStream.toByteArray();
+	}
+
+	private static Object read(byte[] bytes) throws IOException {
+		return TransactionBinaryCodec.read(new ByteArrayInputStream(bytes));
+	}
+}
@@ -0,0 +1,76 @@
+package com.banking.bankingsystem.transaction.idempotency;
+
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@SpringBootTest(properties = { "banking.idempotency.retention=1h", "banking.idempotency.purge-batch-size=2" })
+@ActiveProfiles("test")
+class IdempotencyStoreTest {
+
+	@Autowired
+	private IdempotencyStore idempotencyStore;
+
+	@Autowired
+	private IdempotencyKeyRepository idempotencyKeyRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@BeforeEach
+	@AfterEach
+	void cleanUp() {
+		idempotencyKeyRepository.deleteAll();
+	}
+
+	@Test
+	void claim_ShouldFailWithConcurrencyFailure_WhenKeyAlreadyExists() {
+		UUID accountId = UUID.randomUUID();
+		transactionTemplate.executeWithoutResult(status -> idempotencyStore.claim("claimed", accountId, TransactionType.DEPOSIT, BigDecimal.TEN));
+
+		assertThrows(ConcurrencyFailureException.class, () -> transactionTemplate.executeWithoutResult(
+				status -> idempotencyStore.claim("claimed", accountId, TransactionType.DEPOSIT, BigDecimal.TEN)));
+		assertEquals(1, idempotencyKeyRepository.count());
+	}
+
+	@Test
+	void purgeExpired_ShouldDeleteOnlyExpiredKeysInBatches() {
+		for (int i = 0; i < 5; i++) {
+			idempotencyKeyRepository.save(key("expired-" + i, LocalDateTime.now().minusHours(2)));
+		}
+		idempotencyKeyRepository.save(key("recent", LocalDateTime.now()));
+
+		assertEquals(5, idempotencyStore.purgeExpired());
+		assertEquals(1, idempotencyKeyRepository.count());
+		assertTrue(idempotencyKeyRepository.existsById("recent"));
+	}
+
+	private static IdempotencyKey key(String idempotencyKey, LocalDateTime createdAt) {
+		IdempotencyKey key = new IdempotencyKey();
+		key.setIdempotencyKey(idempotencyKey);
+		key.setAccountId(UUID.randomUUID());
+		key.setTransactionType(TransactionType.DEPOSIT);
+		key.setAmount(BigDecimal.TEN);
+		key.setTransactionId(UUID.randomUUID());
+		key.setCreatedAt(createdAt);
+		return key;
+	}
+}
@@ -0,0 +1,267 @@
+package com.banking.bankingsystem.transaction.ledger;
+
+import com.banking.bankingsystem.account.data.Account;
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.banking.bankingsystem.transaction.dto.BatchTransactionItemDto;
+import com.banking.bankingsystem.transaction.dto.BatchTransactionRequestDto;
+import com.banking.bankingsystem.transaction.dto.BatchTransactionResultDto;
+import com.banking.bankingsystem.transaction.dto.TransactionRequestDto;
+import com.banking.bankingsystem.transaction.repository.AccountTransactionRepository;
+import com.banking.bankingsystem.transaction.repository.DailyAccountSummaryRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@SpringBootTest(properties = { "banking.ledger.enabled=true", "banking.ledger.shards=2", "banking.ledger.batch-size=32" })
+@ActiveProfiles("test")
+class LedgerEngineTest {
+
+	@Autowired
+	private LedgerEngine ledgerEngine;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private AccountTransactionRepository accountTransactionRepository;
+
+	@Autowired
+	private DailyAccountSummaryRepository dailyAccountSummaryRepository;
+
+	private List<UUID> accountIds;
+
+	@BeforeEach
+	void setUp() {
+		accountTransactionRepository.deleteAll();
+		accountRepository.deleteAll();
+
+		accountIds = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			Account account = new Account();
+			account.setFirstName("Ledger");
+			account.setLastName("User " + i);
+			account.setBalance(BigDecimal.valueOf(1000));
+			account.setIdentityNo(BigDecimal.valueOf(10000000000L + i));
+			account.setAccountType(AccountType.TL);
+			accountIds.add(accountRepository.save(account).getId());
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		accountTransactionRepository.deleteAll();
+		accountRepository.deleteAll();
+	}
+
+	@Test
+	void concurrentDepositsAndWithdrawals_ShouldBeDurableAndConsistent() throws Exception {
+		int threads = 16;
+		int operationsPerThread = 50;
+		LongAdder netAmount = new LongAdder();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				int thread = t;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < operationsPerThread; i++) {
+						UUID accountId = accountIds.get((thread + i) % accountIds.size());
+						TransactionType type = i % 4 == 3 ? TransactionType.WITHDRAW : TransactionType.DEPOSIT;
+						AccountTransactionDto result = ledgerEngine.submit(accountId, type, BigDecimal.valueOf(5)).join();
+						assertEquals(accountId, result.getAccountId());
+						netAmount.add(type == TransactionType.DEPOSIT ? 5 : -5);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(threads * operationsPerThread, accountTransactionRepository.count());
+
+		BigDecimal expectedTotal = BigDecimal.valueOf(3 * 1000 + netAmount.sum());
+		BigDecimal actualTotal = accountRepository
+				.findAllById(accountIds)
+				.stream()
+				.map(Account::getBalance)
+				.reduce(BigDecimal.ZERO, BigDecimal::add);
+		assertEquals(0, expectedTotal.compareTo(actualTotal));
+
+		for (UUID accountId : accountIds) {
+			BigDecimal balance = accountRepository.findById(accountId).orElseThrow().getBalance();
+			BigDecimal fromHistory = accountTransactionRepository
+					.findByAccountId(accountId)
+					.stream()
+					.map(transaction -> transaction.getTransactionType() == TransactionType.DEPOSIT
+							? transaction.getAmount()
+							: transaction.getAmount().negate())
+					.reduce(BigDecimal.valueOf(1000), BigDecimal::add);
+			assertEquals(0, fromHistory.compareTo(balance));
+
+			BigDecimal fromSummary = dailyAccountSummaryRepository
+					.findByAccountIdAndSummaryDateBetweenOrderBySummaryDate(accountId, LocalDate.now().minusDays(1), LocalDate.now())
+					.stream()
+					.map(summary -> summary.getDepositTotal().subtract(summary.getWithdrawTotal()))
+					.reduce(BigDecimal.valueOf(1000), BigDecimal::add);
+			assertEquals(0, fromSummary.compareTo(balance));
+		}
+	}
+
+	@Test
+	void withdraw_ShouldBeRejectedWithoutTouchingDatabase_WhenBalanceIsInsufficient() {
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(BigDecimal.valueOf(1500));
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+														  () -> ledgerEngine.withdraw(accountIds.getFirst(), request));
+
+		assertEquals("Yetersiz bakiye", exception.getMessage());
+		assertEquals(0, accountTransactionRepository.count());
+		assertEquals(0, BigDecimal.valueOf(1000).compareTo(accountRepository.findById(accountIds.getFirst()).orElseThrow().getBalance()));
+	}
+
+	@Test
+	void submit_ShouldApplyOnce_WhenIdempotencyKeyIsRepeated() {
+		String idempotencyKey = UUID.randomUUID().toString();
+		UUID accountId = accountIds.getFirst();
+
+		List<CompletableFuture<AccountTransactionDto>> results = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			results.add(ledgerEngine.submit(accountId, TransactionType.DEPOSIT, BigDecimal.valueOf(100), idempotencyKey));
+		}
+
+		UUID transactionId = results.getFirst().join().getId();
+		results.forEach(result -> assertEquals(transactionId, result.join().getId()));
+
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(BigDecimal.valueOf(100));
+		request.setIdempotencyKey(idempotencyKey);
+		assertEquals(transactionId, ledgerEngine.deposit(accountId, request).getId());
+
+		assertEquals(1, accountTransactionRepository.count());
+		assertEquals(0, BigDecimal.valueOf(1100).compareTo(accountRepository.findById(accountId).orElseThrow().getBalance()));
+	}
+
+	@Test
+	void deposit_ShouldBeRejected_WhenAccountDoesNotExist() {
+		CompletableFuture<AccountTransactionDto> result = ledgerEngine.submit(UUID.randomUUID(), TransactionType.DEPOSIT, BigDecimal.TEN);
+
+		CompletionException exception = assertThrows(CompletionException.class, result::join);
+		assertInstanceOf(EntityNotFoundException.class, exception.getCause());
+	}
+
+	/**
+	 * Bakiyesi shard önbelleğinde bulunan hesap ledger dışında silinirse, aynı grup commit'indeki diğer hesapların komutları
+	 * etkilenmez; yalnızca silinen hesabın komutları reddedilir.
+	 */
+	@Test
+	void submit_ShouldRejectOnlyCommandsOfDeletedAccount_WhenGroupContainsOtherAccounts() {
+		UUID deleted = accountIds.getFirst();
+		UUID sameShard = null;
+		for (int i = 0; sameShard == null; i++) {
+			Account account = new Account();
+			account.setFirstName("Ledger");
+			account.setLastName("Neighbour " + i);
+			account.setBalance(BigDecimal.valueOf(1000));
+			account.setIdentityNo(BigDecimal.valueOf(10000000100L + i));
+			account.setAccountType(AccountType.TL);
+			UUID id = accountRepository.save(account).getId();
+			if (Math.floorMod(id.hashCode(), 2) == Math.floorMod(deleted.hashCode(), 2)) {
+				sameShard = id;
+			}
+		}
+
+		CompletableFuture<AccountTransactionDto> warmUp = ledgerEngine.submit(deleted, TransactionType.WITHDRAW, BigDecimal.valueOf(5000));
+		assertInstanceOf(IllegalArgumentException.class, assertThrows(CompletionException.class, warmUp::join).getCause());
+		accountRepository.deleteById(deleted);
+
+		List<CompletableFuture<AccountTransactionDto>> deletedResults = new ArrayList<>();
+		List<CompletableFuture<AccountTransactionDto>> otherResults = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			deletedResults.add(ledgerEngine.submit(deleted, TransactionType.DEPOSIT, BigDecimal.ONE));
+			otherResults.add(ledgerEngine.submit(sameShard, TransactionType.DEPOSIT, BigDecimal.ONE));
+		}
+
+		for (CompletableFuture<AccountTransactionDto> result : deletedResults) {
+			assertInstanceOf(EntityNotFoundException.class, assertThrows(CompletionException.class, result::join).getCause());
+		}
+		otherResults.forEach(CompletableFuture::join);
+		assertEquals(50, accountTransactionRepository.count());
+		assertEquals(0, BigDecimal.valueOf(1050).compareTo(accountRepository.findById(sameShard).orElseThrow().getBalance()));
+	}
+
+	@Test
+	void processBatch_ShouldReportRejectedItems() {
+		BatchTransactionItemDto deposit = new BatchTransactionItemDto();
+		deposit.setAccountId(accountIds.getFirst());
+		deposit.setTransactionType(TransactionType.DEPOSIT);
+		deposit.setAmount(BigDecimal.valueOf(250));
+
+		BatchTransactionItemDto overdraft = new BatchTransactionItemDto();
+		overdraft.setAccountId(accountIds.get(1));
+		overdraft.setTransactionType(TransactionType.WITHDRAW);
+		overdraft.setAmount(BigDecimal.valueOf(5000));
+
+		BatchTransactionRequestDto request = new BatchTransactionRequestDto();
+		request.setItems(List.of(deposit, overdraft));
+
+		List<BatchTransactionResultDto> results = ledgerEngine.processBatch(request);
+
+		assertTrue(results.get(0).isSuccessful());
+		assertFalse(results.get(1).isSuccessful());
+		assertEquals("Yetersiz bakiye", results.get(1).getMessage());
+		assertEquals(1, accountTransactionRepository.count());
+	}
+
+	@Test
+	void processBatch_ShouldRejectOnlyTheItem_WhenAmountHasMoreThanTwoDecimals() {
+		BatchTransactionItemDto deposit = new BatchTransactionItemDto();
+		deposit.setAccountId(accountIds.getFirst());
+		deposit.setTransactionType(TransactionType.DEPOSIT);
+		deposit.setAmount(BigDecimal.valueOf(250));
+
+		BatchTransactionItemDto fractional = new BatchTransactionItemDto();
+		fractional.setAccountId(accountIds.get(1));
+		fractional.setTransactionType(TransactionType.DEPOSIT);
+		fractional.setAmount(new BigDecimal("1.005"));
+
+		BatchTransactionRequestDto request = new BatchTransactionRequestDto();
+		request.setItems(List.of(fractional, deposit));
+
+		List<BatchTransactionResultDto> results = ledgerEngine.processBatch(request);
+
+		assertFalse(results.get(0).isSuccessful());
+		assertTrue(results.get(1).isSuccessful());
+		assertEquals(1, accountTransactionRepository.count());
+	}
+}
@@ -0,0 +1,295 @@
+package com.banking.bankingsystem.transaction.ledger;
+
+import com.banking.bankingsystem.account.data.Account;
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.transaction.data.AccountTransaction;
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.banking.bankingsystem.transaction.dto.TransferRequestDto;
+import com.banking.bankingsystem.transaction.repository.AccountTransactionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@SpringBootTest(properties = { "banking.ledger.enabled=true", "banking.ledger.shards=2", "banking.ledger.batch-size=32",
+		"banking.ledger.journal.enabled=true", "banking.ledger.journal.segment-size=64KB" })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LedgerJournalRecoveryTest {
+
+	private static final Path JOURNAL_DIRECTORY = createTempDirectory();
+
+	/**
+	 * Uygulamanın shard'larıyla çakışmayan, çöken başka bir sürecin günlüğünü temsil eden shard.
+	 */
+	private static final int CRASHED_SHARD = 7;
+
+	/**
+	 * Uygulanamayan kayıtlar içeren günlüğü temsil eden shard.
+	 */
+	private static final int REJECTING_SHARD = 8;
+
+	@Autowired
+	private LedgerEngine ledgerEngine;
+
+	@Autowired
+	private LedgerProperties ledgerProperties;
+
+	@Autowired
+	private LedgerBatchWriter batchWriter;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private AccountTransactionRepository accountTransactionRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private List<UUID> accountIds;
+
+	@DynamicPropertySource
+	static void journalProperties(DynamicPropertyRegistry registry) {
+		registry.add("banking.ledger.journal.directory", JOURNAL_DIRECTORY::toString);
+	}
+
+	@BeforeEach
+	void setUp() {
+		accountTransactionRepository.deleteAll();
+		accountRepository.deleteAll();
+		jdbcTemplate.update("delete from ledger_journal_checkpoint where shard in (?, ?)", CRASHED_SHARD, REJECTING_SHARD);
+		jdbcTemplate.update("delete from ledger_dead_letter");
+
+		accountIds = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			Account account = new Account();
+			account.setFirstName("Journal");
+			account.setLastName("User " + i);
+			account.setBalance(BigDecimal.valueOf(1000));
+			account.setIdentityNo(BigDecimal.valueOf(20000000000L + i));
+			account.setAccountType(AccountType.TL);
+			accountIds.add(accountRepository.save(account).getId());
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		accountTransactionRepository.deleteAll();
+		accountRepository.deleteAll();
+		jdbcTemplate.update("delete from idempotency_key where idempotency_key like 'crash-%'");
+	}
+
+	@Test
+	void submit_ShouldAckBeforeApplyAndEventuallyApplyEveryEntry() throws Exception {
+		List<CompletableFuture<AccountTransactionDto>> results = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			TransactionType type = i % 3 == 2 ? TransactionType.WITHDRAW : TransactionType.DEPOSIT;
+			results.add(ledgerEngine.submit(accountIds.get(i % accountIds.size()), type, BigDecimal.valueOf(5)));
+		}
+		List<UUID> acked = results.stream().map(CompletableFuture::join).map(AccountTransactionDto::getId).toList();
+
+		awaitApplied(acked.size());
+
+		assertEquals(acked.size(), accountTransactionRepository.findAllById(acked).size());
+		assertEquals(0, BigDecimal.valueOf(1500).compareTo(balanceOf(accountIds.get(0))));
+		assertEquals(0, BigDecimal.valueOf(1500).compareTo(balanceOf(accountIds.get(1))));
+		assertEquals(0, BigDecimal.valueOf(500).compareTo(balanceOf(accountIds.get(2))));
+	}
+
+	@Test
+	void recover_ShouldApplyEveryAckedEntryOnce_WhenWriterCrashedBeforeApplying() throws Exception {
+		int segmentSize = (int) ledgerProperties.getJournal().getSegmentSize().toBytes();
+		List<UUID> acked = LedgerJournalTest.CrashingWriter.run(JOURNAL_DIRECTORY, CRASHED_SHARD, segmentSize, 500, accountIds.toArray(UUID[]::new));
+		assertEquals(500, acked.size());
+		assertEquals(0, accountTransactionRepository.count());
+
+		try (LedgerJournal journal = new LedgerJournal(JOURNAL_DIRECTORY, CRASHED_SHARD, segmentSize)) {
+			new LedgerApplier(CRASHED_SHARD, ledgerProperties, journal, batchWriter).recover();
+		}
+		try (LedgerJournal journal = new LedgerJournal(JOURNAL_DIRECTORY, CRASHED_SHARD, segmentSize)) {
+			new LedgerApplier(CRASHED_SHARD, ledgerProperties, journal, batchWriter).recover();
+		}
+
+		List<AccountTransaction> applied = accountTransactionRepository.findAllById(acked);
+		assertEquals(acked.size(), applied.size());
+		assertEquals(acked.size(), accountTransactionRepository.count());
+		assertEquals(500, batchWriter.loadCheckpoint(CRASHED_SHARD));
+
+		BigDecimal total = accountIds.stream().map(this::balanceOf).reduce(BigDecimal.ZERO, BigDecimal::add);
+		assertEquals(0, new BigDecimal("3000").add(new BigDecimal("12.50").multiply(BigDecimal.valueOf(500))).compareTo(total));
+		assertEquals(250, jdbcTemplate.queryForObject("select count(*) from idempotency_key where idempotency_key like 'crash-%'", Integer.class));
+	}
+
+	@Test
+	void recover_ShouldDeadLetterEntriesThatCannotBeAppliedAndApplyTheRest() throws Exception {
+		UUID deleted = accountIds.get(2);
+		jdbcTemplate.update("insert into idempotency_key (idempotency_key, account_id, transaction_type, amount, created_at) values (?, ?, ?, ?, ?)",
+							"crash-used", accountIds.get(1), TransactionType.DEPOSIT.name(), BigDecimal.ONE, new Timestamp(System.currentTimeMillis()));
+		List<LedgerEntry> entries = List.of(entry(accountIds.get(0), null), entry(deleted, null), entry(accountIds.get(1), "crash-used"),
+											entry(accountIds.get(0), null));
+
+		int segmentSize = (int) ledgerProperties.getJournal().getSegmentSize().toBytes();
+		try (LedgerJournal journal = new LedgerJournal(JOURNAL_DIRECTORY, REJECTING_SHARD, segmentSize)) {
+			journal.open(0);
+			journal.append(entries);
+			journal.force();
+		}
+		accountRepository.deleteById(deleted);
+
+		try (LedgerJournal journal = new LedgerJournal(JOURNAL_DIRECTORY, REJECTING_SHARD, segmentSize)) {
+			new LedgerApplier(REJECTING_SHARD, ledgerProperties, journal, batchWriter).recover();
+		}
+
+		assertEquals(4, batchWriter.loadCheckpoint(REJECTING_SHARD));
+		assertEquals(2, accountTransactionRepository.findAllById(List.of(entries.get(0).id(), entries.get(3).id())).size());
+		assertEquals(2, accountTransactionRepository.count());
+		assertEquals(0, new BigDecimal("1025").compareTo(balanceOf(accountIds.get(0))));
+		assertEquals(0, BigDecimal.valueOf(1000).compareTo(balanceOf(accountIds.get(1))));
+		assertEquals(List.of(entries.get(1).id(), entries.get(2).id()),
+					 jdbcTemplate.queryForList("select transaction_id from ledger_dead_letter where shard = ? order by id", UUID.class, REJECTING_SHARD));
+		assertEquals(LedgerBatchWriter.ACCOUNT_NOT_FOUND,
+					 jdbcTemplate.queryForObject("select reason from ledger_dead_letter where transaction_id = ?", String.class, entries.get(1).id()));
+	}
+
+	/**
+	 * Uygulayıcı hesabın satır kilidinde beklerken hesabın yanıtlanmış kaydı veritabanında yoktur; silme reddedilir. Kayıt
+	 * uygulandıktan sonra silme shard üzerinden yapılır, sonraki komutlar hesabı bulamaz ve diğer hesaplar etkilenmez.
+	 */
+	@Test
+	void delete_ShouldBeRejectedWhileAccountHasUnappliedEntries() throws Exception {
+		UUID accountId = accountIds.get(0);
+		try (Connection connection = dataSource.getConnection()) {
+			connection.setAutoCommit(false);
+			try (PreparedStatement statement = connection.prepareStatement("select balance from account where id = ? for update")) {
+				statement.setObject(1, accountId);
+				statement.executeQuery().close();
+			}
+
+			ledgerEngine.submit(accountId, TransactionType.DEPOSIT, BigDecimal.TEN).join();
+
+			mockMvc.perform(delete("/api/v1/accounts/{id}", accountId)).andExpect(status().isConflict());
+			connection.rollback();
+		}
+
+		awaitApplied(1);
+		long deadline = System.currentTimeMillis() + 10_000;
+		int status;
+		do {
+			status = mockMvc.perform(delete("/api/v1/accounts/{id}", accountId)).andReturn().getResponse().getStatus();
+		} while (status == 409 && System.currentTimeMillis() < deadline);
+		assertEquals(204, status);
+		assertTrue(accountRepository.findById(accountId).isEmpty());
+
+		CompletionException exception = assertThrows(CompletionException.class,
+													 () -> ledgerEngine.submit(accountId, TransactionType.DEPOSIT, BigDecimal.TEN).join());
+		assertInstanceOf(EntityNotFoundException.class, exception.getCause());
+
+		UUID other = ledgerEngine.submit(accountIds.get(1), TransactionType.DEPOSIT, BigDecimal.TEN).join().getId();
+		awaitApplied(1);
+		assertTrue(accountTransactionRepository.findById(other).isPresent());
+	}
+
+	/**
+	 * Günlüğe yazılıp yanıtlanan ama henüz uygulanmamış çekimler veritabanındaki bakiyeye yansımaz. Transfer bu bakiyeyi
+	 * tüketebilseydi çekimlerin koşullu bakiye güncellemesi hiçbir zaman uygulanamazdı.
+	 */
+	@Test
+	void transfer_ShouldBeRejectedWithoutStarvingJournaledWithdrawals() throws Exception {
+		TransferRequestDto transfer = new TransferRequestDto();
+		transfer.setFromAccountId(accountIds.get(0));
+		transfer.setToAccountId(accountIds.get(1));
+		transfer.setAmount(BigDecimal.valueOf(500));
+		String body = objectMapper.writeValueAsString(transfer);
+
+		List<CompletableFuture<AccountTransactionDto>> results = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			results.add(ledgerEngine.submit(accountIds.get(0), TransactionType.WITHDRAW, BigDecimal.TEN));
+			if (i % 10 == 0) {
+				mockMvc.perform(post("/api/v1/transactions/transfer").contentType(MediaType.APPLICATION_JSON).content(body))
+						.andExpect(status().isNotImplemented());
+			}
+		}
+		List<UUID> acked = results.stream().map(CompletableFuture::join).map(AccountTransactionDto::getId).toList();
+
+		awaitApplied(acked.size());
+
+		assertEquals(acked.size(), accountTransactionRepository.findAllById(acked).size());
+		assertEquals(0, BigDecimal.ZERO.compareTo(balanceOf(accountIds.get(0))));
+		assertEquals(0, BigDecimal.valueOf(1000).compareTo(balanceOf(accountIds.get(1))));
+	}
+
+	private void awaitApplied(int count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (accountTransactionRepository.count() < count && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+	}
+
+	private static LedgerEntry entry(UUID accountId, String idempotencyKey) {
+		return new LedgerEntry(UUID.randomUUID(), accountId, TransactionType.DEPOSIT, new BigDecimal("12.50"),
+							   LocalDateTime.now().truncatedTo(ChronoUnit.MICROS), idempotencyKey);
+	}
+
+	private BigDecimal balanceOf(UUID accountId) {
+		return accountRepository.findById(accountId).orElseThrow().getBalance();
+	}
+
+	private static Path createTempDirectory() {
+		try {
+			return Files.createTempDirectory("ledger-journal");
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package com.banking.bankingsystem.transaction.ledger;
+
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+class LedgerJournalTest {
+
+	private static final int SEGMENT_SIZE = LedgerJournal.MAX_RECORD_BYTES * 8;
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	void open_ShouldReturnOnlyEntriesAfterCheckpoint() throws Exception {
+		List<LedgerEntry> entries = List.of(entry("first-key"), entry(null), entry(null));
+		try (LedgerJournal journal = new LedgerJournal(directory, 0, SEGMENT_SIZE)) {
+			assertTrue(journal.open(0).isEmpty());
+			assertEquals(3, journal.append(entries));
+			journal.force();
+		}
+
+		try (LedgerJournal journal = new LedgerJournal(directory, 0, SEGMENT_SIZE)) {
+			List<LedgerJournal.JournalRecord> records = journal.open(1);
+
+			assertEquals(2, records.size());
+			assertEquals(2, records.getFirst().sequence());
+			assertEquals(entries.get(1), records.getFirst().entry());
+			assertEquals(entries.get(2), records.getLast().entry());
+			assertEquals(4, journal.append(List.of(entry(null))));
+		}
+	}
+
+	@Test
+	void append_ShouldRollSegmentsAndReleaseAppliedOnes() throws Exception {
+		try (LedgerJournal journal = new LedgerJournal(directory, 0, SEGMENT_SIZE)) {
+			journal.open(0);
+			for (int i = 0; i < 60; i++) {
+				journal.append(List.of(entry("key-" + i)));
+			}
+			assertTrue(segmentCount() > 1);
+
+			journal.release(60);
+			assertEquals(1, segmentCount());
+		}
+
+		try (LedgerJournal journal = new LedgerJournal(directory, 0, SEGMENT_SIZE)) {
+			List<LedgerJournal.JournalRecord> records = journal.open(55);
+			assertEquals(List.of(56L, 57L, 58L, 59L, 60L), records.stream().map(LedgerJournal.JournalRecord::sequence).toList());
+		}
+	}
+
+	@Test
+	void open_ShouldDropTornTailAndContinueAfterLastValidRecord() throws Exception {
+		try (LedgerJournal journal = new LedgerJournal(directory, 0, SEGMENT_SIZE)) {
+			journal.open(0);
+			journal.append(List.of(entry(null), entry(null), entry(null)));
+		}
+
+		Path segment = singleSegment();
+		try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+			// Anahtarsız kayıtlar 72 bayttır; üçüncü kaydın verisinin bir kısmı diske ulaşmamış gibi bozulur.
+			file.seek(2 * 72 + 16);
+			file.write(new byte[] { 1, 2, 3, 4 });
+		}
+
+		LedgerEntry appended = entry(null);
+		try (LedgerJournal journal = new LedgerJournal(directory, 0, SEGMENT_SIZE)) {
+			assertEquals(2, journal.open(0).size());
+			assertEquals(3, journal.append(List.of(appended)));
+		}
+
+		try (LedgerJournal journal = new LedgerJournal(directory, 0, SEGMENT_SIZE)) {
+			List<LedgerJournal.JournalRecord> records = journal.open(0);
+			assertEquals(3, records.size());
+			assertEquals(appended, records.getLast().entry());
+		}
+	}
+
+	@Test
+	void open_ShouldReturnEveryAckedEntry_WhenWriterProcessIsKilled() throws Exception {
+		List<UUID> acked = CrashingWriter.run(directory, 0, SEGMENT_SIZE, 200, UUID.randomUUID());
+		assertEquals(200, acked.size());
+
+		try (LedgerJournal journal = new LedgerJournal(directory, 0, SEGMENT_SIZE)) {
+			List<UUID> recovered = journal.open(0).stream().map(record -> record.entry().id()).toList();
+			assertTrue(recovered.containsAll(acked));
+		}
+	}
+
+	private long segmentCount() throws Exception {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.count();
+		}
+	}
+
+	private Path singleSegment() throws Exception {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.findFirst().orElseThrow();
+		}
+	}
+
+	private static LedgerEntry entry(String idempotencyKey) {
+		return entry(UUID.randomUUID(), idempotencyKey);
+	}
+
+	private static LedgerEntry entry(UUID accountId, String idempotencyKey) {
+		return new LedgerEntry(UUID.randomUUID(), accountId, TransactionType.DEPOSIT, new BigDecimal("12.50"),
+							   LocalDateTime.now().truncatedTo(ChronoUnit.MICROS), idempotencyKey);
+	}
+
+	/**
+	 * Ayrı bir JVM'de hesaplara sırayla 12,50 yatıran kayıtlar ekleyip her zorlamadan sonra yanıtlayan, ardından günlüğü
+	 * kapatmadan sonlanan yazıcı.
+	 */
+	static class CrashingWriter {
+
+		private static final int EXIT_CODE = 137;
+
+		/**
+		 * Yazıcıyı başlatır, sonlanmasını bekler ve yanıtladığı hareketlerin id'lerini döner.
+		 */
+		static List<UUID> run(Path directory, int shard, int segmentSize, int count, UUID... accountIds) throws Exception {
+			List<String> command = new ArrayList<>(List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(), "-cp",
+														   System.getProperty("java.class.path"), CrashingWriter.class.getName(), directory.toString(),
+														   String.valueOf(shard), String.valueOf(segmentSize), String.valueOf(count)));
+			Stream.of(accountIds).map(UUID::toString).forEach(command::add);
+			Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+
+			List<UUID> acked = new ArrayList<>();
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+				for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+					if (line.startsWith("ACK ")) {
+						acked.add(UUID.fromString(line.substring(4)));
+					}
+				}
+			}
+			assertEquals(EXIT_CODE, process.waitFor());
+			return acked;
+		}
+
+		public static void main(String[] args) throws Exception {
+			LedgerJournal journal = new LedgerJournal(Path.of(args[0]), Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+			journal.open(0);
+			int count = Integer.parseInt(args[3]);
+			for (int i = 0; i < count; i++) {
+				LedgerEntry entry = entry(UUID.fromString(args[4 + i % (args.length - 4)]), i % 2 == 0 ? "crash-" + UUID.randomUUID() : null);
+				journal.append(List.of(entry));
+				journal.force();
+				System.out.println("ACK " + entry.id());
+			}
+			System.out.flush();
+			Runtime.getRuntime().halt(EXIT_CODE);
+		}
+	}
+}
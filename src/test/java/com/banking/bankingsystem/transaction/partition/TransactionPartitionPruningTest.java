@@ -0,0 +1,258 @@
+package com.banking.bankingsystem.transaction.partition;
+
+import com.banking.bankingsystem.transaction.dto.AccountTransactionSearchRequest;
+import com.banking.bankingsystem.transaction.service.AccountTransactionService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Partition budamasını gerçek bir PostgreSQL üzerinde, {@link AccountTransactionService#searchTransactions}'ın Hibernate ile
+ * ürettiği SQL ve bağladığı parametrelerle doğrular. {@code PARTITION_TEST_DB_URL} tanımlıysa o veritabanı kullanılır, örneğin:
+ * {@code PARTITION_TEST_DB_URL=jdbc:postgresql://localhost:5432/banking_partition_test mvn test}. Tanımlı değilse Docker varsa
+ * Testcontainers ile bir PostgreSQL başlatılır; ikisi de yoksa test atlanır.
+ *
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@SpringBootTest
+@EnabledIf("isPostgresAvailable")
+class TransactionPartitionPruningTest {
+
+	private static PostgreSQLContainer<?> postgres;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionPartitionMaintainer transactionPartitionMaintainer;
+
+	@Autowired
+	private AccountTransactionService accountTransactionService;
+
+	@Autowired
+	private RecordingDataSource recordingDataSource;
+
+	static boolean isPostgresAvailable() {
+		return Objects.nonNull(System.getenv("PARTITION_TEST_DB_URL")) || DockerClientFactory.instance().isDockerAvailable();
+	}
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		final String url = System.getenv("PARTITION_TEST_DB_URL");
+		if (Objects.nonNull(url)) {
+			registry.add("spring.datasource.url", () -> url);
+			registry.add("spring.datasource.username", () -> System.getenv().getOrDefault("PARTITION_TEST_DB_USERNAME", "postgres"));
+			registry.add("spring.datasource.password", () -> System.getenv().getOrDefault("PARTITION_TEST_DB_PASSWORD", "postgres"));
+			return;
+		}
+
+		postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+		postgres.start();
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+	}
+
+	@AfterAll
+	static void stopContainer() {
+		if (Objects.nonNull(postgres)) {
+			postgres.stop();
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		transactionPartitionMaintainer.createUpcomingPartitions();
+	}
+
+	@Test
+	void migration_ShouldPartitionAccountTransactionByMonth() {
+		for (YearMonth month : TransactionPartitionMaintainer.upcomingMonths(YearMonth.now(), 3)) {
+			assertEquals(1, jdbcTemplate.queryForObject("select count(*) from pg_inherits where inhrelid = to_regclass(?)", Integer.class,
+														TransactionPartitionMaintainer.partitionName(month)));
+		}
+	}
+
+	@Test
+	void searchTransactions_ShouldScanOnlyPartitionsInDateRange() {
+		final YearMonth month = YearMonth.now();
+		final AccountTransactionSearchRequest request = new AccountTransactionSearchRequest();
+		request.setAccountId(UUID.randomUUID());
+		request.setFromDate(month.atDay(1).atStartOfDay());
+		request.setToDate(month.atEndOfMonth().atTime(23, 59, 59));
+
+		final List<String> plans = explainSearch(request);
+
+		assertFalse(plans.isEmpty());
+		for (String plan : plans) {
+			assertTrue(plan.contains(TransactionPartitionMaintainer.partitionName(month)), plan);
+			assertFalse(plan.contains(TransactionPartitionMaintainer.partitionName(month.plusMonths(1))), plan);
+			assertFalse(plan.contains(TransactionPartitionMaintainer.partitionName(month.minusMonths(1))), plan);
+			assertFalse(plan.contains("account_transaction_default"), plan);
+		}
+	}
+
+	@Test
+	void searchTransactions_ShouldScanAllPartitions_WhenDateRangeIsMissing() {
+		final AccountTransactionSearchRequest request = new AccountTransactionSearchRequest();
+		request.setAccountId(UUID.randomUUID());
+
+		final List<String> plans = explainSearch(request);
+
+		assertFalse(plans.isEmpty());
+		for (String plan : plans) {
+			assertTrue(plan.contains("account_transaction_default"), plan);
+		}
+	}
+
+	/**
+	 * Aramayı çalıştırır ve account_transaction'a giden her ifadeyi aynı parametrelerle EXPLAIN eder.
+	 */
+	private List<String> explainSearch(AccountTransactionSearchRequest request) {
+		final List<RecordedStatement> statements = recordingDataSource.record(() -> accountTransactionService.searchTransactions(request));
+
+		final List<String> plans = new ArrayList<>();
+		for (RecordedStatement statement : statements) {
+			if (statement.sql().contains("account_transaction")) {
+				plans.add(jdbcTemplate.execute((ConnectionCallback<String>) connection -> statement.explain(connection)));
+			}
+		}
+		return plans;
+	}
+
+	@TestConfiguration
+	static class RecordingConfig {
+
+		@Bean
+		static BeanPostProcessor recordingDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean instanceof DataSource dataSource && !(bean instanceof RecordingDataSource) ? new RecordingDataSource(dataSource) : bean;
+				}
+			};
+		}
+	}
+
+	/**
+	 * Kayıt açıkken hazırlanan ifadelerin SQL'ini ve parametre atamalarını saklar.
+	 */
+	static class RecordingDataSource extends DelegatingDataSource {
+
+		private final List<RecordedStatement> recorded = new CopyOnWriteArrayList<>();
+
+		private volatile boolean recording;
+
+		RecordingDataSource(DataSource targetDataSource) {
+			super(targetDataSource);
+		}
+
+		List<RecordedStatement> record(Runnable action) {
+			recorded.clear();
+			recording = true;
+			try {
+				action.run();
+			} finally {
+				recording = false;
+			}
+			return List.copyOf(recorded);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return wrap(super.getConnection());
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return wrap(super.getConnection(username, password));
+		}
+
+		private Connection wrap(Connection connection) {
+			return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+				final Object result = invoke(connection, method, args);
+				if (recording && result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+					final RecordedStatement recordedStatement = new RecordedStatement((String) args[0], new ArrayList<>());
+					recorded.add(recordedStatement);
+					return wrap(statement, recordedStatement);
+				}
+				return result;
+			});
+		}
+
+		private static PreparedStatement wrap(PreparedStatement statement, RecordedStatement recordedStatement) {
+			return (PreparedStatement) Proxy.newProxyInstance(RecordingDataSource.class.getClassLoader(), new Class<?>[] { PreparedStatement.class },
+															  (proxy, method, args) -> {
+																  if (method.getName().startsWith("set") && Objects.nonNull(args)
+																		  && args.length > 1 && args[0] instanceof Integer) {
+																	  recordedStatement.parameters().add(new Parameter(method, args));
+																  }
+																  return invoke(statement, method, args);
+															  });
+		}
+
+		private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+
+	record Parameter(Method setter, Object[] args) {
+	}
+
+	record RecordedStatement(String sql, List<Parameter> parameters) {
+
+		String explain(Connection connection) throws SQLException {
+			try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+				for (Parameter parameter : parameters) {
+					parameter.setter().invoke(statement, parameter.args());
+				}
+				final List<String> lines = new ArrayList<>();
+				try (ResultSet resultSet = statement.executeQuery()) {
+					while (resultSet.next()) {
+						lines.add(resultSet.getString(1));
+					}
+				}
+				return String.join("\n", lines);
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
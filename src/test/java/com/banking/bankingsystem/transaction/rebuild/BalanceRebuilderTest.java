@@ -0,0 +1,190 @@
+package com.banking.bankingsystem.transaction.rebuild;
+
+import com.banking.bankingsystem.account.data.Account;
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.transaction.dto.BalanceMismatchDto;
+import com.banking.bankingsystem.transaction.dto.BalanceRebuildReportDto;
+import com.banking.bankingsystem.transaction.dto.BalanceSnapshotDto;
+import com.banking.bankingsystem.transaction.dto.TransactionRequestDto;
+import com.banking.bankingsystem.transaction.repository.AccountTransactionRepository;
+import com.banking.bankingsystem.transaction.service.AccountTransactionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@SpringBootTest(properties = { "banking.rebuild.chunk-size=2", "banking.rebuild.parallelism=4", "banking.rebuild.snapshot-lag=0s" })
+@ActiveProfiles("test")
+class BalanceRebuilderTest {
+
+	@Autowired
+	private BalanceSnapshotter balanceSnapshotter;
+
+	@Autowired
+	private BalanceRebuilder balanceRebuilder;
+
+	@Autowired
+	private AccountTransactionService accountTransactionService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private AccountTransactionRepository accountTransactionRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private List<UUID> accountIds;
+
+	@BeforeEach
+	void setUp() {
+		cleanUp();
+
+		accountIds = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			Account account = new Account();
+			account.setFirstName("Audit");
+			account.setLastName("User " + i);
+			account.setIdentityNo(BigDecimal.valueOf(30000000000L + i));
+			account.setAccountType(AccountType.TL);
+			accountIds.add(accountRepository.save(account).getId());
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		cleanUp();
+	}
+
+	@Test
+	void rebuild_ShouldReplayWholeHistory_WhenNoSnapshotExists() {
+		deposit(accountIds.get(0), 100);
+		deposit(accountIds.get(1), 250);
+		withdraw(accountIds.get(1), 50);
+
+		BalanceRebuildReportDto report = balanceRebuilder.rebuild();
+
+		assertNull(report.getHighWaterMark());
+		assertEquals(7, report.getCheckedAccounts());
+		assertEquals(0, report.getMismatchCount());
+		assertTrue(report.getMismatches().isEmpty());
+	}
+
+	@Test
+	void rebuild_ShouldCheckEveryAccountOnce_WhenAccountCountIsMultipleOfChunkSize() {
+		Account account = new Account();
+		account.setFirstName("Audit");
+		account.setLastName("User 7");
+		account.setIdentityNo(BigDecimal.valueOf(30000000007L));
+		account.setAccountType(AccountType.TL);
+		accountRepository.save(account);
+		deposit(accountIds.getLast(), 100);
+
+		BalanceRebuildReportDto report = balanceRebuilder.rebuild();
+
+		assertEquals(8, report.getCheckedAccounts());
+		assertEquals(0, report.getMismatchCount());
+	}
+
+	@Test
+	void rebuild_ShouldReportMismatches_WhenBalanceDiffersFromSnapshotPlusReplay() {
+		for (int i = 0; i < accountIds.size(); i++) {
+			deposit(accountIds.get(i), 100 + i);
+		}
+
+		BalanceSnapshotDto snapshot = balanceSnapshotter.takeSnapshot();
+		assertEquals(7, snapshot.getUpdatedAccounts());
+
+		deposit(accountIds.get(2), 40);
+		withdraw(accountIds.get(5), 30);
+		jdbcTemplate.update("update account set balance = balance + 15 where id = ?", accountIds.get(5));
+
+		BalanceRebuildReportDto report = balanceRebuilder.rebuild();
+
+		assertEquals(snapshot.getHighWaterMark(), report.getHighWaterMark());
+		assertEquals(7, report.getCheckedAccounts());
+		assertEquals(1, report.getMismatchCount());
+		BalanceMismatchDto mismatch = report.getMismatches().getFirst();
+		assertEquals(accountIds.get(5), mismatch.getAccountId());
+		assertEquals(0, BigDecimal.valueOf(90).compareTo(mismatch.getBalance()));
+		assertEquals(0, BigDecimal.valueOf(75).compareTo(mismatch.getRebuiltBalance()));
+		assertEquals(0, BigDecimal.valueOf(15).compareTo(mismatch.getDifference()));
+	}
+
+	@Test
+	void takeSnapshot_ShouldOnlyAddTransactionsAfterPreviousHighWaterMark() {
+		deposit(accountIds.getFirst(), 100);
+		balanceSnapshotter.takeSnapshot();
+
+		deposit(accountIds.getFirst(), 20);
+		deposit(accountIds.get(1), 5);
+		BalanceSnapshotDto snapshot = balanceSnapshotter.takeSnapshot();
+
+		assertEquals(2, snapshot.getUpdatedAccounts());
+		assertEquals(0, BigDecimal.valueOf(120).compareTo(snapshotBalance(accountIds.getFirst())));
+		assertEquals(0, BigDecimal.valueOf(5).compareTo(snapshotBalance(accountIds.get(1))));
+		assertEquals(0, balanceRebuilder.rebuild().getMismatchCount());
+	}
+
+	@Test
+	void takeSnapshot_ShouldAddBackdatedTransactionsRecordedAfterPreviousHighWaterMark() {
+		deposit(accountIds.getFirst(), 100);
+		balanceSnapshotter.takeSnapshot();
+
+		jdbcTemplate.update("insert into account_transaction (id, account_id, transaction_date, transaction_type, amount) values (?, ?, ?, 'DEPOSIT', 30)",
+							UUID.randomUUID(), accountIds.getFirst(), Timestamp.valueOf(LocalDateTime.now().minusDays(1)));
+		jdbcTemplate.update("update account set balance = balance + 30 where id = ?", accountIds.getFirst());
+		assertEquals(0, balanceRebuilder.rebuild().getMismatchCount());
+
+		BalanceSnapshotDto snapshot = balanceSnapshotter.takeSnapshot();
+
+		assertEquals(1, snapshot.getUpdatedAccounts());
+		assertEquals(0, BigDecimal.valueOf(130).compareTo(snapshotBalance(accountIds.getFirst())));
+		assertEquals(0, balanceRebuilder.rebuild().getMismatchCount());
+	}
+
+	private void deposit(UUID accountId, long amount) {
+		accountTransactionService.deposit(accountId, request(amount));
+	}
+
+	private void withdraw(UUID accountId, long amount) {
+		accountTransactionService.withdraw(accountId, request(amount));
+	}
+
+	private static TransactionRequestDto request(long amount) {
+		TransactionRequestDto request = new TransactionRequestDto();
+		request.setAmount(BigDecimal.valueOf(amount));
+		return request;
+	}
+
+	private BigDecimal snapshotBalance(UUID accountId) {
+		return jdbcTemplate.queryForObject("select balance from account_balance_snapshot where account_id = ?", BigDecimal.class, accountId);
+	}
+
+	private void cleanUp() {
+		accountTransactionRepository.deleteAll();
+		accountRepository.deleteAll();
+		jdbcTemplate.update("delete from account_balance_snapshot");
+		jdbcTemplate.update("delete from account_balance_snapshot_mark");
+	}
+}
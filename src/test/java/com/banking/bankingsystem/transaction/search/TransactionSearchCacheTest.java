@@ -0,0 +1,163 @@
+package com.banking.bankingsystem.transaction.search;
+
+import com.banking.bankingsystem.account.event.AccountBalanceChangedEvent;
+import com.banking.bankingsystem.account.event.AccountChangedEvent;
+import com.banking.bankingsystem.common.dto.CursorPageDto;
+import com.banking.bankingsystem.transaction.data.TransactionType;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
+import com.banking.bankingsystem.transaction.dto.AccountTransactionSearchRequest;
+import com.banking.bankingsystem.transaction.service.AccountTransactionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.SliceImpl;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@ExtendWith(MockitoExtension.class)
+class TransactionSearchCacheTest {
+
+	@Mock
+	private AccountTransactionService accountTransactionService;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private final TransactionSearchCacheProperties properties = new TransactionSearchCacheProperties();
+
+	private TransactionSearchCache transactionSearchCache;
+
+	private final UUID accountId = UUID.randomUUID();
+
+	private final UUID otherAccountId = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		transactionSearchCache = new TransactionSearchCache(accountTransactionService, properties, meterRegistry);
+	}
+
+	@Test
+	void search_ShouldReuseResult_WhenRequestIsEquivalent() {
+		when(accountTransactionService.searchTransactions(any())).thenReturn(new PageImpl<>(List.of(new AccountTransactionDto())));
+
+		transactionSearchCache.search(request(accountId, new BigDecimal("100")));
+		transactionSearchCache.search(request(accountId, new BigDecimal("100.00")));
+
+		verify(accountTransactionService, times(1)).searchTransactions(any());
+		assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", TransactionSearchCache.ACCOUNT_CACHE).tag("result", "hit").functionCounter().count());
+		assertEquals(0.5, meterRegistry.get("cache.hit.ratio").tag("cache", TransactionSearchCache.ACCOUNT_CACHE).gauge().value());
+	}
+
+	@Test
+	void search_ShouldKeepPageSliceAndCursorResultsApart() {
+		AccountTransactionSearchRequest request = request(accountId, BigDecimal.TEN);
+		when(accountTransactionService.searchTransactions(request)).thenReturn(new PageImpl<>(List.of()));
+		when(accountTransactionService.searchTransactionsByCursor(request)).thenReturn(new CursorPageDto<>(List.of(), null));
+
+		transactionSearchCache.search(request);
+		transactionSearchCache.searchByCursor(request);
+		request.setWithTotalCount(false);
+		when(accountTransactionService.searchTransactionSlice(request)).thenReturn(new SliceImpl<>(List.of()));
+		transactionSearchCache.search(request);
+
+		verify(accountTransactionService).searchTransactions(request);
+		verify(accountTransactionService).searchTransactionsByCursor(request);
+		verify(accountTransactionService).searchTransactionSlice(request);
+	}
+
+	@Test
+	void onBalanceChanged_ShouldOnlyInvalidateThatAccountsResults() {
+		when(accountTransactionService.searchTransactions(any())).thenReturn(new PageImpl<>(List.of()));
+		AccountTransactionSearchRequest request = request(accountId, BigDecimal.TEN);
+		AccountTransactionSearchRequest otherRequest = request(otherAccountId, BigDecimal.TEN);
+		transactionSearchCache.search(request);
+		transactionSearchCache.search(otherRequest);
+
+		transactionSearchCache.onBalanceChanged(new AccountBalanceChangedEvent(accountId));
+		transactionSearchCache.search(request);
+		transactionSearchCache.search(otherRequest);
+
+		verify(accountTransactionService, times(2)).searchTransactions(request);
+		verify(accountTransactionService, times(1)).searchTransactions(otherRequest);
+	}
+
+	@Test
+	void onAccountChanged_ShouldInvalidateDeletedAccountsResults() {
+		when(accountTransactionService.searchTransactions(any())).thenReturn(new PageImpl<>(List.of()));
+		AccountTransactionSearchRequest request = request(accountId, BigDecimal.TEN);
+		transactionSearchCache.search(request);
+
+		transactionSearchCache.onAccountChanged(new AccountChangedEvent(accountId));
+		transactionSearchCache.search(request);
+
+		verify(accountTransactionService, times(2)).searchTransactions(request);
+	}
+
+	@Test
+	void search_ShouldNotCacheFailure_AndRethrowOriginalException() {
+		AccountTransactionSearchRequest request = request(accountId, BigDecimal.TEN);
+		when(accountTransactionService.searchTransactions(request)).thenThrow(new IllegalArgumentException("geçersiz"))
+				.thenReturn(new PageImpl<>(List.of()));
+
+		assertThrows(IllegalArgumentException.class, () -> transactionSearchCache.search(request));
+		transactionSearchCache.search(request);
+		transactionSearchCache.search(request);
+
+		verify(accountTransactionService, times(2)).searchTransactions(request);
+	}
+
+	@Test
+	void search_ShouldUseGlobalCacheAndTtl_WhenAccountIdIsMissing() {
+		properties.setGlobalTtl(Duration.ZERO);
+		setUp();
+		when(accountTransactionService.searchTransactions(any())).thenReturn(new PageImpl<>(List.of()));
+		AccountTransactionSearchRequest request = request(null, BigDecimal.TEN);
+
+		transactionSearchCache.search(request);
+		transactionSearchCache.search(request);
+		transactionSearchCache.onBalanceChanged(new AccountBalanceChangedEvent(accountId));
+
+		verify(accountTransactionService, times(2)).searchTransactions(request);
+		assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", TransactionSearchCache.GLOBAL_CACHE).tag("result", "miss").functionCounter().count());
+	}
+
+	@Test
+	void search_ShouldCallServiceEveryTime_WhenDisabled() {
+		properties.setEnabled(false);
+		when(accountTransactionService.searchTransactions(any())).thenReturn(new PageImpl<>(List.of()));
+		AccountTransactionSearchRequest request = request(accountId, BigDecimal.TEN);
+
+		transactionSearchCache.search(request);
+		transactionSearchCache.search(request);
+
+		verify(accountTransactionService, times(2)).searchTransactions(request);
+	}
+
+	private static AccountTransactionSearchRequest request(UUID accountId, BigDecimal minAmount) {
+		AccountTransactionSearchRequest request = new AccountTransactionSearchRequest();
+		request.setAccountId(accountId);
+		request.setFromDate(LocalDateTime.of(2026, 9, 18, 0, 0));
+		request.setToDate(LocalDateTime.of(2026, 10, 18, 0, 0));
+		request.setTransactionType(TransactionType.WITHDRAW);
+		request.setMinAmount(minAmount);
+		return request;
+	}
+}
@@ -1,21 +1,40 @@
 package com.banking.bankingsystem.transaction.service;
 
 import com.banking.bankingsystem.account.data.Account;
+import com.banking.bankingsystem.account.data.AccountType;
+import com.banking.bankingsystem.account.event.AccountBalanceChangedEvent;
 import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.common.dto.CursorPageDto;
+import com.banking.bankingsystem.common.metrics.OperationMetrics;
+import com.banking.bankingsystem.common.money.Money;
+import com.banking.bankingsystem.common.outbox.OutboxEventType;
+import com.banking.bankingsystem.common.outbox.OutboxWriter;
 import com.banking.bankingsystem.transaction.data.AccountTransaction;
 import com.banking.bankingsystem.transaction.data.TransactionType;
 import com.banking.bankingsystem.transaction.dto.AccountTransactionDto;
 import com.banking.bankingsystem.transaction.dto.AccountTransactionSearchRequest;
+import com.banking.bankingsystem.transaction.dto.BatchTransactionItemDto;
+import com.banking.bankingsystem.transaction.dto.BatchTransactionRequestDto;
+import com.banking.bankingsystem.transaction.dto.BatchTransactionResultDto;
 import com.banking.bankingsystem.transaction.dto.TransactionRequestDto;
+import com.banking.bankingsystem.transaction.dto.TransferRequestDto;
+import com.banking.bankingsystem.transaction.dto.TransferResultDto;
+import com.banking.bankingsystem.transaction.idempotency.IdempotencyKey;
+import com.banking.bankingsystem.transaction.idempotency.IdempotencyStore;
 import com.banking.bankingsystem.transaction.repository.AccountTransactionRepository;
+import com.banking.bankingsystem.transaction.summary.DailyAccountSummaryWriter;
 import com.querydsl.core.BooleanBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 import java.math.BigDecimal;
@@ -26,6 +45,8 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -43,6 +64,23 @@ class AccountTransactionServiceTest {
 	@Mock
 	private AccountRepository accountRepository;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private IdempotencyStore idempotencyStore;
+
+	@Mock
+	private DailyAccountSummaryWriter dailyAccountSummaryWriter;
+
+	@Mock
+	private OutboxWriter outboxWriter;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Spy
+	private OperationMetrics operationMetrics = new OperationMetrics(meterRegistry);
+
 	@InjectMocks
 	private AccountTransactionService accountTransactionService;
 
@@ -60,6 +98,7 @@ class AccountTransactionServiceTest {
 		account = new Account();
 		account.setId(accountId);
 		account.setBalance(BigDecimal.valueOf(5000));
+		account.setAccountType(AccountType.TL);
 
 		transactionRequestDto = new TransactionRequestDto();
 		transactionRequestDto.setAmount(BigDecimal.valueOf(1000));
@@ -74,57 +113,104 @@ class AccountTransactionServiceTest {
 
 	@Test
 	void deposit_ShouldIncreaseBalance_WhenValidDataProvided() {
-		when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
-		when(accountTransactionRepository.save(any())).thenReturn(new AccountTransaction());
+		when(accountRepository.applyTransaction(argThat(transaction -> transaction.getTransactionType() == TransactionType.DEPOSIT
+				&& accountId.equals(transaction.getAccountId()) && BigDecimal.valueOf(1000).equals(transaction.getAmount())), eq(BigDecimal.valueOf(9_999_999))))
+				.thenReturn(Optional.of(Money.of(BigDecimal.valueOf(6000), AccountType.TL)));
 
 		AccountTransactionDto result = accountTransactionService.deposit(accountId, transactionRequestDto);
 
 		assertNotNull(result);
-		assertEquals(BigDecimal.valueOf(6000), account.getBalance());
-		verify(accountRepository, times(1)).save(account);
+		assertEquals(TransactionType.DEPOSIT, result.getTransactionType());
+		verify(accountRepository, never()).findById(any());
+		verify(accountRepository, never()).save(any());
+		verify(eventPublisher).publishEvent(new AccountBalanceChangedEvent(accountId));
+		verify(dailyAccountSummaryWriter).record(accountId, TransactionType.DEPOSIT, BigDecimal.valueOf(1000), result.getTransactionDate());
+		verify(outboxWriter).append(OutboxEventType.TRANSACTION_CREATED, accountId, result);
+		verifyNoInteractions(accountTransactionRepository);
 	}
 
 	@Test
 	void deposit_ShouldThrowException_WhenBalanceExceedsMaxLimit() {
-		account.setBalance(BigDecimal.valueOf(9_999_000));
-
-		when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+		when(accountRepository.applyTransaction(any(), any())).thenReturn(Optional.empty());
+		when(accountRepository.existsById(accountId)).thenReturn(true);
 
 		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
 			accountTransactionService.deposit(accountId, transactionRequestDto);
 		});
 
 		assertEquals("Hesap bakiyesi 9.999.999'dan fazla olamaz.", exception.getMessage());
+		verify(accountTransactionRepository, never()).save(any());
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	void deposit_ShouldReturnFirstResult_WhenIdempotencyKeyWasCompleted() {
+		AccountTransactionDto first = new AccountTransactionDto();
+		first.setId(UUID.randomUUID());
+		transactionRequestDto.setIdempotencyKey("key-1");
+		when(idempotencyStore.find("key-1", accountId, TransactionType.DEPOSIT, BigDecimal.valueOf(1000))).thenReturn(Optional.of(first));
+
+		AccountTransactionDto result = accountTransactionService.deposit(accountId, transactionRequestDto);
+
+		assertSame(first, result);
+		verifyNoInteractions(accountRepository, accountTransactionRepository, eventPublisher);
+		verify(idempotencyStore, never()).claim(any(), any(), any(), any());
+	}
+
+	@Test
+	void deposit_ShouldClaimAndCompleteIdempotencyKey_WhenKeyIsNew() {
+		IdempotencyKey claimed = new IdempotencyKey();
+		transactionRequestDto.setIdempotencyKey("key-2");
+		when(idempotencyStore.find(any(), any(), any(), any())).thenReturn(Optional.empty());
+		when(idempotencyStore.claim("key-2", accountId, TransactionType.DEPOSIT, BigDecimal.valueOf(1000))).thenReturn(claimed);
+		when(accountRepository.applyTransaction(argThat(transaction -> transaction.getTransactionType() == TransactionType.DEPOSIT
+				&& accountId.equals(transaction.getAccountId()) && BigDecimal.valueOf(1000).equals(transaction.getAmount())), eq(BigDecimal.valueOf(9_999_999))))
+				.thenReturn(Optional.of(Money.of(BigDecimal.valueOf(6000), AccountType.TL)));
+
+		AccountTransactionDto result = accountTransactionService.deposit(accountId, transactionRequestDto);
+
+		InOrder inOrder = inOrder(idempotencyStore, accountRepository);
+		inOrder.verify(idempotencyStore).claim("key-2", accountId, TransactionType.DEPOSIT, BigDecimal.valueOf(1000));
+		inOrder.verify(accountRepository).applyTransaction(any(), any());
+		verify(idempotencyStore).complete(claimed, result);
 	}
 
 	@Test
 	void withdraw_ShouldDecreaseBalance_WhenValidDataProvided() {
-		when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
-		when(accountTransactionRepository.save(any())).thenReturn(new AccountTransaction());
+		when(accountRepository.applyTransaction(argThat(transaction -> transaction.getTransactionType() == TransactionType.WITHDRAW
+				&& accountId.equals(transaction.getAccountId()) && BigDecimal.valueOf(1000).equals(transaction.getAmount())), eq(BigDecimal.valueOf(9_999_999))))
+				.thenReturn(Optional.of(Money.of(BigDecimal.valueOf(4000), AccountType.TL)));
 
 		AccountTransactionDto result = accountTransactionService.withdraw(accountId, transactionRequestDto);
 
 		assertNotNull(result);
-		assertEquals(BigDecimal.valueOf(4000), account.getBalance());
-		verify(accountRepository, times(1)).save(account);
+		assertEquals(TransactionType.WITHDRAW, result.getTransactionType());
+		verify(accountRepository, never()).findById(any());
+		verify(accountRepository, never()).save(any());
 	}
 
 	@Test
 	void withdraw_ShouldThrowException_WhenInsufficientBalance() {
-		account.setBalance(BigDecimal.valueOf(500));
-
-		when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+		when(accountRepository.applyTransaction(any(), any())).thenReturn(Optional.empty());
+		when(accountRepository.existsById(accountId)).thenReturn(true);
 
 		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
 			accountTransactionService.withdraw(accountId, transactionRequestDto);
 		});
 
 		assertEquals("Yetersiz bakiye", exception.getMessage());
+		verify(accountTransactionRepository, never()).save(any());
+		assertEquals(1.0, meterRegistry.get("banking.operation.rejections")
+				.tag("operation", "transaction.withdraw")
+				.tag("reason", "insufficient_funds")
+				.counter()
+				.count());
 	}
 
 	@Test
 	void getTransactionsByAccountId_ShouldReturnTransactionList() {
-		AccountTransaction transaction = new AccountTransaction();
+		AccountTransactionDto transaction = new AccountTransactionDto();
+		transaction.setAccountId(accountId);
 		transaction.setAmount(BigDecimal.valueOf(1000));
 
 		when(accountTransactionRepository.findByAccountId(accountId)).thenReturn(List.of(transaction));
@@ -149,35 +235,47 @@ class AccountTransactionServiceTest {
 
 	@Test
 	void deposit_ShouldThrowException_WhenAccountNotFound() {
-		when(accountRepository.findById(accountId)).thenReturn(Optional.empty());
+		when(accountRepository.applyTransaction(any(), any())).thenReturn(Optional.empty());
+		when(accountRepository.existsById(accountId)).thenReturn(false);
 
 		EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
 			accountTransactionService.deposit(accountId, transactionRequestDto);
 		});
 
 		assertEquals("İşlem yapılacak hesap bulunamadı.", exception.getMessage());
+		assertEquals(1.0, meterRegistry.get("banking.operation.rejections")
+				.tag("operation", "transaction.deposit")
+				.tag("reason", "not_found")
+				.counter()
+				.count());
 	}
 
 	@Test
 	void withdraw_ShouldThrowException_WhenAccountNotFound() {
-		when(accountRepository.findById(accountId)).thenReturn(Optional.empty());
+		when(accountRepository.applyTransaction(any(), any())).thenReturn(Optional.empty());
+		when(accountRepository.existsById(accountId)).thenReturn(false);
 
 		EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
 			accountTransactionService.withdraw(accountId, transactionRequestDto);
 		});
 
 		assertEquals("İşlem yapılacak hesap bulunamadı.", exception.getMessage());
+		assertEquals(1.0, meterRegistry.get("banking.operation.rejections")
+				.tag("operation", "transaction.withdraw")
+				.tag("reason", "not_found")
+				.counter()
+				.count());
 	}
 
 	@Test
 	void searchTransactions_ShouldReturnTransactionList_WhenValidDataProvided() {
-		AccountTransaction transaction = new AccountTransaction();
+		AccountTransactionDto transaction = new AccountTransactionDto();
 		transaction.setAmount(BigDecimal.valueOf(500));
 		transaction.setTransactionType(TransactionType.DEPOSIT);
 
-		Page<AccountTransaction> page = new PageImpl<>(List.of(transaction), PageRequest.of(0, 10), 1);
+		Page<AccountTransactionDto> page = new PageImpl<>(List.of(transaction), PageRequest.of(0, 10), 1);
 
-		when(accountTransactionRepository.findAll(any(BooleanBuilder.class), any(Pageable.class))).thenReturn(page);
+		when(accountTransactionRepository.findPage(any(BooleanBuilder.class), any(Pageable.class))).thenReturn(page);
 
 		Page<AccountTransactionDto> result = accountTransactionService.searchTransactions(searchRequest);
 
@@ -187,21 +285,22 @@ class AccountTransactionServiceTest {
 		assertEquals(transaction.getTransactionType(), result.getContent().getFirst().getTransactionType());
 		assertEquals(transaction.getAmount(), result.getContent().getFirst().getAmount());
 
-		verify(accountTransactionRepository, times(1)).findAll(any(BooleanBuilder.class), any(Pageable.class));
+		verify(accountTransactionRepository, times(1)).findPage(any(BooleanBuilder.class), any(Pageable.class));
+		verify(accountTransactionRepository, never()).findAll(any(BooleanBuilder.class), any(Pageable.class));
 	}
 
 	@Test
 	void searchTransactions_ShouldReturnEmptyList_WhenNoTransactionsFound() {
-		Page<AccountTransaction> emptyPage = Page.empty();
+		Page<AccountTransactionDto> emptyPage = Page.empty();
 
-		when(accountTransactionRepository.findAll(any(BooleanBuilder.class), any(Pageable.class))).thenReturn(emptyPage);
+		when(accountTransactionRepository.findPage(any(BooleanBuilder.class), any(Pageable.class))).thenReturn(emptyPage);
 
 		Page<AccountTransactionDto> result = accountTransactionService.searchTransactions(searchRequest);
 
 		assertNotNull(result);
 		assertTrue(result.isEmpty());
 
-		verify(accountTransactionRepository, times(1)).findAll(any(BooleanBuilder.class), any(Pageable.class));
+		verify(accountTransactionRepository, times(1)).findPage(any(BooleanBuilder.class), any(Pageable.class));
 	}
 
 	@Test
@@ -227,4 +326,178 @@ class AccountTransactionServiceTest {
 
 		assertEquals("Minumum işlem tutarı bilgisi maksimum işlem tutarı bilgisinden küçük ya da eşit olmalıdır.", exception.getMessage());
 	}
-}
\ No newline at end of file
+
+	@Test
+	void processBatch_ShouldApplyItemsInOrderAndRejectInvalidOnes() {
+		UUID missingAccountId = UUID.randomUUID();
+		when(accountRepository.findAllByIdForUpdate(any())).thenReturn(List.of(account));
+
+		BatchTransactionRequestDto request = new BatchTransactionRequestDto();
+		request.setItems(List.of(batchItem(accountId, TransactionType.WITHDRAW, 4000), batchItem(accountId, TransactionType.WITHDRAW, 2000),
+								 batchItem(accountId, TransactionType.DEPOSIT, 500), batchItem(missingAccountId, TransactionType.DEPOSIT, 100)));
+
+		List<BatchTransactionResultDto> results = accountTransactionService.processBatch(request);
+
+		assertEquals(4, results.size());
+		assertTrue(results.get(0).isSuccessful());
+		assertFalse(results.get(1).isSuccessful());
+		assertEquals("Yetersiz bakiye", results.get(1).getMessage());
+		assertTrue(results.get(2).isSuccessful());
+		assertEquals(TransactionType.DEPOSIT, results.get(2).getTransaction().getTransactionType());
+		assertFalse(results.get(3).isSuccessful());
+		assertEquals(missingAccountId, results.get(3).getAccountId());
+		assertEquals(new BigDecimal("1500.00"), account.getBalance());
+		verify(accountTransactionRepository, times(1)).saveAll(argThat(transactions -> ((List<?>) transactions).size() == 2));
+		verify(outboxWriter).appendTransactions(List.of(results.get(0).getTransaction(), results.get(2).getTransaction()));
+	}
+
+	@Test
+	void processBatch_ShouldRejectOnlyTheItem_WhenAmountHasMoreThanTwoDecimals() {
+		when(accountRepository.findAllByIdForUpdate(any())).thenReturn(List.of(account));
+		BatchTransactionItemDto fractional = batchItem(accountId, TransactionType.DEPOSIT, 0);
+		fractional.setAmount(new BigDecimal("1.005"));
+
+		BatchTransactionRequestDto request = new BatchTransactionRequestDto();
+		request.setItems(List.of(batchItem(accountId, TransactionType.DEPOSIT, 100), fractional, batchItem(accountId, TransactionType.WITHDRAW, 50)));
+
+		List<BatchTransactionResultDto> results = accountTransactionService.processBatch(request);
+
+		assertTrue(results.get(0).isSuccessful());
+		assertFalse(results.get(1).isSuccessful());
+		assertTrue(results.get(2).isSuccessful());
+		assertEquals(new BigDecimal("5050.00"), account.getBalance());
+		assertEquals(1.0, meterRegistry.get("banking.operation.rejections")
+				.tag("operation", "transaction.batch")
+				.tag("reason", "invalid_amount")
+				.counter()
+				.count());
+	}
+
+	@Test
+	void transfer_ShouldMoveBalanceAndRecordBothTransactions() {
+		Account target = targetAccount(AccountType.TL, BigDecimal.valueOf(100));
+		when(accountRepository.findAllByIdForUpdate(List.of(accountId, target.getId()))).thenReturn(List.of(account, target));
+
+		TransferResultDto result = accountTransactionService.transfer(transferRequest(target.getId(), 1200));
+
+		assertEquals(new BigDecimal("3800.00"), account.getBalance());
+		assertEquals(new BigDecimal("1300.00"), target.getBalance());
+		assertEquals(TransactionType.WITHDRAW, result.getWithdrawal().getTransactionType());
+		assertEquals(TransactionType.DEPOSIT, result.getDeposit().getTransactionType());
+		verify(accountTransactionRepository).saveAll(argThat(transactions -> ((List<?>) transactions).size() == 2));
+		verify(eventPublisher).publishEvent(new AccountBalanceChangedEvent(accountId));
+		verify(eventPublisher).publishEvent(new AccountBalanceChangedEvent(target.getId()));
+		verify(dailyAccountSummaryWriter).apply(any());
+		verify(outboxWriter).appendTransactions(List.of(result.getWithdrawal(), result.getDeposit()));
+	}
+
+	@Test
+	void transfer_ShouldThrowException_WhenCurrenciesDiffer() {
+		Account target = targetAccount(AccountType.USD, BigDecimal.valueOf(100));
+		when(accountRepository.findAllByIdForUpdate(any())).thenReturn(List.of(account, target));
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+														  () -> accountTransactionService.transfer(transferRequest(target.getId(), 100)));
+
+		assertEquals("Farklı para birimindeki hesaplar arasında transfer yapılamaz.", exception.getMessage());
+		assertEquals(BigDecimal.valueOf(5000), account.getBalance());
+		verifyNoInteractions(accountTransactionRepository, eventPublisher);
+		assertEquals(1.0, meterRegistry.get("banking.operation.rejections")
+				.tag("operation", "transaction.transfer")
+				.tag("reason", "currency_mismatch")
+				.counter()
+				.count());
+	}
+
+	@Test
+	void transfer_ShouldThrowException_WhenBalanceIsInsufficient() {
+		Account target = targetAccount(AccountType.TL, BigDecimal.valueOf(100));
+		when(accountRepository.findAllByIdForUpdate(any())).thenReturn(List.of(account, target));
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+														  () -> accountTransactionService.transfer(transferRequest(target.getId(), 5001)));
+
+		assertEquals("Yetersiz bakiye", exception.getMessage());
+		assertEquals(BigDecimal.valueOf(100), target.getBalance());
+		verifyNoInteractions(accountTransactionRepository);
+	}
+
+	@Test
+	void transfer_ShouldThrowException_WhenAccountNotFound() {
+		when(accountRepository.findAllByIdForUpdate(any())).thenReturn(List.of(account));
+
+		assertThrows(EntityNotFoundException.class, () -> accountTransactionService.transfer(transferRequest(UUID.randomUUID(), 100)));
+		verifyNoInteractions(accountTransactionRepository);
+	}
+
+	@Test
+	void transfer_ShouldThrowException_WhenAccountsAreSame() {
+		assertThrows(IllegalArgumentException.class, () -> accountTransactionService.transfer(transferRequest(accountId, 100)));
+		verifyNoInteractions(accountRepository);
+	}
+
+	@Test
+	void searchTransactionSlice_ShouldNotRunCountQuery() {
+		AccountTransactionDto transaction = new AccountTransactionDto();
+		transaction.setAmount(BigDecimal.valueOf(500));
+
+		when(accountTransactionRepository.findSlice(any(BooleanBuilder.class), any(Pageable.class)))
+				.thenReturn(new SliceImpl<>(List.of(transaction), PageRequest.of(0, 10), true));
+
+		Slice<AccountTransactionDto> result = accountTransactionService.searchTransactionSlice(searchRequest);
+
+		assertEquals(1, result.getNumberOfElements());
+		assertTrue(result.hasNext());
+		verify(accountTransactionRepository, never()).findPage(any(BooleanBuilder.class), any(Pageable.class));
+	}
+
+	@Test
+	void getTransactionsByAccountId_ShouldReturnNextCursor_WhenMoreRowsExist() {
+		AccountTransactionDto first = new AccountTransactionDto();
+		first.setId(UUID.randomUUID());
+		first.setTransactionDate(LocalDateTime.now());
+		AccountTransactionDto second = new AccountTransactionDto();
+		second.setId(UUID.randomUUID());
+		second.setTransactionDate(LocalDateTime.now().minusMinutes(1));
+
+		when(accountTransactionRepository.findLatestFirst(any(), eq(2))).thenReturn(List.of(first, second));
+
+		CursorPageDto<AccountTransactionDto> page = accountTransactionService.getTransactionsByAccountId(accountId, null, 1);
+
+		assertEquals(1, page.getContent().size());
+		assertNotNull(page.getNextCursor());
+		assertEquals(new TransactionCursor(first.getTransactionDate(), first.getId()), TransactionCursor.decode(page.getNextCursor()));
+	}
+
+	@Test
+	void getTransactionsByAccountId_ShouldThrowException_WhenCursorIsInvalid() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+														  () -> accountTransactionService.getTransactionsByAccountId(accountId, "not-a-cursor", 10));
+
+		assertEquals("Geçersiz imleç.", exception.getMessage());
+	}
+
+	private static BatchTransactionItemDto batchItem(UUID accountId, TransactionType transactionType, long amount) {
+		BatchTransactionItemDto item = new BatchTransactionItemDto();
+		item.setAccountId(accountId);
+		item.setTransactionType(transactionType);
+		item.setAmount(BigDecimal.valueOf(amount));
+		return item;
+	}
+
+	private Account targetAccount(AccountType accountType, BigDecimal balance) {
+		Account target = new Account();
+		target.setId(UUID.randomUUID());
+		target.setAccountType(accountType);
+		target.setBalance(balance);
+		return target;
+	}
+
+	private TransferRequestDto transferRequest(UUID toAccountId, long amount) {
+		TransferRequestDto request = new TransferRequestDto();
+		request.setFromAccountId(accountId);
+		request.setToAccountId(toAccountId);
+		request.setAmount(BigDecimal.valueOf(amount));
+		return request;
+	}
+}
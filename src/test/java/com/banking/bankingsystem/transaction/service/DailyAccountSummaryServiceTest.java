@@ -0,0 +1,125 @@
+package com.banking.bankingsystem.transaction.service;
+
+import com.banking.bankingsystem.account.repository.AccountRepository;
+import com.banking.bankingsystem.common.metrics.OperationMetrics;
+import com.banking.bankingsystem.transaction.data.DailyAccountSummary;
+import com.banking.bankingsystem.transaction.dto.BalanceAsOfDto;
+import com.banking.bankingsystem.transaction.dto.DailyAccountSummaryDto;
+import com.banking.bankingsystem.transaction.repository.DailyAccountSummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Enes Kumaş
+ */
+
+@ExtendWith(MockitoExtension.class)
+class DailyAccountSummaryServiceTest {
+
+	@Mock
+	private DailyAccountSummaryRepository dailyAccountSummaryRepository;
+
+	@Mock
+	private AccountRepository accountRepository;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Spy
+	private OperationMetrics operationMetrics = new OperationMetrics(meterRegistry);
+
+	@InjectMocks
+	private DailyAccountSummaryService dailyAccountSummaryService;
+
+	private final UUID accountId = UUID.randomUUID();
+
+	@Test
+	void getBalanceAsOf_ShouldReturnBalanceFromSummaries() {
+		LocalDate date = LocalDate.of(2026, 10, 1);
+		when(dailyAccountSummaryRepository.findBalanceAsOf(accountId, date)).thenReturn(Optional.of(BigDecimal.valueOf(1250)));
+
+		BalanceAsOfDto result = dailyAccountSummaryService.getBalanceAsOf(accountId, date);
+
+		assertEquals(accountId, result.getAccountId());
+		assertEquals(date, result.getDate());
+		assertEquals(BigDecimal.valueOf(1250), result.getBalance());
+	}
+
+	@Test
+	void getBalanceAsOf_ShouldThrowException_WhenAccountNotFound() {
+		when(dailyAccountSummaryRepository.findBalanceAsOf(any(), any())).thenReturn(Optional.empty());
+
+		assertThrows(EntityNotFoundException.class, () -> dailyAccountSummaryService.getBalanceAsOf(accountId, LocalDate.now()));
+		assertEquals(1.0, meterRegistry.get("banking.operation.rejections")
+				.tag("operation", "transaction.balance_as_of")
+				.tag("reason", "not_found")
+				.counter()
+				.count());
+	}
+
+	@Test
+	void getDailySummaries_ShouldMapSummaries() {
+		LocalDate fromDate = LocalDate.of(2026, 10, 1);
+		LocalDate toDate = LocalDate.of(2026, 10, 31);
+		DailyAccountSummary summary = new DailyAccountSummary();
+		summary.setAccountId(accountId);
+		summary.setSummaryDate(LocalDate.of(2026, 10, 5));
+		summary.setDepositTotal(BigDecimal.valueOf(300));
+		summary.setDepositCount(2);
+		summary.setWithdrawTotal(BigDecimal.valueOf(50));
+		summary.setWithdrawCount(1);
+		when(accountRepository.existsById(accountId)).thenReturn(true);
+		when(dailyAccountSummaryRepository.findByAccountIdAndSummaryDateBetweenOrderBySummaryDate(accountId, fromDate, toDate))
+				.thenReturn(List.of(summary));
+
+		List<DailyAccountSummaryDto> result = dailyAccountSummaryService.getDailySummaries(accountId, fromDate, toDate);
+
+		assertEquals(1, result.size());
+		assertEquals(LocalDate.of(2026, 10, 5), result.getFirst().getSummaryDate());
+		assertEquals(BigDecimal.valueOf(300), result.getFirst().getDepositTotal());
+		assertEquals(2, result.getFirst().getDepositCount());
+		assertEquals(BigDecimal.valueOf(50), result.getFirst().getWithdrawTotal());
+		assertEquals(1, result.getFirst().getWithdrawCount());
+	}
+
+	@Test
+	void getDailySummaries_ShouldThrowException_WhenRangeIsTooLong() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> dailyAccountSummaryService
+				.getDailySummaries(accountId, LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 2)));
+
+		assertEquals("Tarih aralığı en fazla 366 gün olabilir.", exception.getMessage());
+		verifyNoInteractions(dailyAccountSummaryRepository);
+	}
+
+	@Test
+	void getDailySummaries_ShouldThrowException_WhenFromDateIsAfterToDate() {
+		assertThrows(IllegalArgumentException.class, () -> dailyAccountSummaryService
+				.getDailySummaries(accountId, LocalDate.of(2026, 10, 2), LocalDate.of(2026, 10, 1)));
+	}
+
+	@Test
+	void getDailySummaries_ShouldThrowException_WhenAccountNotFound() {
+		when(accountRepository.existsById(accountId)).thenReturn(false);
+
+		assertThrows(EntityNotFoundException.class, () -> dailyAccountSummaryService
+				.getDailySummaries(accountId, LocalDate.of(2026, 10, 1), LocalDate.of(2026, 10, 2)));
+		verifyNoInteractions(dailyAccountSummaryRepository);
+	}
+}